@@ -0,0 +1,162 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.benchmarks;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.EMAIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.RSIIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.joda.time.DateTime;
+
+/**
+ * This class is a benchmark comparing the BigDecimal-backed and the primitive (double-backed) decimals.
+ * <p>
+ * It computes SMA, EMA and RSI chains over a large random series, in both flavours, and prints the throughput.
+ */
+public class DecimalFlavoursBenchmark {
+
+    /** Number of ticks of the benchmarked series */
+    private static final int TICK_COUNT = 200000;
+
+    /** Number of warm-up rounds (not measured) */
+    private static final int WARMUP_ROUNDS = 2;
+
+    /** Number of measured rounds */
+    private static final int MEASURED_ROUNDS = 5;
+
+    /**
+     * An indicator chain to be benchmarked.
+     */
+    private static abstract class IndicatorChain {
+
+        private final String name;
+
+        IndicatorChain(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @param series a time series
+         * @return the top indicator of the chain
+         */
+        abstract Indicator<Decimal> build(TimeSeries series);
+    }
+
+    private static final IndicatorChain[] CHAINS = {
+        new IndicatorChain("SMA(50) of SMA(20)") {
+            @Override
+            Indicator<Decimal> build(TimeSeries series) {
+                return new SMAIndicator(new SMAIndicator(new ClosePriceIndicator(series), 20), 50);
+            }
+        },
+        new IndicatorChain("EMA(26) of EMA(12)") {
+            @Override
+            Indicator<Decimal> build(TimeSeries series) {
+                return new EMAIndicator(new EMAIndicator(new ClosePriceIndicator(series), 12), 26);
+            }
+        },
+        new IndicatorChain("RSI(14)") {
+            @Override
+            Indicator<Decimal> build(TimeSeries series) {
+                return new RSIIndicator(new ClosePriceIndicator(series), 14);
+            }
+        }
+    };
+
+    /**
+     * Builds a random walk series.
+     * @param tickCount the number of ticks
+     * @param primitive true if the series should use primitive decimals, false otherwise
+     * @return a random time series
+     */
+    private static TimeSeries buildRandomSeries(int tickCount, boolean primitive) {
+        Random random = new Random(42);
+        List<Tick> ticks = new ArrayList<Tick>(tickCount);
+        DateTime endTime = new DateTime(2000, 1, 1, 0, 0);
+        double close = 100;
+        for (int i = 0; i < tickCount; i++) {
+            double open = close;
+            close = Math.max(1, open + random.nextGaussian());
+            double high = Math.max(open, close) + random.nextDouble();
+            double low = Math.min(open, close) - random.nextDouble();
+            endTime = endTime.plusMinutes(1);
+            ticks.add(new Tick(endTime, open, high, low, close, random.nextInt(1000)));
+        }
+        TimeSeries series = new TimeSeries("random_walk", ticks);
+        if (primitive) {
+            series.usePrimitiveDecimals();
+        }
+        return series;
+    }
+
+    /**
+     * Computes all the values of an indicator chain.
+     * @param chain the indicator chain
+     * @param series the time series
+     * @return the elapsed time in nanoseconds
+     */
+    private static long measure(IndicatorChain chain, TimeSeries series) {
+        long start = System.nanoTime();
+        Indicator<Decimal> indicator = chain.build(series);
+        for (int i = series.getBegin(); i <= series.getEnd(); i++) {
+            indicator.getValue(i);
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * @param chain the indicator chain
+     * @param series the time series
+     * @return the throughput (in ticks per second) of the chain over the series
+     */
+    private static double benchmark(IndicatorChain chain, TimeSeries series) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            measure(chain, series);
+        }
+        long elapsed = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            elapsed += measure(chain, series);
+        }
+        return (double) series.getTickCount() * MEASURED_ROUNDS * 1e9 / elapsed;
+    }
+
+    public static void main(String[] args) {
+        TimeSeries bigDecimalSeries = buildRandomSeries(TICK_COUNT, false);
+        TimeSeries primitiveSeries = buildRandomSeries(TICK_COUNT, true);
+
+        System.out.println("Benchmark over " + TICK_COUNT + " ticks (throughput in ticks/s)");
+        for (IndicatorChain chain : CHAINS) {
+            double bigDecimalThroughput = benchmark(chain, bigDecimalSeries);
+            double primitiveThroughput = benchmark(chain, primitiveSeries);
+            System.out.println(String.format("%-20s BigDecimal: %,12.0f   primitive: %,12.0f   (x%.1f)",
+                    chain.name, bigDecimalThroughput, primitiveThroughput, primitiveThroughput / bigDecimalThroughput));
+        }
+    }
+}
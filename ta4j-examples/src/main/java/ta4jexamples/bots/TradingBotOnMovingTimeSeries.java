@@ -28,6 +28,7 @@ import eu.verdelhan.ta4j.Strategy;
 import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.TradingRecord;
+import eu.verdelhan.ta4j.indicators.IndicatorPipeline;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
 import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
 import eu.verdelhan.ta4j.trading.rules.OverIndicatorRule;
@@ -117,6 +118,9 @@ public class TradingBotOnMovingTimeSeries {
 
         // Building the trading strategy
         Strategy strategy = buildStrategy(series);
+
+        // The indicators of the strategy are updated on each new tick
+        new IndicatorPipeline(series).add(strategy);
         
         // Initializing the trading history
         TradingRecord tradingRecord = new TradingRecord();
@@ -23,6 +23,8 @@
 package ta4jexamples.strategies;
 
 import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.IndicatorRegistry;
+import eu.verdelhan.ta4j.IndicatorRegistry.Key;
 import eu.verdelhan.ta4j.Rule;
 import eu.verdelhan.ta4j.Strategy;
 import eu.verdelhan.ta4j.TimeSeries;
@@ -40,6 +42,20 @@ import ta4jexamples.loaders.CsvTradesLoader;
  */
 public class CCICorrectionStrategy {
 
+    /**
+     * @param series a time series
+     * @param timeFrame the time frame
+     * @return the registry key of the CCI
+     */
+    private static Key<CCIIndicator> cci(TimeSeries series, final int timeFrame) {
+        return new Key<CCIIndicator>(CCIIndicator.class, series, timeFrame) {
+            @Override
+            protected CCIIndicator create(TimeSeries series) {
+                return new CCIIndicator(series, timeFrame);
+            }
+        };
+    }
+
     /**
      * @param series a time series
      * @return a CCI correction strategy
@@ -49,8 +65,9 @@ public class CCICorrectionStrategy {
             throw new IllegalArgumentException("Series cannot be null");
         }
 
-        CCIIndicator longCci = new CCIIndicator(series, 200);
-        CCIIndicator shortCci = new CCIIndicator(series, 5);
+        IndicatorRegistry indicators = series.getIndicatorRegistry();
+        CCIIndicator longCci = indicators.get(cci(series, 200));
+        CCIIndicator shortCci = indicators.get(cci(series, 5));
         Decimal plus100 = Decimal.HUNDRED;
         Decimal minus100 = Decimal.valueOf(-100);
         
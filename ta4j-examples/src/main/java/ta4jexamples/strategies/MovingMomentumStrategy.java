@@ -23,6 +23,9 @@
 package ta4jexamples.strategies;
 
 import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.IndicatorRegistry;
+import eu.verdelhan.ta4j.IndicatorRegistry.Key;
 import eu.verdelhan.ta4j.Rule;
 import eu.verdelhan.ta4j.Strategy;
 import eu.verdelhan.ta4j.TimeSeries;
@@ -45,6 +48,61 @@ import ta4jexamples.loaders.CsvTradesLoader;
  */
 public class MovingMomentumStrategy {
 
+    /**
+     * @param series a time series
+     * @return the registry key of the close price indicator
+     */
+    private static Key<ClosePriceIndicator> closePrice(TimeSeries series) {
+        return new Key<ClosePriceIndicator>(ClosePriceIndicator.class, series) {
+            @Override
+            protected ClosePriceIndicator create(TimeSeries series) {
+                return new ClosePriceIndicator(series);
+            }
+        };
+    }
+
+    /**
+     * @param indicator an indicator
+     * @param timeFrame the time frame
+     * @return the registry key of the EMA of the indicator
+     */
+    private static Key<EMAIndicator> ema(final Indicator<Decimal> indicator, final int timeFrame) {
+        return new Key<EMAIndicator>(EMAIndicator.class, indicator, timeFrame) {
+            @Override
+            protected EMAIndicator create(TimeSeries series) {
+                return new EMAIndicator(indicator, timeFrame);
+            }
+        };
+    }
+
+    /**
+     * @param series a time series
+     * @param timeFrame the time frame
+     * @return the registry key of the stochastic oscillator K
+     */
+    private static Key<StochasticOscillatorKIndicator> stochasticOscillatorK(TimeSeries series, final int timeFrame) {
+        return new Key<StochasticOscillatorKIndicator>(StochasticOscillatorKIndicator.class, series, timeFrame) {
+            @Override
+            protected StochasticOscillatorKIndicator create(TimeSeries series) {
+                return new StochasticOscillatorKIndicator(series, timeFrame);
+            }
+        };
+    }
+
+    /**
+     * @param shortTermEma the short term EMA
+     * @param longTermEma the long term EMA
+     * @return the registry key of the MACD of the EMAs
+     */
+    private static Key<MACDIndicator> macd(final EMAIndicator shortTermEma, final EMAIndicator longTermEma) {
+        return new Key<MACDIndicator>(MACDIndicator.class, shortTermEma, longTermEma) {
+            @Override
+            protected MACDIndicator create(TimeSeries series) {
+                return new MACDIndicator(shortTermEma, longTermEma);
+            }
+        };
+    }
+
     /**
      * @param series a time series
      * @return a moving momentum strategy
@@ -54,17 +112,19 @@ public class MovingMomentumStrategy {
             throw new IllegalArgumentException("Series cannot be null");
         }
 
-        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        // Indicators are taken from the series registry: strategies built on the same series share them
+        IndicatorRegistry indicators = series.getIndicatorRegistry();
+        ClosePriceIndicator closePrice = indicators.get(closePrice(series));
         
         // The bias is bullish when the shorter-moving average moves above the longer moving average.
         // The bias is bearish when the shorter-moving average moves below the longer moving average.
-        EMAIndicator shortEma = new EMAIndicator(closePrice, 9);
-        EMAIndicator longEma = new EMAIndicator(closePrice, 26);
+        EMAIndicator shortEma = indicators.get(ema(closePrice, 9));
+        EMAIndicator longEma = indicators.get(ema(closePrice, 26));
 
-        StochasticOscillatorKIndicator stochasticOscillK = new StochasticOscillatorKIndicator(series, 14);
+        StochasticOscillatorKIndicator stochasticOscillK = indicators.get(stochasticOscillatorK(series, 14));
 
-        MACDIndicator macd = new MACDIndicator(closePrice, 9, 26);
-        EMAIndicator emaMacd = new EMAIndicator(macd, 18);
+        MACDIndicator macd = indicators.get(macd(shortEma, longEma));
+        EMAIndicator emaMacd = indicators.get(ema(macd, 18));
         
         // Entry rule
         Rule entryRule = new OverIndicatorRule(shortEma, longEma) // Trend
@@ -0,0 +1,148 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * List of {@link Tick ticks} stored in a circular buffer.
+ * <p>
+ * Used by moving {@link TimeSeries time series}: appending a tick and removing the first (i.e. oldest) one are O(1).
+ * The capacity of the buffer grows (by powers of two) until it fits the maximum tick count of the series.
+ */
+final class CircularTickList extends AbstractList<Tick> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 8213946735197470392L;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Circular buffer of ticks (its length is a power of two) */
+    private Tick[] elements;
+    /** Index of the first tick in the buffer */
+    private int head = 0;
+    /** Number of ticks in the buffer */
+    private int size = 0;
+
+    /**
+     * Constructor of an empty list.
+     */
+    CircularTickList() {
+        elements = new Tick[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Constructor.
+     * @param ticks the ticks to be copied into the list
+     */
+    CircularTickList(Collection<Tick> ticks) {
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < ticks.size()) {
+            capacity <<= 1;
+        }
+        elements = ticks.toArray(new Tick[capacity]);
+        size = ticks.size();
+    }
+
+    @Override
+    public Tick get(int index) {
+        checkIndex(index);
+        return elements[(head + index) & (elements.length - 1)];
+    }
+
+    @Override
+    public Tick set(int index, Tick tick) {
+        checkIndex(index);
+        int position = (head + index) & (elements.length - 1);
+        Tick previousTick = elements[position];
+        elements[position] = tick;
+        return previousTick;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(Tick tick) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & (elements.length - 1)] = tick;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes a tick from the list.
+     * <p>
+     * Only the first tick can be removed (in O(1)).
+     * @param index the index of the tick to be removed (must be 0)
+     * @return the removed tick
+     */
+    @Override
+    public Tick remove(int index) {
+        if (index != 0) {
+            throw new UnsupportedOperationException("Only the first tick can be removed");
+        }
+        checkIndex(index);
+        Tick removedTick = elements[head];
+        elements[head] = null;
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        modCount++;
+        return removedTick;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            elements[(head + i) & (elements.length - 1)] = null;
+        }
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Doubles the capacity of the buffer.
+     */
+    private void grow() {
+        Tick[] newElements = new Tick[elements.length << 1];
+        int firstPartLength = elements.length - head;
+        System.arraycopy(elements, head, newElements, 0, firstPartLength);
+        System.arraycopy(elements, 0, newElements, firstPartLength, head);
+        elements = newElements;
+        head = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+}
@@ -0,0 +1,471 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Period;
+
+/**
+ * Columnar {@link TimeSeries time series}.
+ * <p>
+ * The ticks of the series are not stored as {@link Tick} objects but in primitive arrays (one per field): end times
+ * as epoch milliseconds, prices, amounts and volumes as doubles. It costs about 60 bytes per tick and avoids pointer
+ * chasing on long histories.<br>
+ * {@link #getTick(int)} returns lightweight views reading (and writing) the columns directly. The price and volume
+ * accessors (e.g. {@link #getClosePrice(int)}, used by the price indicators) read the columns without creating any view.
+ * <p>
+ * All the ticks of a columnar series have the same time period. Since the values are stored as doubles, the ticks of
+ * a columnar series hold {@link Decimal#isPrimitive() primitive decimals}.
+ */
+public class ColumnarTimeSeries extends TimeSeries {
+
+    private static final long serialVersionUID = -3719438453296393578L;
+
+    /** Columns of the series */
+    private final Columns columns;
+
+    /**
+     * Constructor.
+     * @param name the name of the series
+     * @param tickPeriod the time period of the ticks
+     */
+    public ColumnarTimeSeries(String name, Period tickPeriod) {
+        this(name, new Columns(tickPeriod));
+    }
+
+    /**
+     * Constructor.
+     * @param name the name of the series
+     * @param tickPeriod the time period of the ticks
+     * @param ticks the ticks to be copied into the series
+     */
+    public ColumnarTimeSeries(String name, Period tickPeriod, List<Tick> ticks) {
+        this(name, tickPeriod);
+        for (Tick tick : ticks) {
+            addTick(tick);
+        }
+    }
+
+    /**
+     * Constructor.
+     * @param name the name of the series
+     * @param columns the (empty) columns of the series
+     */
+    private ColumnarTimeSeries(String name, Columns columns) {
+        super(name, columns, -1, -1, false);
+        if (columns.tickPeriod == null) {
+            throw new IllegalArgumentException("Tick period cannot be null");
+        }
+        this.columns = columns;
+    }
+
+    /**
+     * @return the time period of the ticks
+     */
+    public Period getTickPeriod() {
+        return columns.tickPeriod;
+    }
+
+    /**
+     * Adds a tick at the end of the series, without creating any {@link Tick} object.
+     * @param endTime the end time of the tick period
+     * @param openPrice the open price of the tick period
+     * @param highPrice the highest price of the tick period
+     * @param lowPrice the lowest price of the tick period
+     * @param closePrice the close price of the tick period
+     * @param volume the volume of the tick period
+     * @see TimeSeries#addTick(Tick)
+     */
+    public void addTick(DateTime endTime, double openPrice, double highPrice, double lowPrice, double closePrice, double volume) {
+        if (endTime == null) {
+            throw new IllegalArgumentException("End time cannot be null");
+        }
+        if (!columns.isEmpty() && endTime.getMillis() <= columns.getLastEndTime()) {
+            throw new IllegalArgumentException("Cannot add a tick with end time <= to series end time");
+        }
+        columns.append(endTime, openPrice, highPrice, lowPrice, closePrice, 0, volume, 0);
+        tickAppended(endTime.getMillis());
+    }
+
+    @Override
+    public Decimal getOpenPrice(int i) {
+        return Columns.price(columns.openPrices[columns.physicalIndexOf(getTickPosition(i))]);
+    }
+
+    @Override
+    public Decimal getMaxPrice(int i) {
+        return Columns.price(columns.maxPrices[columns.physicalIndexOf(getTickPosition(i))]);
+    }
+
+    @Override
+    public Decimal getMinPrice(int i) {
+        return Columns.price(columns.minPrices[columns.physicalIndexOf(getTickPosition(i))]);
+    }
+
+    @Override
+    public Decimal getClosePrice(int i) {
+        return Columns.price(columns.closePrices[columns.physicalIndexOf(getTickPosition(i))]);
+    }
+
+    @Override
+    public Decimal getVolume(int i) {
+        return Decimal.primitiveValueOf(columns.volumes[columns.physicalIndexOf(getTickPosition(i))]);
+    }
+
+    /**
+     * Does nothing: the columns are already circular buffers.
+     */
+    @Override
+    void useCircularTickList() {
+    }
+
+    /**
+     * Does nothing: the ticks of a columnar series always hold primitive decimals.
+     */
+    @Override
+    public void usePrimitiveDecimals() {
+    }
+
+    @Override
+    public boolean isPrimitiveDecimals() {
+        return true;
+    }
+
+    /**
+     * Columnar storage of ticks.
+     * <p>
+     * Elements are views over the columns. Added (or set) ticks are copied into the columns.<br>
+     * The columns are circular buffers: appending a tick and removing the first one are O(1).
+     */
+    private static final class Columns extends AbstractList<Tick> implements RandomAccess, Serializable {
+
+        private static final long serialVersionUID = 5212806213419563722L;
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        /** Time period of the ticks */
+        private final Period tickPeriod;
+        /** Time zone of the end times */
+        private DateTimeZone timeZone;
+        /** Physical index of the first tick in the columns */
+        private int head = 0;
+        /** Number of ticks in the columns */
+        private int size = 0;
+        /** Number of ticks removed from the columns */
+        private int removedCount = 0;
+
+        private long[] endTimes = new long[INITIAL_CAPACITY];
+        private double[] openPrices = new double[INITIAL_CAPACITY];
+        private double[] maxPrices = new double[INITIAL_CAPACITY];
+        private double[] minPrices = new double[INITIAL_CAPACITY];
+        private double[] closePrices = new double[INITIAL_CAPACITY];
+        private double[] amounts = new double[INITIAL_CAPACITY];
+        private double[] volumes = new double[INITIAL_CAPACITY];
+        private int[] trades = new int[INITIAL_CAPACITY];
+
+        Columns(Period tickPeriod) {
+            this.tickPeriod = tickPeriod;
+        }
+
+        @Override
+        public Tick get(int index) {
+            checkIndex(index);
+            return new TickView(this, removedCount + index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean add(Tick tick) {
+            if (!tickPeriod.equals(tick.getTimePeriod())) {
+                throw new IllegalArgumentException("Cannot add a tick with a time period different from the series one");
+            }
+            append(tick.getEndTime(), toDouble(tick.getOpenPrice()), toDouble(tick.getMaxPrice()),
+                    toDouble(tick.getMinPrice()), toDouble(tick.getClosePrice()),
+                    toDouble(tick.getAmount()), toDouble(tick.getVolume()), tick.getTrades());
+            return true;
+        }
+
+        /**
+         * Removes a tick from the columns.
+         * <p>
+         * Only the first tick can be removed (in O(1)).
+         * @param index the index of the tick to be removed (must be 0)
+         * @return a copy of the removed tick
+         */
+        @Override
+        public Tick remove(int index) {
+            if (index != 0) {
+                throw new UnsupportedOperationException("Only the first tick can be removed");
+            }
+            checkIndex(index);
+            Tick removedTick = copy(head);
+            head = (head + 1) & (endTimes.length - 1);
+            size--;
+            removedCount++;
+            modCount++;
+            return removedTick;
+        }
+
+        /**
+         * Replaces a tick of the columns.
+         * @param index the index of the tick to be replaced
+         * @param tick the new tick
+         * @return a copy of the replaced tick
+         */
+        @Override
+        public Tick set(int index, Tick tick) {
+            checkIndex(index);
+            if (!tickPeriod.equals(tick.getTimePeriod())) {
+                throw new IllegalArgumentException("Cannot set a tick with a time period different from the series one");
+            }
+            final int i = physicalIndex(removedCount + index);
+            Tick replacedTick = copy(i);
+            endTimes[i] = tick.getEndTime().getMillis();
+            openPrices[i] = toDouble(tick.getOpenPrice());
+            maxPrices[i] = toDouble(tick.getMaxPrice());
+            minPrices[i] = toDouble(tick.getMinPrice());
+            closePrices[i] = toDouble(tick.getClosePrice());
+            amounts[i] = toDouble(tick.getAmount());
+            volumes[i] = toDouble(tick.getVolume());
+            trades[i] = tick.getTrades();
+            return replacedTick;
+        }
+
+        /**
+         * @param i the physical index of a tick in the columns
+         * @return a copy of the tick
+         */
+        private Tick copy(int i) {
+            return new Tick(tickPeriod, new DateTime(endTimes[i], timeZone),
+                    price(openPrices[i]), price(maxPrices[i]), price(minPrices[i]), price(closePrices[i]),
+                    Decimal.primitiveValueOf(amounts[i]), Decimal.primitiveValueOf(volumes[i]), trades[i]);
+        }
+
+        /**
+         * Appends a tick to the columns.
+         */
+        void append(DateTime endTime, double openPrice, double maxPrice, double minPrice, double closePrice,
+                double amount, double volume, int tradeCount) {
+            if (size == endTimes.length) {
+                grow();
+            }
+            if (timeZone == null) {
+                timeZone = endTime.getZone();
+            }
+            final int i = (head + size) & (endTimes.length - 1);
+            endTimes[i] = endTime.getMillis();
+            openPrices[i] = openPrice;
+            maxPrices[i] = maxPrice;
+            minPrices[i] = minPrice;
+            closePrices[i] = closePrice;
+            amounts[i] = amount;
+            volumes[i] = volume;
+            trades[i] = tradeCount;
+            size++;
+            modCount++;
+        }
+
+        /**
+         * @return the end time (epoch milliseconds) of the last tick
+         */
+        long getLastEndTime() {
+            return endTimes[physicalIndex(size - 1)];
+        }
+
+        /**
+         * @param position the position of a tick (including the removed ticks)
+         * @return the physical index of the tick in the columns
+         */
+        int physicalIndex(int position) {
+            return physicalIndexOf(position - removedCount);
+        }
+
+        /**
+         * @param index the index of a tick (excluding the removed ticks)
+         * @return the physical index of the tick in the columns
+         */
+        int physicalIndexOf(int index) {
+            return (head + index) & (endTimes.length - 1);
+        }
+
+        /**
+         * Doubles the capacity of the columns.
+         */
+        private void grow() {
+            int capacity = endTimes.length << 1;
+            endTimes = unwrap(endTimes, new long[capacity]);
+            openPrices = unwrap(openPrices, new double[capacity]);
+            maxPrices = unwrap(maxPrices, new double[capacity]);
+            minPrices = unwrap(minPrices, new double[capacity]);
+            closePrices = unwrap(closePrices, new double[capacity]);
+            amounts = unwrap(amounts, new double[capacity]);
+            volumes = unwrap(volumes, new double[capacity]);
+            trades = unwrap(trades, new int[capacity]);
+            head = 0;
+        }
+
+        /**
+         * Copies a (full) circular column into a new array, starting at the head.
+         * @param column the column
+         * @param newColumn the new (bigger) column
+         * @return the new column
+         */
+        private <A> A unwrap(A column, A newColumn) {
+            int firstPartLength = endTimes.length - head;
+            System.arraycopy(column, head, newColumn, 0, firstPartLength);
+            System.arraycopy(column, 0, newColumn, firstPartLength, head);
+            return newColumn;
+        }
+
+        private void checkIndex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+            }
+        }
+
+        /**
+         * @param value a decimal value (may be null)
+         * @return the double value (NaN if null)
+         */
+        private static double toDouble(Decimal value) {
+            return value == null ? Double.NaN : value.toDouble();
+        }
+
+        /**
+         * @param value a price column value
+         * @return the price (null if NaN)
+         */
+        static Decimal price(double value) {
+            return Double.isNaN(value) ? null : Decimal.primitiveValueOf(value);
+        }
+    }
+
+    /**
+     * View of a tick stored in columns.
+     */
+    private static final class TickView extends Tick {
+
+        private static final long serialVersionUID = -4284516541728066183L;
+
+        private final Columns columns;
+
+        /** Position of the tick in the columns (including the removed ticks) */
+        private final int position;
+
+        TickView(Columns columns, int position) {
+            this.columns = columns;
+            this.position = position;
+        }
+
+        /**
+         * @return the physical index of the tick in the columns
+         */
+        private int index() {
+            return columns.physicalIndex(position);
+        }
+
+        @Override
+        public Decimal getClosePrice() {
+            return Columns.price(columns.closePrices[index()]);
+        }
+
+        @Override
+        public Decimal getOpenPrice() {
+            return Columns.price(columns.openPrices[index()]);
+        }
+
+        @Override
+        public int getTrades() {
+            return columns.trades[index()];
+        }
+
+        @Override
+        public Decimal getMaxPrice() {
+            return Columns.price(columns.maxPrices[index()]);
+        }
+
+        @Override
+        public Decimal getAmount() {
+            return Decimal.primitiveValueOf(columns.amounts[index()]);
+        }
+
+        @Override
+        public Decimal getVolume() {
+            return Decimal.primitiveValueOf(columns.volumes[index()]);
+        }
+
+        @Override
+        public void addTrade(Decimal tradeAmount, Decimal tradePrice) {
+            final int i = index();
+            final double amount = tradeAmount.toDouble();
+            final double price = tradePrice.toDouble();
+            if (Double.isNaN(columns.openPrices[i])) {
+                columns.openPrices[i] = price;
+            }
+            columns.closePrices[i] = price;
+            if (Double.isNaN(columns.maxPrices[i]) || columns.maxPrices[i] < price) {
+                columns.maxPrices[i] = price;
+            }
+            if (Double.isNaN(columns.minPrices[i]) || columns.minPrices[i] > price) {
+                columns.minPrices[i] = price;
+            }
+            columns.amounts[i] += amount;
+            columns.volumes[i] += amount * price;
+            columns.trades[i]++;
+        }
+
+        @Override
+        public Decimal getMinPrice() {
+            return Columns.price(columns.minPrices[index()]);
+        }
+
+        @Override
+        public Period getTimePeriod() {
+            return columns.tickPeriod;
+        }
+
+        @Override
+        public DateTime getBeginTime() {
+            return getEndTime().minus(columns.tickPeriod);
+        }
+
+        @Override
+        public DateTime getEndTime() {
+            return new DateTime(columns.endTimes[index()], columns.timeZone);
+        }
+
+        @Override
+        void usePrimitiveDecimals() {
+            // Already primitive
+        }
+    }
+}
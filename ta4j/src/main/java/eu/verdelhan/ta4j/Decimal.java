@@ -31,7 +31,20 @@ import java.math.RoundingMode;
  * Immutable, arbitrary-precision signed decimal numbers designed for technical analysis.
  * <p>
  * A {@code Decimal} consists of a {@code BigDecimal} with arbitrary {@link MathContext} (precision and rounding mode).
+ * <p>
+ * A {@code Decimal} may also be primitive (i.e. backed by a {@code double} instead of a {@code BigDecimal}).
+ * Primitive decimals are much faster but do not provide exact decimal precision. They are contagious: an operation
+ * involving at least one primitive operand returns a primitive decimal. So that all the indicators, rules and criteria
+ * built over a series of primitive ticks run on raw doubles.
+ * <p>
+ * Non-primitive decimals whose unscaled value fits in a {@code long} are stored as fixed-point numbers (unscaled
+ * {@code long} value and scale). Additions, subtractions, multiplications and comparisons between fixed-point decimals
+ * are computed on longs, without any {@code BigDecimal} allocation. The {@code BigDecimal} is only built on overflow,
+ * on division (and other non-linear operations), or when its representation is needed (e.g. {@link #toString()}).
+ * The results are exactly the ones the {@code BigDecimal} operations would return.
  *
+ * @see #primitiveValueOf(double)
+ * @see TimeSeries#usePrimitiveDecimals()
  * @see BigDecimal
  * @see MathContext
  * @see RoundingMode
@@ -53,14 +66,46 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
     public static final Decimal HUNDRED = valueOf(100);
     public static final Decimal THOUSAND = valueOf(1000);
 
-    private final BigDecimal delegate;
+    /** Powers of ten fitting in a long */
+    private static final long[] LONG_TEN_POWERS = {
+        1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+        10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+        1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L
+    };
+
+    /** Maximum precision of a fixed-point decimal (i.e. the number of digits always fitting in a long) */
+    private static final int MAX_FIXED_POINT_PRECISION = LONG_TEN_POWERS.length - 1;
+
+    /** Powers of ten exactly represented as doubles */
+    private static final double[] DOUBLE_TEN_POWERS = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /** The BigDecimal value (lazily built for fixed-point decimals) */
+    private BigDecimal delegate;
+
+    /** The unscaled value of a fixed-point decimal */
+    private final long unscaledValue;
+
+    /** The scale of a fixed-point decimal */
+    private final int scale;
+
+    /** True if this decimal is a fixed-point one, false otherwise */
+    private final boolean fixedPoint;
+
+    /** The value of a primitive decimal */
+    private final double primitiveValue;
+
+    /** True if this decimal is backed by a double, false otherwise */
+    private final boolean primitive;
 
     /**
      * Constructor.
      * Only used for NaN instance.
      */
     private Decimal() {
-        delegate = null;
+        this((BigDecimal) null);
     }
 
     /**
@@ -68,7 +113,7 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
      * @param val the string representation of the decimal value
      */
     private Decimal(String val) {
-        delegate = new BigDecimal(val, MATH_CONTEXT);
+        this(new BigDecimal(val, MATH_CONTEXT));
     }
 
     /**
@@ -76,19 +121,60 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
      * @param val the double value
      */
     private Decimal(double val) {
-        delegate = new BigDecimal(val, MATH_CONTEXT);
+        this(new BigDecimal(val, MATH_CONTEXT));
     }
 
     private Decimal(int val) {
-        delegate = new BigDecimal(val, MATH_CONTEXT);
+        this(val, 0);
     }
 
     private Decimal(long val) {
-        delegate = new BigDecimal(val, MATH_CONTEXT);
+        this(val, 0);
     }
 
     private Decimal(BigDecimal val) {
         delegate = val;
+        if (val != null && val.precision() <= MAX_FIXED_POINT_PRECISION) {
+            unscaledValue = val.unscaledValue().longValue();
+            scale = val.scale();
+            fixedPoint = true;
+        } else {
+            unscaledValue = 0;
+            scale = 0;
+            fixedPoint = false;
+        }
+        primitiveValue = 0;
+        primitive = false;
+    }
+
+    /**
+     * Constructor.
+     * Only used for fixed-point instances.
+     * @param unscaledValue the unscaled value
+     * @param scale the scale
+     */
+    private Decimal(long unscaledValue, int scale) {
+        delegate = null;
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
+        fixedPoint = true;
+        primitiveValue = 0;
+        primitive = false;
+    }
+
+    /**
+     * Constructor.
+     * Only used for primitive instances.
+     * @param val the double value
+     * @param primitive true
+     */
+    private Decimal(double val, boolean primitive) {
+        delegate = null;
+        unscaledValue = 0;
+        scale = 0;
+        fixedPoint = false;
+        primitiveValue = val;
+        this.primitive = primitive;
     }
 
     /**
@@ -102,7 +188,16 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if ((this == NaN) || (augend == NaN)) {
             return NaN;
         }
-        return new Decimal(delegate.add(augend.delegate, MATH_CONTEXT));
+        if (primitive || augend.primitive) {
+            return primitiveValueOf(toDouble() + augend.toDouble());
+        }
+        if (fixedPoint && augend.fixedPoint) {
+            Decimal sum = fixedPointSum(unscaledValue, scale, augend.unscaledValue, augend.scale);
+            if (sum != null) {
+                return sum;
+            }
+        }
+        return new Decimal(bigDecimalValue().add(augend.bigDecimalValue(), MATH_CONTEXT));
     }
 
     /**
@@ -116,7 +211,16 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if ((this == NaN) || (subtrahend == NaN)) {
             return NaN;
         }
-        return new Decimal(delegate.subtract(subtrahend.delegate, MATH_CONTEXT));
+        if (primitive || subtrahend.primitive) {
+            return primitiveValueOf(toDouble() - subtrahend.toDouble());
+        }
+        if (fixedPoint && subtrahend.fixedPoint && subtrahend.unscaledValue != Long.MIN_VALUE) {
+            Decimal difference = fixedPointSum(unscaledValue, scale, -subtrahend.unscaledValue, subtrahend.scale);
+            if (difference != null) {
+                return difference;
+            }
+        }
+        return new Decimal(bigDecimalValue().subtract(subtrahend.bigDecimalValue(), MATH_CONTEXT));
     }
 
     /**
@@ -130,7 +234,16 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if ((this == NaN) || (multiplicand == NaN)) {
             return NaN;
         }
-        return new Decimal(delegate.multiply(multiplicand.delegate, MATH_CONTEXT));
+        if (primitive || multiplicand.primitive) {
+            return primitiveValueOf(toDouble() * multiplicand.toDouble());
+        }
+        if (fixedPoint && multiplicand.fixedPoint) {
+            Decimal product = fixedPointProduct(unscaledValue, scale, multiplicand.unscaledValue, multiplicand.scale);
+            if (product != null) {
+                return product;
+            }
+        }
+        return new Decimal(bigDecimalValue().multiply(multiplicand.bigDecimalValue(), MATH_CONTEXT));
     }
 
     /**
@@ -144,7 +257,10 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if ((this == NaN) || (divisor == NaN) || divisor.isZero()) {
             return NaN;
         }
-        return new Decimal(delegate.divide(divisor.delegate, MATH_CONTEXT));
+        if (primitive || divisor.primitive) {
+            return primitiveValueOf(toDouble() / divisor.toDouble());
+        }
+        return new Decimal(bigDecimalValue().divide(divisor.bigDecimalValue(), MATH_CONTEXT));
     }
 
     /**
@@ -158,7 +274,10 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if ((this == NaN) || (divisor == NaN) || divisor.isZero()) {
             return NaN;
         }
-        return new Decimal(delegate.remainder(divisor.delegate, MATH_CONTEXT));
+        if (primitive || divisor.primitive) {
+            return primitiveValueOf(toDouble() % divisor.toDouble());
+        }
+        return new Decimal(bigDecimalValue().remainder(divisor.bigDecimalValue(), MATH_CONTEXT));
     }
 
 
@@ -172,7 +291,10 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if (this == NaN) {
             return NaN;
         }
-        return new Decimal(delegate.pow(n, MATH_CONTEXT));
+        if (primitive) {
+            return primitiveValueOf(StrictMath.pow(primitiveValue, n));
+        }
+        return new Decimal(bigDecimalValue().pow(n, MATH_CONTEXT));
     }
     
     /**
@@ -185,7 +307,10 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if (this == NaN) {
             return NaN;
         }
-        return new Decimal(StrictMath.log(delegate.doubleValue()));
+        if (primitive) {
+            return primitiveValueOf(StrictMath.log(primitiveValue));
+        }
+        return new Decimal(StrictMath.log(toDouble()));
     }
 
     /**
@@ -198,7 +323,10 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if (this == NaN) {
             return NaN;
         }
-        return new Decimal(StrictMath.sqrt(delegate.doubleValue()));
+        if (primitive) {
+            return primitiveValueOf(StrictMath.sqrt(primitiveValue));
+        }
+        return new Decimal(StrictMath.sqrt(toDouble()));
     }
 
     /**
@@ -210,7 +338,13 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if (this == NaN) {
             return NaN;
         }
-        return new Decimal(delegate.abs());
+        if (primitive) {
+            return primitiveValueOf(Math.abs(primitiveValue));
+        }
+        if (fixedPoint && unscaledValue != Long.MIN_VALUE) {
+            return unscaledValue < 0 ? new Decimal(-unscaledValue, scale) : this;
+        }
+        return new Decimal(bigDecimalValue().abs());
     }
 
     /**
@@ -254,6 +388,22 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         return this == NaN;
     }
 
+    /**
+     * Checks if the value is backed by a primitive double.
+     * @return true if the value is a primitive decimal, false otherwise
+     */
+    public boolean isPrimitive() {
+        return primitive;
+    }
+
+    /**
+     * Checks if the value is stored as a fixed-point number (i.e. unscaled long value and scale).
+     * @return true if the value is a fixed-point decimal, false otherwise
+     */
+    public boolean isFixedPoint() {
+        return fixedPoint;
+    }
+
     /**
      * Checks if the value is less than zero.
      * @return true if the value is less than zero, false otherwise
@@ -336,12 +486,47 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         return compareTo(other) < 1;
     }
 
+    /**
+     * {@inheritDoc}
+     * A primitive decimal is compared to a non-primitive one on their exact values (i.e. the exact value of the double),
+     * so that the comparison stays consistent (and equality transitive) whatever the flavours.
+     */
     @Override
     public int compareTo(Decimal other) {
         if ((this == NaN) || (other == NaN)) {
             return 0;
         }
-        return delegate.compareTo(other.delegate);
+        if (primitive || other.primitive) {
+            final double value = toDouble();
+            final double otherValue = other.toDouble();
+            if (value != otherValue || primitive == other.primitive) {
+                return value < otherValue ? -1 : (value > otherValue ? 1 : 0);
+            }
+            // Same nearest double: the non-primitive value may still differ from the double
+            if (Double.isInfinite(value)) {
+                // (Infinite primitive vs. finite value beyond the double range)
+                final int sign = value > 0 ? 1 : -1;
+                return primitive ? sign : -sign;
+            }
+            return exactValue().compareTo(other.exactValue());
+        }
+        if (fixedPoint && other.fixedPoint) {
+            if (scale == other.scale) {
+                return compare(unscaledValue, other.unscaledValue);
+            }
+            if (scale < other.scale) {
+                int scaleDiff = other.scale - scale;
+                if (canRescale(unscaledValue, scaleDiff)) {
+                    return compare(unscaledValue * LONG_TEN_POWERS[scaleDiff], other.unscaledValue);
+                }
+            } else {
+                int scaleDiff = scale - other.scale;
+                if (canRescale(other.unscaledValue, scaleDiff)) {
+                    return compare(unscaledValue, other.unscaledValue * LONG_TEN_POWERS[scaleDiff]);
+                }
+            }
+        }
+        return bigDecimalValue().compareTo(other.bigDecimalValue());
     }
 
     /**
@@ -383,7 +568,27 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if (this == NaN) {
             return Double.NaN;
         }
-        return delegate.doubleValue();
+        if (primitive) {
+            return primitiveValue;
+        }
+        if (fixedPoint && scale >= 0 && scale <= 22
+                && unscaledValue < (1L << 53) && unscaledValue > -(1L << 53)) {
+            // Both operands are exact doubles, so the division is correctly rounded
+            return scale == 0 ? unscaledValue : unscaledValue / DOUBLE_TEN_POWERS[scale];
+        }
+        return bigDecimalValue().doubleValue();
+    }
+
+    /**
+     * Converts this {@code Decimal} to a primitive {@code Decimal}.
+     * @return this {@code Decimal} backed by a {@code double}
+     * @see #primitiveValueOf(double)
+     */
+    public Decimal toPrimitive() {
+        if (primitive || (this == NaN)) {
+            return this;
+        }
+        return primitiveValueOf(toDouble());
     }
 
     @Override
@@ -391,19 +596,33 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
         if (this == NaN) {
             return "NaN";
         }
-        return delegate.toString();
+        if (primitive) {
+            return Double.toString(primitiveValue);
+        }
+        return bigDecimalValue().toString();
     }
 
+    /**
+     * {@inheritDoc}
+     * The hash code is the one of the (nearest) double value, whatever the flavour and the scale of the decimal:
+     * equal decimals (e.g. 2, 2.00 and the primitive 2) have the same hash code.
+     */
     @Override
     public int hashCode() {
-        int hash = 7;
-        hash = 53 * hash + (this.delegate != null ? this.delegate.hashCode() : 0);
-        return hash;
+        double value = toDouble();
+        if (value == 0) {
+            // (0.0 and -0.0 are equal decimals)
+            value = 0;
+        }
+        long bits = Double.doubleToLongBits(value);
+        return 53 * 7 + (int) (bits ^ (bits >>> 32));
     }
 
     /**
      * {@inheritDoc}
      * Warning: This method returns true if `this` and `obj` are both NaN.
+     * A primitive decimal is equal to a non-primitive one only if the double holds exactly the same value
+     * (e.g. the primitive 2 and 2, but not the primitive 0.1 and 0.1).
      */
     @Override
     public boolean equals(Object obj) {
@@ -414,11 +633,10 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
             return false;
         }
         final Decimal other = (Decimal) obj;
-        if (this.delegate != other.delegate
-                && (this.delegate == null || (this.delegate.compareTo(other.delegate) != 0))) {
-            return false;
+        if ((this == NaN) || (other == NaN)) {
+            return this == other;
         }
-        return true;
+        return compareTo(other) == 0;
     }
 
     public static Decimal valueOf(String val) {
@@ -442,4 +660,117 @@ public final class Decimal implements Comparable<Decimal>, Serializable {
     public static Decimal valueOf(long val) {
         return new Decimal(val);
     }
+
+    /**
+     * Returns a fixed-point {@code Decimal} whose value is <tt>(unscaledVal &times; 10<sup>-scale</sup>)</tt>.
+     * @param unscaledVal the unscaled value
+     * @param scale the scale
+     * @return the fixed-point decimal
+     * @see BigDecimal#valueOf(long, int)
+     */
+    public static Decimal valueOf(long unscaledVal, int scale) {
+        return new Decimal(unscaledVal, scale);
+    }
+
+    /**
+     * Returns a primitive {@code Decimal} (i.e. backed by a {@code double}).
+     * @param val the double value
+     * @return the primitive decimal (or NaN)
+     * @see #isPrimitive()
+     */
+    public static Decimal primitiveValueOf(double val) {
+        if (Double.isNaN(val)) {
+            return NaN;
+        }
+        return new Decimal(val, true);
+    }
+
+    /**
+     * @return the exact BigDecimal value of this (non-NaN and finite) decimal
+     */
+    private BigDecimal exactValue() {
+        return primitive ? new BigDecimal(primitiveValue) : bigDecimalValue();
+    }
+
+    /**
+     * @return the BigDecimal value of this (non-NaN and non-primitive) decimal
+     */
+    private BigDecimal bigDecimalValue() {
+        if (delegate == null) {
+            // Fixed-point decimal
+            delegate = BigDecimal.valueOf(unscaledValue, scale);
+        }
+        return delegate;
+    }
+
+    /**
+     * @param x a fixed-point unscaled value
+     * @param xScale the scale of x
+     * @param y a fixed-point unscaled value
+     * @param yScale the scale of y
+     * @return the fixed-point sum of x and y, or null if it overflows
+     */
+    private static Decimal fixedPointSum(long x, int xScale, long y, int yScale) {
+        int sumScale = xScale;
+        if (xScale < yScale) {
+            if (!canRescale(x, yScale - xScale)) {
+                return null;
+            }
+            x *= LONG_TEN_POWERS[yScale - xScale];
+            sumScale = yScale;
+        } else if (xScale > yScale) {
+            if (!canRescale(y, xScale - yScale)) {
+                return null;
+            }
+            y *= LONG_TEN_POWERS[xScale - yScale];
+        }
+        long sum = x + y;
+        if (((x ^ sum) & (y ^ sum)) < 0) {
+            // Overflow
+            return null;
+        }
+        return new Decimal(sum, sumScale);
+    }
+
+    /**
+     * @param x a fixed-point unscaled value
+     * @param xScale the scale of x
+     * @param y a fixed-point unscaled value
+     * @param yScale the scale of y
+     * @return the fixed-point product of x and y, or null if it overflows
+     */
+    private static Decimal fixedPointProduct(long x, int xScale, long y, int yScale) {
+        long productScale = (long) xScale + yScale;
+        if (productScale != (int) productScale) {
+            return null;
+        }
+        long product = x * y;
+        if (x != 0 && ((product / x != y) || (x == -1 && y == Long.MIN_VALUE))) {
+            // Overflow
+            return null;
+        }
+        return new Decimal(product, (int) productScale);
+    }
+
+    /**
+     * @param unscaledValue a fixed-point unscaled value
+     * @param scaleIncrease the scale increase
+     * @return true if the unscaled value can be multiplied by 10^scaleIncrease without overflow, false otherwise
+     */
+    private static boolean canRescale(long unscaledValue, int scaleIncrease) {
+        if (scaleIncrease >= LONG_TEN_POWERS.length) {
+            return false;
+        }
+        long bound = Long.MAX_VALUE / LONG_TEN_POWERS[scaleIncrease];
+        return unscaledValue <= bound && unscaledValue >= -bound;
+    }
+
+    /**
+     * @param x a long value
+     * @param y another long value
+     * @return the comparison of x and y
+     */
+    private static int compare(long x, long y) {
+        return x < y ? -1 : (x == y ? 0 : 1);
+    }
 }
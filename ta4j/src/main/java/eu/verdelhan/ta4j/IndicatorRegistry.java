@@ -0,0 +1,192 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry of the {@link Indicator indicators} of a {@link TimeSeries time series}.
+ * <p>
+ * Indicators are canonicalized by {@link Key key}, i.e. by type and by the arguments they are built from: asking
+ * twice for the same indicator (e.g. an EMA of the same close price indicator over the same time frame) returns
+ * the same instance, so that its results are calculated (and cached) once, whatever the number of strategies
+ * using it.
+ * <p>
+ * Indicator and time series arguments are compared by identity (they should come from the registry too), the
+ * other arguments by equality. A {@link TimeSeries#subseries(int, int) sub-series} argument is replaced by the
+ * full series: the indicators (and their cached results) are shared between the series and its views.
+ * @see TimeSeries#getIndicatorRegistry()
+ */
+public class IndicatorRegistry {
+
+    private final TimeSeries series;
+
+    /** Registered indicators (in creation order) */
+    private final Map<Key<?>, Indicator<?>> indicators = new LinkedHashMap<Key<?>, Indicator<?>>();
+
+    /**
+     * Constructor.
+     * @param series the time series of the indicators
+     */
+    public IndicatorRegistry(TimeSeries series) {
+        this.series = series;
+    }
+
+    /**
+     * Returns the registered indicator of the provided key, creating (and registering) it if needed.
+     * @param key the key of the indicator
+     * @return the (canonical) indicator
+     * @throws IllegalArgumentException if an argument of the key is related to another time series
+     */
+    public synchronized <I extends Indicator<?>> I get(Key<I> key) {
+        for (Object argument : key.arguments) {
+            if ((argument instanceof TimeSeries && argument != series)
+                    || (argument instanceof Indicator && ((Indicator<?>) argument).getTimeSeries() != null
+                        && ((Indicator<?>) argument).getTimeSeries() != series)) {
+                throw new IllegalArgumentException("Argument " + argument + " is not related to the registry series");
+            }
+        }
+        Indicator<?> indicator = indicators.get(key);
+        if (indicator == null) {
+            indicator = key.create(series);
+            indicators.put(key, indicator);
+        }
+        return key.type.cast(indicator);
+    }
+
+    /**
+     * @return the registered indicators (in creation order)
+     */
+    public synchronized List<Indicator<?>> getIndicators() {
+        return new ArrayList<Indicator<?>>(indicators.values());
+    }
+
+    /**
+     * @return the number of registered indicators
+     */
+    public synchronized int size() {
+        return indicators.size();
+    }
+
+    /**
+     * @return the time series of the indicators
+     */
+    public TimeSeries getTimeSeries() {
+        return series;
+    }
+
+    /**
+     * Key of a registered indicator: type of the indicator and arguments it is built from.
+     * <p>
+     * Typically returned by factory methods taking the arguments once, and building the indicator from them:
+     * <pre>
+     * static IndicatorRegistry.Key&lt;EMAIndicator&gt; ema(final Indicator&lt;Decimal&gt; indicator, final int timeFrame) {
+     *     return new IndicatorRegistry.Key&lt;EMAIndicator&gt;(EMAIndicator.class, indicator, timeFrame) {
+     *         &#64;Override
+     *         protected EMAIndicator create(TimeSeries series) {
+     *             return new EMAIndicator(indicator, timeFrame);
+     *         }
+     *     };
+     * }
+     * ...
+     * EMAIndicator ema = registry.get(ema(closePrice, 9));
+     * </pre>
+     * @param <I> the type of the indicator
+     */
+    public abstract static class Key<I extends Indicator<?>> {
+
+        private final Class<I> type;
+
+        private final Object[] arguments;
+
+        private final int hash;
+
+        /**
+         * Constructor.
+         * @param type the type of the indicator
+         * @param arguments the arguments the indicator is built from
+         */
+        public Key(Class<I> type, Object... arguments) {
+            this.type = type;
+            this.arguments = arguments.clone();
+            int h = type.hashCode();
+            for (int i = 0; i < this.arguments.length; i++) {
+                if (this.arguments[i] instanceof TimeSeries) {
+                    // Sub-series: sharing the indicators of the full series
+                    this.arguments[i] = ((TimeSeries) this.arguments[i]).getSource();
+                }
+                h = 31 * h + hashCode(this.arguments[i]);
+            }
+            hash = h;
+        }
+
+        /**
+         * Creates the indicator (only called when the registry has no indicator for this key).
+         * @param series the time series of the registry (to be used instead of a sub-series argument)
+         * @return a new indicator built from the arguments of the key
+         */
+        protected abstract I create(TimeSeries series);
+
+        private static int hashCode(Object argument) {
+            if (argument == null) {
+                return 0;
+            }
+            if (argument instanceof Indicator || argument instanceof TimeSeries) {
+                return System.identityHashCode(argument);
+            }
+            return argument.hashCode();
+        }
+
+        private static boolean equal(Object argument1, Object argument2) {
+            if (argument1 instanceof Indicator || argument1 instanceof TimeSeries) {
+                return argument1 == argument2;
+            }
+            return argument1 == null ? argument2 == null : argument1.equals(argument2);
+        }
+
+        @Override
+        public final int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public final boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key<?> other = (Key<?>) obj;
+            if (type != other.type || arguments.length != other.arguments.length) {
+                return false;
+            }
+            for (int i = 0; i < arguments.length; i++) {
+                if (!equal(arguments[i], other.arguments[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
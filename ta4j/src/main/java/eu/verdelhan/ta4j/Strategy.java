@@ -63,6 +63,20 @@ public class Strategy {
         this.exitRule = exitRule;
     }
     
+    /**
+     * @return the entry rule
+     */
+    public Rule getEntryRule() {
+        return entryRule;
+    }
+
+    /**
+     * @return the exit rule
+     */
+    public Rule getExitRule() {
+        return exitRule;
+    }
+
     /**
      * @param index a tick index
      * @return true if this strategy is unstable at the provided index, false otherwise (stable)
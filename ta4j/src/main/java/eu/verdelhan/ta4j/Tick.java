@@ -57,6 +57,13 @@ public class Tick implements Serializable {
     /** Trade count */
     private int trades = 0;
 
+    /**
+     * Constructor.
+     * Only used for ticks providing their own values (e.g. views over a columnar storage).
+     */
+    protected Tick() {
+    }
+
     /**
      * Constructor.
      * @param timePeriod the time period
@@ -138,6 +145,25 @@ public class Tick implements Serializable {
         this.volume = volume;
     }
 
+    /**
+     * Constructor.
+     * @param timePeriod the time period
+     * @param endTime the end time of the tick period
+     * @param openPrice the open price of the tick period
+     * @param highPrice the highest price of the tick period
+     * @param lowPrice the lowest price of the tick period
+     * @param closePrice the close price of the tick period
+     * @param amount the traded amount of the tick period
+     * @param volume the volume of the tick period
+     * @param trades the trade count of the tick period
+     */
+    Tick(Period timePeriod, DateTime endTime, Decimal openPrice, Decimal highPrice, Decimal lowPrice, Decimal closePrice,
+            Decimal amount, Decimal volume, int trades) {
+        this(timePeriod, endTime, openPrice, highPrice, lowPrice, closePrice, volume);
+        this.amount = amount;
+        this.trades = trades;
+    }
+
     /**
      * @return the close price of the period
      */
@@ -224,6 +250,19 @@ public class Tick implements Serializable {
         trades++;
     }
 
+    /**
+     * Converts the prices, the amount and the volume of the tick to primitive decimals.
+     * @see Decimal#toPrimitive()
+     */
+    void usePrimitiveDecimals() {
+        openPrice = toPrimitive(openPrice);
+        closePrice = toPrimitive(closePrice);
+        maxPrice = toPrimitive(maxPrice);
+        minPrice = toPrimitive(minPrice);
+        amount = toPrimitive(amount);
+        volume = toPrimitive(volume);
+    }
+
     /**
      * @return the min price of the period
      */
@@ -255,7 +294,7 @@ public class Tick implements Serializable {
     @Override
     public String toString() {
         return String.format("[time: %1$td/%1$tm/%1$tY %1$tH:%1$tM:%1$tS, close price: %2$f]",
-                endTime.toGregorianCalendar(), closePrice.toDouble());
+                getEndTime().toGregorianCalendar(), getClosePrice().toDouble());
     }
 
     /**
@@ -264,14 +303,16 @@ public class Tick implements Serializable {
      */
     public boolean inPeriod(DateTime timestamp) {
         return timestamp != null
-                && !timestamp.isBefore(beginTime)
-                && timestamp.isBefore(endTime);
+                && !timestamp.isBefore(getBeginTime())
+                && timestamp.isBefore(getEndTime());
     }
 
     /**
      * @return true if this is a bearish tick, false otherwise
      */
     public boolean isBearish() {
+        Decimal openPrice = getOpenPrice();
+        Decimal closePrice = getClosePrice();
         return (openPrice != null) && (closePrice != null) && closePrice.isLessThan(openPrice);
     }
 
@@ -279,6 +320,8 @@ public class Tick implements Serializable {
      * @return true if this is a bullish tick, false otherwise
      */
     public boolean isBullish() {
+        Decimal openPrice = getOpenPrice();
+        Decimal closePrice = getClosePrice();
         return (openPrice != null) && (closePrice != null) && openPrice.isLessThan(closePrice);
     }
     
@@ -286,14 +329,22 @@ public class Tick implements Serializable {
      * @return a human-friendly string of the end timestamp
      */
     public String getDateName() {
-        return endTime.toString("hh:mm dd/MM/yyyy");
+        return getEndTime().toString("hh:mm dd/MM/yyyy");
     }
 
     /**
      * @return a even more human-friendly string of the end timestamp
      */
     public String getSimpleDateName() {
-        return endTime.toString("dd/MM/yyyy");
+        return getEndTime().toString("dd/MM/yyyy");
+    }
+
+    /**
+     * @param value a decimal value (may be null)
+     * @return the primitive decimal value (or null)
+     */
+    private static Decimal toPrimitive(Decimal value) {
+        return value == null ? null : value.toPrimitive();
     }
 
     /**
@@ -0,0 +1,153 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Log of the modifications of the ticks of a {@link TimeSeries time series}.
+ * <p>
+ * Each modification (e.g. a replaced tick) increments a counter. For any previous value of the counter, the log gives
+ * the lowest and the highest indexes of the ticks modified since then, in O(log n): each one is a stack of
+ * (counter, index) entries whose indexes move away from the extreme one from the bottom to the top (a new entry
+ * drops the entries it supersedes).<br>
+ * The stacks are bounded: beyond {@value #MAX_ENTRIES} entries, the two bottom ones are merged (which may give
+ * a wider range of indexes than the actual one, i.e. more results to recalculate, but never a narrower one).
+ */
+final class TickModifications implements Serializable {
+
+    private static final long serialVersionUID = 2305741098328571413L;
+
+    /** Maximum number of entries of a stack */
+    private static final int MAX_ENTRIES = 64;
+
+    /** Number of modifications */
+    private long count;
+
+    /** Lowest modified indexes */
+    private final ExtremeIndexes lowestIndexes = new ExtremeIndexes(true);
+
+    /** Highest modified indexes */
+    private final ExtremeIndexes highestIndexes = new ExtremeIndexes(false);
+
+    /**
+     * @return the number of modifications
+     */
+    long getCount() {
+        return count;
+    }
+
+    /**
+     * Logs a modification.
+     * @param index the index of the modified tick
+     */
+    void add(int index) {
+        count++;
+        lowestIndexes.add(count, index);
+        highestIndexes.add(count, index);
+    }
+
+    /**
+     * @param previousCount a previous number of modifications
+     * @return the lowest index of the ticks modified since the provided number of modifications
+     *         (Integer.MAX_VALUE if none)
+     */
+    int getFirstModifiedIndex(long previousCount) {
+        return previousCount >= count ? Integer.MAX_VALUE : lowestIndexes.get(previousCount);
+    }
+
+    /**
+     * @param previousCount a previous number of modifications
+     * @return the highest index of the ticks modified since the provided number of modifications (-1 if none)
+     */
+    int getLastModifiedIndex(long previousCount) {
+        return previousCount >= count ? -1 : highestIndexes.get(previousCount);
+    }
+
+    /**
+     * Stack of the lowest (or highest) modified indexes.
+     */
+    private static final class ExtremeIndexes implements Serializable {
+
+        private static final long serialVersionUID = -4629150413907751160L;
+
+        /** True for the lowest indexes, false for the highest ones */
+        private final boolean lowest;
+
+        /** Counters of the entries (increasing) */
+        private long[] counts = new long[8];
+
+        /** Extreme modified indexes of the entries */
+        private int[] indexes = new int[8];
+
+        /** Number of entries */
+        private int size;
+
+        ExtremeIndexes(boolean lowest) {
+            this.lowest = lowest;
+        }
+
+        /**
+         * @param count the counter of the modification
+         * @param index the index of the modified tick
+         */
+        void add(long count, int index) {
+            while (size > 0 && (lowest ? indexes[size - 1] >= index : indexes[size - 1] <= index)) {
+                size--;
+            }
+            if (size == MAX_ENTRIES) {
+                // Merging the two bottom entries
+                indexes[1] = indexes[0];
+                System.arraycopy(counts, 1, counts, 0, size - 1);
+                System.arraycopy(indexes, 1, indexes, 0, size - 1);
+                size--;
+            } else if (size == counts.length) {
+                counts = Arrays.copyOf(counts, size << 1);
+                indexes = Arrays.copyOf(indexes, size << 1);
+            }
+            counts[size] = count;
+            indexes[size] = index;
+            size++;
+        }
+
+        /**
+         * @param previousCount a previous counter (lower than the counter of the last entry)
+         * @return the extreme index of the entries logged after the provided counter
+         */
+        int get(long previousCount) {
+            // First entry logged after the previous count
+            int low = 0;
+            int high = size - 1;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (counts[middle] > previousCount) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return indexes[low];
+        }
+    }
+}
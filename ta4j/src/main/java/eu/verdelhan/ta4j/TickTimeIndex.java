@@ -0,0 +1,158 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Time index of the ticks of a {@link TimeSeries time series}.
+ * <p>
+ * Keeps the end times of the ticks (as epoch milliseconds, in the order of the ticks) in a sorted array, so that the
+ * tick of a time is found by binary search in O(log n). Appending an end time and removing the first ones are
+ * (amortized) O(1).<br>
+ * Positions are the ones of the ticks in the list of ticks of the series (i.e. tick indexes minus the number of
+ * removed ticks).
+ */
+final class TickTimeIndex implements Serializable {
+
+    private static final long serialVersionUID = 8216745237651720388L;
+
+    /** End times of the ticks (from the head) */
+    private long[] endTimes;
+
+    /** Offset of the first end time in the array */
+    private int head;
+
+    /** Number of end times */
+    private int size;
+
+    /**
+     * Constructor.
+     * @param ticks the ticks whose end times are indexed
+     * @throws IllegalArgumentException if the end times of the ticks are not strictly increasing
+     */
+    TickTimeIndex(List<Tick> ticks) {
+        endTimes = new long[Math.max(16, ticks.size())];
+        for (Tick tick : ticks) {
+            final long endTime = tick.getEndTime().getMillis();
+            if (size > 0 && endTime <= endTimes[size - 1]) {
+                throw new IllegalArgumentException("Tick " + size + " has an end time <= to the previous one");
+            }
+            endTimes[size++] = endTime;
+        }
+    }
+
+    /**
+     * @return the number of end times
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param position a position
+     * @return the end time of the tick at the position
+     */
+    long get(int position) {
+        return endTimes[head + position];
+    }
+
+    /**
+     * @param position a position
+     * @param endTime the new end time of the tick at the position (between the previous and the next ones)
+     */
+    void set(int position, long endTime) {
+        endTimes[head + position] = endTime;
+    }
+
+    /**
+     * Appends an end time.
+     * @param endTime the end time of the appended tick (after the last one)
+     */
+    void add(long endTime) {
+        if (head + size == endTimes.length) {
+            if (size <= endTimes.length / 2) {
+                // Reusing the space of the removed end times
+                System.arraycopy(endTimes, head, endTimes, 0, size);
+            } else {
+                endTimes = Arrays.copyOfRange(endTimes, head, head + (size << 1));
+            }
+            head = 0;
+        }
+        endTimes[head + size] = endTime;
+        size++;
+    }
+
+    /**
+     * Removes the first end times.
+     * @param count the number of end times to be removed
+     */
+    void removeFirst(int count) {
+        head += count;
+        size -= count;
+    }
+
+    /**
+     * @param time a time (as epoch milliseconds)
+     * @param fromPosition the first position (inclusive) of the searched range
+     * @param toPosition the last position (exclusive) of the searched range
+     * @return the first position of the range whose end time is greater than or equal to the time (toPosition if none)
+     */
+    int lowerBound(long time, int fromPosition, int toPosition) {
+        return search(time, fromPosition, toPosition, false);
+    }
+
+    /**
+     * @param time a time (as epoch milliseconds)
+     * @param fromPosition the first position (inclusive) of the searched range
+     * @param toPosition the last position (exclusive) of the searched range
+     * @return the first position of the range whose end time is strictly greater than the time (toPosition if none)
+     */
+    int upperBound(long time, int fromPosition, int toPosition) {
+        return search(time, fromPosition, toPosition, true);
+    }
+
+    /**
+     * @param time a time (as epoch milliseconds)
+     * @param fromPosition the first position (inclusive) of the searched range
+     * @param toPosition the last position (exclusive) of the searched range
+     * @param strictly true to search for an end time strictly greater than the time, false for greater or equal
+     * @return the first position of the range whose end time is after the time (toPosition if none)
+     */
+    private int search(long time, int fromPosition, int toPosition, boolean strictly) {
+        int low = head + fromPosition;
+        int high = head + toPosition;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            final long endTime = endTimes[middle];
+            if (endTime < time || (strictly && endTime == time)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low - head;
+    }
+}
@@ -28,7 +28,6 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import org.joda.time.DateTime;
-import org.joda.time.Interval;
 import org.joda.time.Period;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,19 +54,32 @@ public class TimeSeries implements Serializable {
     private int beginIndex = -1;
     /** End index of the time series */
     private int endIndex = -1;
-    /** List of ticks */
-    private final List<Tick> ticks;
+    /** List of ticks (moved to a circular buffer when a maximum tick count is set) */
+    private List<Tick> ticks;
     /** Maximum number of ticks for the time series */
     private int maximumTickCount = Integer.MAX_VALUE;
     /** Number of removed ticks */
     private int removedTicksCount = 0;
-    /** True if the current series is a sub-series, false otherwise */
-    private boolean subSeries = false;
+    /** Series whose ticks are shared by this one (this series if it is not a sub-series) */
+    private final TimeSeries source;
+    /** True if the ticks of the series hold primitive decimals, false otherwise */
+    private boolean primitiveDecimals = false;
+
+    private transient IndicatorRegistry indicatorRegistry;
+
+    private transient volatile List<TickListener> tickListeners;
+
+    /** Log of the modifications of the ticks (shared with the sub-series) */
+    private final TickModifications modifications;
+
+    /** Time index of the ticks (shared with the sub-series) */
+    private final TickTimeIndex timeIndex;
 
     /**
      * Constructor.
      * @param name the name of the series
-     * @param ticks the list of ticks of the series
+     * @param ticks the list of ticks of the series (sorted by strictly increasing end times)
+     * @throws IllegalArgumentException if the end times of the ticks are not strictly increasing
      */
     public TimeSeries(String name, List<Tick> ticks) {
         this(name, ticks, 0, ticks.size() - 1, false);
@@ -75,7 +87,8 @@ public class TimeSeries implements Serializable {
 
     /**
      * Constructor of an unnamed series.
-     * @param ticks the list of ticks of the series
+     * @param ticks the list of ticks of the series (sorted by strictly increasing end times)
+     * @throws IllegalArgumentException if the end times of the ticks are not strictly increasing
      */
     public TimeSeries(List<Tick> ticks) {
         this("unnamed", ticks);
@@ -87,7 +100,10 @@ public class TimeSeries implements Serializable {
      */
     public TimeSeries(String name) {
         this.name = name;
-        this.ticks = new ArrayList<Tick>();
+        this.ticks = new CircularTickList();
+        this.source = this;
+        this.modifications = new TickModifications();
+        this.timeIndex = new TickTimeIndex(ticks);
     }
 
     /**
@@ -103,18 +119,41 @@ public class TimeSeries implements Serializable {
      * @param ticks the list of ticks of the series
      * @param beginIndex the begin index (inclusive) of the time series
      * @param endIndex the end index (inclusive) of the time series
-     * @param subSeries true if the current series is a sub-series, false otherwise
+     * @param primitiveDecimals true if the ticks of the series hold primitive decimals, false otherwise
      */
-    private TimeSeries(String name, List<Tick> ticks, int beginIndex, int endIndex, boolean subSeries) {
+    TimeSeries(String name, List<Tick> ticks, int beginIndex, int endIndex, boolean primitiveDecimals) {
+        this(name, null, ticks, beginIndex, endIndex, primitiveDecimals);
+    }
+
+    /**
+     * Constructor.
+     * @param name the name of the series
+     * @param source the series whose ticks are shared (null if not a sub-series)
+     * @param ticks the list of ticks of the series (null for a sub-series)
+     * @param beginIndex the begin index (inclusive) of the time series
+     * @param endIndex the end index (inclusive) of the time series
+     * @param primitiveDecimals true if the ticks of the series hold primitive decimals, false otherwise
+     */
+    private TimeSeries(String name, TimeSeries source, List<Tick> ticks, int beginIndex, int endIndex,
+            boolean primitiveDecimals) {
         // TODO: add null checks and out of bounds checks
         if (endIndex < beginIndex - 1) {
             throw new IllegalArgumentException("end cannot be < than begin - 1");
         }
         this.name = name;
-        this.ticks = ticks;
         this.beginIndex = beginIndex;
         this.endIndex = endIndex;
-        this.subSeries = subSeries;
+        this.primitiveDecimals = primitiveDecimals;
+        if (source == null) {
+            this.source = this;
+            this.ticks = ticks;
+            this.modifications = new TickModifications();
+            this.timeIndex = new TickTimeIndex(ticks);
+        } else {
+            this.source = source;
+            this.modifications = source.modifications;
+            this.timeIndex = source.timeIndex;
+        }
     }
 
     /**
@@ -129,22 +168,91 @@ public class TimeSeries implements Serializable {
      * @return the tick at the i-th position
      */
     public Tick getTick(int i) {
-        int innerIndex = i - removedTicksCount;
+        return source.ticks.get(getTickPosition(i));
+    }
+
+    /**
+     * Equivalent to {@code getTick(i).getOpenPrice()}, without creating any tick view on a columnar series.
+     * @param i an index
+     * @return the open price of the tick at the i-th position
+     */
+    public Decimal getOpenPrice(int i) {
+        if (source != this) {
+            return source.getOpenPrice(i);
+        }
+        return getTick(i).getOpenPrice();
+    }
+
+    /**
+     * Equivalent to {@code getTick(i).getMaxPrice()}, without creating any tick view on a columnar series.
+     * @param i an index
+     * @return the max price of the tick at the i-th position
+     */
+    public Decimal getMaxPrice(int i) {
+        if (source != this) {
+            return source.getMaxPrice(i);
+        }
+        return getTick(i).getMaxPrice();
+    }
+
+    /**
+     * Equivalent to {@code getTick(i).getMinPrice()}, without creating any tick view on a columnar series.
+     * @param i an index
+     * @return the min price of the tick at the i-th position
+     */
+    public Decimal getMinPrice(int i) {
+        if (source != this) {
+            return source.getMinPrice(i);
+        }
+        return getTick(i).getMinPrice();
+    }
+
+    /**
+     * Equivalent to {@code getTick(i).getClosePrice()}, without creating any tick view on a columnar series.
+     * @param i an index
+     * @return the close price of the tick at the i-th position
+     */
+    public Decimal getClosePrice(int i) {
+        if (source != this) {
+            return source.getClosePrice(i);
+        }
+        return getTick(i).getClosePrice();
+    }
+
+    /**
+     * Equivalent to {@code getTick(i).getVolume()}, without creating any tick view on a columnar series.
+     * @param i an index
+     * @return the volume of the tick at the i-th position
+     */
+    public Decimal getVolume(int i) {
+        if (source != this) {
+            return source.getVolume(i);
+        }
+        return getTick(i).getVolume();
+    }
+
+    /**
+     * @param i an index
+     * @return the position of the i-th tick in the ticks of the full series (the first remaining one if already removed)
+     * @throws IndexOutOfBoundsException if there is no such tick
+     */
+    int getTickPosition(int i) {
+        int innerIndex = i - source.removedTicksCount;
         if (innerIndex < 0) {
             if (i < 0) {
                 // Cannot return the i-th tick if i < 0
                 throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(this, i));
             }
-            log.trace("Time series `{}` ({} ticks): tick {} already removed, use {}-th instead", name, ticks.size(), i, removedTicksCount);
-            if (ticks.isEmpty()) {
-                throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(this, removedTicksCount));
+            log.trace("Time series `{}` ({} ticks): tick {} already removed, use {}-th instead", name, source.ticks.size(), i, source.removedTicksCount);
+            if (source.ticks.isEmpty()) {
+                throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(this, source.removedTicksCount));
             }
             innerIndex = 0;
-        } else if (innerIndex >= ticks.size()) {
+        } else if (innerIndex >= source.ticks.size()) {
             // Cannot return the n-th tick if n >= ticks.size()
             throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(this, i));
         }
-        return ticks.get(innerIndex);
+        return innerIndex;
     }
 
     /**
@@ -168,8 +276,8 @@ public class TimeSeries implements Serializable {
         if (endIndex < 0) {
             return 0;
         }
-        final int startIndex = Math.max(removedTicksCount, beginIndex);
-        return endIndex - startIndex + 1;
+        final int startIndex = Math.max(source.removedTicksCount, beginIndex);
+        return Math.max(0, endIndex - startIndex + 1);
     }
 
     /**
@@ -186,12 +294,66 @@ public class TimeSeries implements Serializable {
         return endIndex;
     }
 
+    /**
+     * Returns the index of the tick whose period contains a time.
+     * <p>
+     * The lookups by time are O(log n): the end times of the ticks are kept in a sorted time index.
+     * @param time a time
+     * @return the index of the tick whose period contains the time (see {@link Tick#inPeriod(DateTime)}), or -1 if
+     *         none
+     */
+    public int getIndexAt(DateTime time) {
+        final int index = searchIndex(time, true);
+        return (index >= 0 && getTick(index).inPeriod(time)) ? index : -1;
+    }
+
+    /**
+     * @param time a time
+     * @return the index of the last tick ending at (or before) the time, or -1 if none
+     */
+    public int getFloorIndex(DateTime time) {
+        final int index = searchIndex(time, true);
+        if (index < 0) {
+            // No tick ending after the time: the last tick
+            return getTickCount() > 0 ? endIndex : -1;
+        }
+        return index > Math.max(beginIndex, source.removedTicksCount) ? index - 1 : -1;
+    }
+
+    /**
+     * @param time a time
+     * @return the index of the first tick ending at (or after) the time, or -1 if none
+     */
+    public int getCeilingIndex(DateTime time) {
+        return searchIndex(time, false);
+    }
+
+    /**
+     * @param time a time
+     * @param strictly true to search for a tick ending strictly after the time, false to include the end time
+     * @return the index of the first tick of the series ending after the time, or -1 if none
+     */
+    private int searchIndex(DateTime time, boolean strictly) {
+        if (time == null) {
+            throw new IllegalArgumentException("Time cannot be null");
+        }
+        if (getTickCount() == 0) {
+            return -1;
+        }
+        final int fromPosition = Math.max(beginIndex, source.removedTicksCount) - source.removedTicksCount;
+        final int toPosition = endIndex - source.removedTicksCount + 1;
+        final int position = strictly
+                ? timeIndex.upperBound(time.getMillis(), fromPosition, toPosition)
+                : timeIndex.lowerBound(time.getMillis(), fromPosition, toPosition);
+        return position == toPosition ? -1 : position + source.removedTicksCount;
+    }
+
     /**
      * @return the description of the series period (e.g. "from 12:00 21/01/2014 to 12:15 21/01/2014")
      */
     public String getSeriesPeriodDescription() {
         StringBuilder sb = new StringBuilder();
-        if (!ticks.isEmpty()) {
+        if (getTickCount() > 0) {
             final String timeFormat = "hh:mm dd/MM/yyyy";
             Tick firstTick = getFirstTick();
             Tick lastTick = getLastTick();
@@ -206,32 +368,113 @@ public class TimeSeries implements Serializable {
      * Sets the maximum number of ticks that will be retained in the series.
      * <p>
      * If a new tick is added to the series such that the number of ticks will exceed the maximum tick count,
-     * then the FIRST tick in the series is automatically removed, ensuring that the maximum tick count is not exceeded.
+     * then the FIRST tick in the series is automatically removed, ensuring that the maximum tick count is not exceeded.<br>
+     * The ticks are moved to a circular buffer (i.e. they are not shared with the list provided to the constructor
+     * anymore), so that adding a tick and removing the first one are O(1).
      * @param maximumTickCount the maximum tick count
      */
     public void setMaximumTickCount(int maximumTickCount) {
-        if (subSeries) {
+        if (source != this) {
             throw new IllegalStateException("Cannot set a maximum tick count on a sub-series");
         }
         if (maximumTickCount <= 0) {
             throw new IllegalArgumentException("Maximum tick count must be strictly positive");
         }
         this.maximumTickCount = maximumTickCount;
+        useCircularTickList();
         removeExceedingTicks();
     }
 
     /**
-     * @return the maximum number of ticks
+     * @return the maximum number of ticks (the one of the full series for a sub-series)
      */
     public int getMaximumTickCount() {
-        return maximumTickCount;
+        return source.maximumTickCount;
     }
 
     /**
-     * @return the number of removed ticks
+     * @return the number of removed ticks (from the full series for a sub-series)
      */
     public int getRemovedTicksCount() {
-        return removedTicksCount;
+        return source.removedTicksCount;
+    }
+
+    /**
+     * Switches the series to primitive (i.e. double-backed) {@link Decimal decimals}.
+     * <p>
+     * The prices, amounts and volumes of the ticks of the series (and of the ticks added afterwards) are converted to
+     * primitive decimals. As primitive decimals are contagious, the indicators, rules and criteria built over the series
+     * then run on raw doubles.<br>
+     * Should be used when exact decimal precision is not required (e.g. for backtests over long series).
+     * It has to be called before any indicator value is calculated.
+     * @see Decimal#primitiveValueOf(double)
+     */
+    public void usePrimitiveDecimals() {
+        if (source != this) {
+            throw new IllegalStateException("Cannot switch a sub-series to primitive decimals");
+        }
+        primitiveDecimals = true;
+        for (Tick tick : ticks) {
+            tick.usePrimitiveDecimals();
+        }
+    }
+
+    /**
+     * @return true if the ticks of the series hold primitive decimals, false otherwise
+     */
+    public boolean isPrimitiveDecimals() {
+        return primitiveDecimals;
+    }
+
+    /**
+     * Returns the registry of the indicators of the series.
+     * <p>
+     * Indicators obtained from the registry are shared: building several strategies from it calculates the common
+     * indicators (e.g. the close price, an EMA over a given time frame, etc.) only once.<br>
+     * A sub-series returns the registry of its full series.
+     * @return the indicator registry of the series (created on first call)
+     */
+    public synchronized IndicatorRegistry getIndicatorRegistry() {
+        if (source != this) {
+            return source.getIndicatorRegistry();
+        }
+        if (indicatorRegistry == null) {
+            indicatorRegistry = new IndicatorRegistry(this);
+        }
+        return indicatorRegistry;
+    }
+
+    /**
+     * @return the full series of a sub-series (this series otherwise)
+     */
+    TimeSeries getSource() {
+        return source;
+    }
+
+    /**
+     * Adds a listener notified on each tick added to the series.
+     * @param listener the tick listener
+     */
+    public synchronized void addTickListener(TickListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Tick listener cannot be null");
+        }
+        List<TickListener> listeners = tickListeners == null
+                ? new ArrayList<TickListener>() : new ArrayList<TickListener>(tickListeners);
+        listeners.add(listener);
+        tickListeners = listeners;
+    }
+
+    /**
+     * Removes a tick listener.
+     * @param listener the tick listener
+     */
+    public synchronized void removeTickListener(TickListener listener) {
+        if (tickListeners != null) {
+            List<TickListener> listeners = new ArrayList<TickListener>(tickListeners);
+            listeners.remove(listener);
+            tickListeners = listeners.isEmpty() ? null : listeners;
+        }
     }
 
     /**
@@ -239,7 +482,9 @@ public class TimeSeries implements Serializable {
      * <p>
      * Begin index set to 0 if if wasn't initialized.<br>
      * End index set to 0 if if wasn't initialized, or incremented if it matches the end of the series.<br>
-     * Exceeding ticks are removed.
+     * Exceeding ticks are removed.<br>
+     * The tick listeners are notified.<br>
+     * The decimals of the tick are converted if the series uses primitive decimals.
      * @param tick the tick to be added
      * @see TimeSeries#setMaximumTickCount(int)
      */
@@ -247,21 +492,163 @@ public class TimeSeries implements Serializable {
         if (tick == null) {
             throw new IllegalArgumentException("Cannot add null tick");
         }
-        final int lastTickIndex = ticks.size() - 1;
-        if (!ticks.isEmpty()) {
-            DateTime seriesEndTime = ticks.get(lastTickIndex).getEndTime();
-            if (!tick.getEndTime().isAfter(seriesEndTime)) {
-                throw new IllegalArgumentException("Cannot add a tick with end time <= to series end time");
-            }
+        if (source != this) {
+            throw new IllegalStateException("Cannot add a tick to a sub-series");
+        }
+        final long endTime = tick.getEndTime().getMillis();
+        if (timeIndex.size() > 0 && endTime <= timeIndex.get(timeIndex.size() - 1)) {
+            throw new IllegalArgumentException("Cannot add a tick with end time <= to series end time");
         }
 
+        if (primitiveDecimals) {
+            tick.usePrimitiveDecimals();
+        }
         ticks.add(tick);
+        tickAppended(endTime);
+    }
+
+    /**
+     * Updates the indexes of the series after a tick has been appended to the list of ticks.
+     * @param endTime the end time of the appended tick (as epoch milliseconds)
+     */
+    void tickAppended(long endTime) {
+        timeIndex.add(endTime);
         if (beginIndex == -1) {
             // Begin index set to 0 only if if wasn't initialized
             beginIndex = 0;
         }
         endIndex++;
         removeExceedingTicks();
+        List<TickListener> listeners = tickListeners;
+        if (listeners != null) {
+            for (TickListener listener : listeners) {
+                listener.tickAdded(this, endIndex);
+            }
+        }
+    }
+
+    /**
+     * Replaces the last tick of the series (e.g. with a more recent state of a tick being formed).
+     * <p>
+     * The results of the indicators calculated for the last tick are invalidated.
+     * @param tick the new last tick
+     * @see #replaceTick(int, Tick)
+     */
+    public void replaceLastTick(Tick tick) {
+        if (endIndex < 0 || source.ticks.isEmpty()) {
+            throw new IllegalStateException("Cannot replace the last tick of an empty series");
+        }
+        replaceTick(endIndex, tick);
+    }
+
+    /**
+     * Replaces a tick of the series (e.g. with a correction sent by the data vendor, or with a late trade).
+     * <p>
+     * The end time of the new tick must stay between the end times of the previous and next ticks.<br>
+     * Only the results of the indicators which depend on the replaced tick are invalidated (e.g. the results from
+     * the replaced tick to the end of the series for a recursive indicator, only the results whose time frame
+     * contains the replaced tick for a moving average). They are calculated again on the next reads.
+     * @param index the index of the tick to be replaced
+     * @param tick the new tick
+     * @see #getModificationCount()
+     */
+    public void replaceTick(int index, Tick tick) {
+        if (tick == null) {
+            throw new IllegalArgumentException("Cannot replace with null tick");
+        }
+        final int innerIndex = index - source.removedTicksCount;
+        if (index > endIndex || innerIndex < 0 || innerIndex >= source.ticks.size()) {
+            throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(this, index));
+        }
+        if (innerIndex > 0) {
+            DateTime previousEndTime = source.ticks.get(innerIndex - 1).getEndTime();
+            if (!tick.getEndTime().isAfter(previousEndTime)) {
+                throw new IllegalArgumentException("Cannot replace a tick with a tick whose end time is <= to the previous tick end time");
+            }
+        }
+        if (innerIndex < source.ticks.size() - 1) {
+            DateTime nextEndTime = source.ticks.get(innerIndex + 1).getEndTime();
+            if (!tick.getEndTime().isBefore(nextEndTime)) {
+                throw new IllegalArgumentException("Cannot replace a tick with a tick whose end time is >= to the next tick end time");
+            }
+        }
+
+        if (primitiveDecimals) {
+            tick.usePrimitiveDecimals();
+        }
+        source.ticks.set(innerIndex, tick);
+        timeIndex.set(innerIndex, tick.getEndTime().getMillis());
+        tickModified(index);
+    }
+
+    /**
+     * Adds a trade to the last tick of the series (i.e. the tick being formed).
+     * <p>
+     * The results of the indicators calculated for the last tick are invalidated.
+     * @param tradeAmount the tradable amount
+     * @param tradePrice the price
+     * @see Tick#addTrade(Decimal, Decimal)
+     */
+    public void addTrade(Decimal tradeAmount, Decimal tradePrice) {
+        if (endIndex < 0 || source.ticks.isEmpty()) {
+            throw new IllegalStateException("Cannot add a trade to an empty series");
+        }
+        Tick lastTick = getLastTick();
+        lastTick.addTrade(tradeAmount, tradePrice);
+        if (primitiveDecimals) {
+            lastTick.usePrimitiveDecimals();
+        }
+        tickModified(endIndex);
+    }
+
+    /**
+     * Returns the number of modifications of the ticks of the series.
+     * <p>
+     * Ticks may be modified after having been added to the series (see {@link #replaceTick(int, Tick)} and
+     * {@link #addTrade(Decimal, Decimal)}). Cached indicators use this count to invalidate the results which
+     * depend on the modified ticks.
+     * @return the number of modifications of the ticks
+     * @see #getFirstModifiedIndex(long)
+     * @see #getLastModifiedIndex(long)
+     */
+    public long getModificationCount() {
+        return modifications.getCount();
+    }
+
+    /**
+     * @param modificationCount a previous number of modifications (see {@link #getModificationCount()})
+     * @return the lowest index of the ticks modified since the provided number of modifications
+     *         (Integer.MAX_VALUE if none)
+     */
+    public int getFirstModifiedIndex(long modificationCount) {
+        return modifications.getFirstModifiedIndex(modificationCount);
+    }
+
+    /**
+     * @param modificationCount a previous number of modifications (see {@link #getModificationCount()})
+     * @return the highest index of the ticks modified since the provided number of modifications (-1 if none)
+     */
+    public int getLastModifiedIndex(long modificationCount) {
+        return modifications.getLastModifiedIndex(modificationCount);
+    }
+
+    /**
+     * Logs the modification of a tick and notifies the tick listeners.
+     * @param index the index of the modified tick
+     */
+    void tickModified(int index) {
+        if (source != this) {
+            // Modification of the shared ticks: notifying the listeners of the full series
+            source.tickModified(index);
+            return;
+        }
+        modifications.add(index);
+        List<TickListener> listeners = tickListeners;
+        if (listeners != null) {
+            for (TickListener listener : listeners) {
+                listener.tickModified(this, index);
+            }
+        }
     }
 
     /**
@@ -269,15 +656,18 @@ public class TimeSeries implements Serializable {
      * <p>
      * The new series has begin and end indexes which correspond to the bounds of the sub-set into the full series.<br>
      * The tick of the series are shared between the original time series and the returned one (i.e. no copy).
+     * <p>
+     * The sub-series may be taken from a moving series (i.e. with a {@link #setMaximumTickCount(int) maximum tick
+     * count}): it keeps the indexes of the full series, and its first ticks are removed with the ones of the full
+     * series (see {@link #getRemovedTicksCount()}). Ticks cannot be added to a sub-series.<br>
+     * The sub-series also shares the {@link #getIndicatorRegistry() indicator registry} of the full series: the
+     * indicators it provides for the sub-series are the ones of the full series, whose results are already cached.
      * @param beginIndex the begin index (inclusive) of the time series
      * @param endIndex the end index (inclusive) of the time series
      * @return a constrained {@link TimeSeries time series} which is a sub-set of the current series
      */
     public TimeSeries subseries(int beginIndex, int endIndex) {
-        if (maximumTickCount != Integer.MAX_VALUE) {
-            throw new IllegalStateException("Cannot create a sub-series from a time series for which a maximum tick count has been set");
-        }
-        return new TimeSeries(name, ticks, beginIndex, endIndex, true);
+        return new TimeSeries(name, source, null, beginIndex, endIndex, isPrimitiveDecimals());
     }
 
     /**
@@ -291,26 +681,18 @@ public class TimeSeries implements Serializable {
      */
     public TimeSeries subseries(int beginIndex, Period duration) {
 
-        // Calculating the sub-series interval
+        // Calculating the end of the sub-series interval
         DateTime beginInterval = getTick(beginIndex).getEndTime();
         DateTime endInterval = beginInterval.plus(duration);
-        Interval subseriesInterval = new Interval(beginInterval, endInterval);
-
-        // Checking ticks belonging to the sub-series (starting at the provided index)
-        int subseriesNbTicks = 0;
-        for (int i = beginIndex; i <= endIndex; i++) {
-            // For each tick...
-            DateTime tickTime = getTick(i).getEndTime();
-            if (!subseriesInterval.contains(tickTime)) {
-                // Tick out of the interval
-                break;
-            }
-            // Tick in the interval
-            // --> Incrementing the number of ticks in the subseries
-            subseriesNbTicks++;
+        if (endInterval.isBefore(beginInterval)) {
+            throw new IllegalArgumentException("The duration of a sub-series cannot be negative");
         }
 
-        return subseries(beginIndex, beginIndex + subseriesNbTicks - 1);
+        // Ticks of the sub-series: from the provided index to the last one ending before the end of the interval
+        final int firstPosition = Math.max(0, beginIndex - source.removedTicksCount);
+        final int subseriesEndPosition = timeIndex.lowerBound(endInterval.getMillis(), firstPosition,
+                endIndex - source.removedTicksCount + 1);
+        return subseries(beginIndex, subseriesEndPosition + source.removedTicksCount - 1);
     }
 
     /**
@@ -401,18 +783,19 @@ public class TimeSeries implements Serializable {
         for (int i = beginIndex; i <= endIndex; i++) {
             // For each tick in the sub-series...       
             if (strategy.shouldOperate(i, tradingRecord)) {
-                tradingRecord.operate(i, ticks.get(i).getClosePrice(), amount);
+                tradingRecord.operate(i, getTick(i).getClosePrice(), amount);
             }
         }
 
         if (!tradingRecord.isClosed()) {
             // If the last trade is still opened, we search out of the end index.
             // May works if the current series is a sub-series (but not the last sub-series).
-            for (int i = endIndex + 1; i < ticks.size(); i++) {
+            final int seriesTickCount = source.removedTicksCount + source.ticks.size();
+            for (int i = endIndex + 1; i < seriesTickCount; i++) {
                 // For each tick out of sub-series bound...
                 // --> Trying to close the last trade
                 if (strategy.shouldOperate(i, tradingRecord)) {
-                    tradingRecord.operate(i, ticks.get(i).getClosePrice(), amount);
+                    tradingRecord.operate(i, getTick(i).getClosePrice(), amount);
                     break;
                 }
             }
@@ -420,6 +803,15 @@ public class TimeSeries implements Serializable {
         return tradingRecord;
     }
 
+    /**
+     * Moves the ticks to a {@link CircularTickList circular buffer} (if they are not already in one).
+     */
+    void useCircularTickList() {
+        if (!(ticks instanceof CircularTickList)) {
+            ticks = new CircularTickList(ticks);
+        }
+    }
+
     /**
      * Removes the N first ticks which exceed the maximum tick count.
      */
@@ -431,6 +823,7 @@ public class TimeSeries implements Serializable {
             for (int i = 0; i < nbTicksToRemove; i++) {
                 ticks.remove(0);
             }
+            timeIndex.removeFirst(nbTicksToRemove);
             // Updating removed ticks count
             removedTicksCount += nbTicksToRemove;
         }
@@ -438,6 +831,9 @@ public class TimeSeries implements Serializable {
 
     /**
      * Builds a list of split indexes from splitDuration.
+     * <p>
+     * Each split begins with the first tick ending at (or after) splitDuration after the beginning of the previous
+     * split, found by binary search in the time index.
      * @param splitDuration the duration between 2 splits
      * @return a list of begin indexes after split
      */
@@ -447,27 +843,25 @@ public class TimeSeries implements Serializable {
         // Adding the first begin index
         beginIndexes.add(beginIndex);
 
-        // Building the first interval before next split
-        DateTime beginInterval = getTick(beginIndex).getEndTime();
-        DateTime endInterval = beginInterval.plus(splitDuration);
-        Interval splitInterval = new Interval(beginInterval, endInterval);
-
-        for (int i = beginIndex; i <= endIndex; i++) {
-            // For each tick...
-            DateTime tickTime = getTick(i).getEndTime();
-            if (!splitInterval.contains(tickTime)) {
-                // Tick out of the interval
-                if (!endInterval.isAfter(tickTime)) {
-                    // Tick after the interval
-                    // --> Adding a new begin index
-                    beginIndexes.add(i);
-                }
-
-                // Building the new interval before next split
-                beginInterval = endInterval.isBefore(tickTime) ? tickTime : endInterval;
-                endInterval = beginInterval.plus(splitDuration);
-                splitInterval = new Interval(beginInterval, endInterval);
+        final int endPosition = endIndex - source.removedTicksCount + 1;
+        int splitBeginIndex = beginIndex;
+        while (true) {
+            // Building the interval before next split
+            DateTime beginInterval = getTick(splitBeginIndex).getEndTime();
+            DateTime endInterval = beginInterval.plus(splitDuration);
+            if (!endInterval.isAfter(beginInterval)) {
+                throw new IllegalArgumentException("The duration between 2 splits must be positive");
+            }
+            final int nextPosition = timeIndex.lowerBound(endInterval.getMillis(),
+                    splitBeginIndex - source.removedTicksCount + 1, endPosition);
+            if (nextPosition == endPosition) {
+                // No tick after the interval
+                break;
             }
+            // Tick after the interval
+            // --> Adding a new begin index
+            splitBeginIndex = nextPosition + source.removedTicksCount;
+            beginIndexes.add(splitBeginIndex);
         }
         return beginIndexes;
     }
@@ -478,7 +872,7 @@ public class TimeSeries implements Serializable {
      * @return a message for an OutOfBoundsException
      */
     private static String buildOutOfBoundsMessage(TimeSeries series, int index) {
-        return "Size of series: " + series.ticks.size() + " ticks, "
-                + series.removedTicksCount + " ticks removed, index = " + index;
+        return "Size of series: " + series.source.ticks.size() + " ticks, "
+                + series.source.removedTicksCount + " ticks removed, index = " + index;
     }
 }
@@ -24,6 +24,9 @@ package eu.verdelhan.ta4j.indicators;
 
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.TimeSeries;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +46,9 @@ public abstract class AbstractIndicator<T> implements Indicator<T> {
 
     private TimeSeries series;
 
+    /** The indicators this indicator depends on */
+    private final List<Indicator<?>> dependencies = new ArrayList<Indicator<?>>(2);
+
     /**
      * Constructor.
      * @param series the related time series
@@ -56,6 +62,49 @@ public abstract class AbstractIndicator<T> implements Indicator<T> {
         return series;
     }
 
+    /**
+     * Returns the indicators this indicator depends on, i.e. the indicators whose values it reads (directly or
+     * through helper objects).
+     * <p>
+     * They drive the invalidation of the cached results after tick modifications, the precomputations and the
+     * {@link IndicatorPipeline pipelines}. Indicators which do not extend this class are considered to only read
+     * the ticks of their series.
+     * @return the indicators this indicator depends on
+     */
+    public List<Indicator<?>> getDependencies() {
+        return Collections.unmodifiableList(dependencies);
+    }
+
+    /**
+     * Declares indicators this indicator depends on.
+     * <p>
+     * Must be called by the constructors of the indicators reading other indicators than the one passed to the
+     * {@link CachedIndicator#CachedIndicator(Indicator) cached indicator constructor} (which is declared
+     * automatically).
+     * @param indicators the indicators (null ones are ignored)
+     * @see #getDependencies()
+     */
+    protected final void dependsOn(Indicator<?>... indicators) {
+        for (Indicator<?> indicator : indicators) {
+            if (indicator != null && indicator != this && !isDependency(indicator)) {
+                dependencies.add(indicator);
+            }
+        }
+    }
+
+    /**
+     * @param indicator an indicator
+     * @return true if the indicator is already declared as a dependency, false otherwise
+     */
+    private boolean isDependency(Indicator<?> indicator) {
+        for (Indicator<?> dependency : dependencies) {
+            if (dependency == indicator) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName();
@@ -0,0 +1,60 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TimeSeries;
+
+/**
+ * Cached boolean {@link Indicator indicator}.
+ * <p>
+ * Caches the results in two bit sets (calculated ticks and values) instead of an array of references.
+ */
+public abstract class CachedBooleanIndicator extends CachedIndicator<Boolean> {
+
+    /**
+     * 
+     */
+    private static final long serialVersionUID = -3261853436574862125L;
+
+    /**
+     * Constructor.
+     * @param series the related time series
+     */
+    public CachedBooleanIndicator(TimeSeries series) {
+        super(series);
+    }
+
+    /**
+     * Constructor.
+     * @param indicator a related indicator (with a time series)
+     */
+    public CachedBooleanIndicator(Indicator<?> indicator) {
+        super(indicator);
+    }
+
+    @Override
+    ResultsBuffer<Boolean> createResultsBuffer(int capacity) {
+        return new ResultsBuffer.BooleanResultsBuffer(capacity);
+    }
+}
@@ -22,16 +22,33 @@
  */
 package eu.verdelhan.ta4j.indicators;
 
+import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.TimeSeries;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Cached {@link Indicator indicator}.
  * <p>
  * Caches the constructor of the indicator. Avoid to calculate the same index of the indicator twice.
+ * <p>
+ * The results are cached in a circular buffer indexed by tick index. When the related time series is limited to
+ * a maximum tick count, the buffer keeps (at most) the same number of results: caching a new result and evicting
+ * the oldest one are O(1).
+ * <p>
+ * Indicators of {@link Decimal decimals} may opt in a primitive cache (see {@link #usePrimitiveCache()}).
+ * <p>
+ * The results over a range of indexes may be {@link #precompute(int, int, ExecutorService, int) precomputed}
+ * in parallel.
+ * <p>
+ * When ticks of the series are modified, only the results which depend on them are invalidated: the ones within
+ * the {@link #getLookBack() look-back} of the indicator (accumulated over the indicators it depends on).
  */
 public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
 
@@ -40,21 +57,48 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
      */
     private static final long serialVersionUID = 533598514575730284L;
 
-    /** List of cached results */
-    private final List<T> results = new ArrayList<T>();
+    /** Minimum number of ticks per chunk of a parallel precomputation */
+    static final int MIN_CHUNK_SIZE = 4096;
+
+    /**
+     * Circular buffer of cached results (null until the first result is cached).
+     */
+    ResultsBuffer<T> results;
+
+    /**
+     * True if the results should be cached as primitive doubles (when the series uses primitive decimals)
+     */
+    private boolean primitiveCache;
 
     /**
-     * Should always be the index of the last result in the results list.
+     * Should always be the index of the last result in the results buffer.
      * I.E. the last calculated result.
      */
     protected int highestResultIndex = -1;
-    
+
+    /**
+     * The index of the first result in the results buffer.
+     */
+    private int lowestResultIndex = 0;
+
+    /** True while the indicator is being precomputed */
+    private transient boolean precomputing;
+
+    /** Number of modifications of the ticks of the series the results are up to date with */
+    private long modificationCount;
+
+    /** Look-back of the indicator accumulated over its dependencies (0 until computed) */
+    private transient int totalLookBack;
+
     /**
      * Constructor.
      * @param series the related time series
      */
     public CachedIndicator(TimeSeries series) {
         super(series);
+        if (series != null) {
+            modificationCount = series.getModificationCount();
+        }
     }
 
     /**
@@ -63,6 +107,7 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
      */
     public CachedIndicator(Indicator<?> indicator) {
         this(indicator.getTimeSeries());
+        dependsOn(indicator);
     }
 
     @Override
@@ -76,37 +121,31 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
         }
 
         // Series is not null
+        invalidateModifiedResults();
         
         final int removedTicksCount = series.getRemovedTicksCount();
-        final int maximumResultCount = getTimeSeries().getMaximumTickCount();
-        
-        T result;
         if (index < removedTicksCount) {
             // Result already removed from cache
             log.trace("{}: result from tick {} already removed from cache, use {}-th instead",
                     getClass().getSimpleName(), index, removedTicksCount);
-            increaseLengthTo(removedTicksCount, maximumResultCount);
-            highestResultIndex = removedTicksCount;
-            result = results.get(0);
-            if (result == null) {
-                result = calculate(removedTicksCount);
-                results.set(0, result);
-            }
-        } else {
-            increaseLengthTo(index, maximumResultCount);
-            if (index > highestResultIndex) {
-                // Result not calculated yet
-                highestResultIndex = index;
-                result = calculate(index);
-                results.set(results.size()-1, result);
-            } else {
-                // Result covered by current cache
-                int resultInnerIndex = results.size() - 1 - (highestResultIndex - index);
-                result = results.get(resultInnerIndex);
-                if (result == null) {
-                    result = calculate(index);
-                }
-                results.set(resultInnerIndex, result);
+            index = removedTicksCount;
+        }
+
+        if (index > highestResultIndex) {
+            // Result not calculated yet
+            increaseLengthTo(index, series.getMaximumTickCount());
+        } else if (index < lowestResultIndex) {
+            // Result out of the results buffer
+            return calculate(index);
+        }
+
+        // Result covered by current cache
+        T result = results.get(index);
+        if (result == null) {
+            result = calculate(index);
+            if (index >= lowestResultIndex && index <= highestResultIndex) {
+                // (The results buffer may have moved during the calculation)
+                results.set(index, result);
             }
         }
         return result;
@@ -119,40 +158,377 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
     protected abstract T calculate(int index);
 
     /**
-     * Increases the size of cached results buffer.
+     * Calculates the values of the indicator over a range of indexes, without using (nor updating) any state
+     * shared with the sequential calculation.
+     * <p>
+     * Called concurrently (for distinct ranges) by the parallel {@link #precompute(int, int, ExecutorService, int)
+     * precomputations}, once the indicators this one depends on have been calculated.
+     * The default implementation returns null: the indicator is precomputed sequentially.
+     * @param startIndex the first index of the range
+     * @param endIndex the last index of the range
+     * @return the values of the range (startIndex first), or null if not supported
+     */
+    protected List<T> calculateRange(int startIndex, int endIndex) {
+        return null;
+    }
+
+    /**
+     * Calculates the values over a range of indexes by calling {@link #calculate(int)} for each one.
+     * <p>
+     * Only for the indicators whose calculation has no state (see {@link #calculateRange(int, int)}).
+     * @param startIndex the first index of the range
+     * @param endIndex the last index of the range
+     * @return the values of the range (startIndex first)
+     */
+    protected final List<T> calculateEach(int startIndex, int endIndex) {
+        List<T> values = new ArrayList<T>(endIndex - startIndex + 1);
+        for (int i = startIndex; i <= endIndex; i++) {
+            values.add(calculate(i));
+        }
+        return values;
+    }
+
+    /**
+     * Precomputes (and caches) the values of the indicator over the whole series, using as many threads as
+     * available processors.
+     * @see #precompute(int, int, ExecutorService, int)
+     */
+    public void precompute() {
+        final int nbThreads = Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(nbThreads);
+        try {
+            precompute(executor, nbThreads);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Precomputes (and caches) the values of the indicator over the whole series.
+     * @param executor the executor service running the chunks
+     * @param parallelism the number of chunks run concurrently
+     * @see #precompute(int, int, ExecutorService, int)
+     */
+    public void precompute(ExecutorService executor, int parallelism) {
+        TimeSeries series = getTimeSeries();
+        if (series != null) {
+            precompute(series.getBegin(), series.getEnd(), executor, parallelism);
+        }
+    }
+
+    /**
+     * Precomputes (and caches) the values of the indicator over a range of indexes.
+     * <p>
+     * The indicators this one depends on are precomputed first (up to the end index). Then, if the indicator
+     * supports {@link #calculateRange(int, int) range calculations}, the range is split in chunks calculated
+     * concurrently by the executor; the results are cached by the calling thread once all the chunks are done.
+     * Otherwise the values are calculated sequentially.
+     * <p>
+     * The series must not be modified during the precomputation. The precomputed values may differ from the
+     * sequentially calculated ones in the last digits (e.g. running sums are not updated in the same order).
+     * @param startIndex the first index of the range
+     * @param endIndex the last index of the range
+     * @param executor the executor service running the chunks
+     * @param parallelism the number of chunks run concurrently
+     */
+    public void precompute(int startIndex, int endIndex, ExecutorService executor, int parallelism) {
+        TimeSeries series = getTimeSeries();
+        if (series == null || precomputing) {
+            return;
+        }
+        invalidateModifiedResults();
+        startIndex = Math.max(startIndex, series.getRemovedTicksCount());
+        startIndex = Math.max(startIndex, endIndex - series.getMaximumTickCount() + 1);
+        startIndex = getFirstUncachedIndex(startIndex, endIndex);
+        if (startIndex > endIndex) {
+            // Already cached
+            return;
+        }
+
+        precomputing = true;
+        try {
+            precomputeDependencies(this, endIndex, executor, parallelism);
+            final int nbValues = endIndex - startIndex + 1;
+            final int nbChunks = Math.min(parallelism, nbValues / MIN_CHUNK_SIZE);
+            List<List<T>> chunkValues = null;
+            if (nbChunks > 1) {
+                List<Callable<List<T>>> chunks = new ArrayList<Callable<List<T>>>(nbChunks);
+                for (int c = 0; c < nbChunks; c++) {
+                    final int chunkStartIndex = startIndex + chunkStart(c, nbValues, nbChunks);
+                    final int chunkEndIndex = startIndex + chunkStart(c + 1, nbValues, nbChunks) - 1;
+                    chunks.add(new Callable<List<T>>() {
+                        @Override
+                        public List<T> call() {
+                            return calculateRange(chunkStartIndex, chunkEndIndex);
+                        }
+                    });
+                }
+                chunkValues = invokeAll(executor, chunks);
+            }
+
+            if (chunkValues == null || chunkValues.contains(null)) {
+                // Sequential calculation
+                for (int i = startIndex; i <= endIndex; i++) {
+                    getValue(i);
+                }
+            } else {
+                int index = startIndex;
+                for (List<T> values : chunkValues) {
+                    for (T value : values) {
+                        cacheResult(index++, value);
+                    }
+                }
+            }
+        } finally {
+            precomputing = false;
+        }
+    }
+
+    /**
+     * Precomputes the indicators an indicator depends on.
+     * @param indicator an indicator
+     * @param endIndex the last index to be precomputed
+     * @param executor the executor service running the chunks
+     * @param parallelism the number of chunks run concurrently
+     */
+    private static void precomputeDependencies(Indicator<?> indicator, int endIndex, ExecutorService executor,
+            int parallelism) {
+        for (Indicator<?> dependency : IndicatorDependencies.of(indicator)) {
+            if (dependency instanceof CachedIndicator) {
+                ((CachedIndicator<?>) dependency).precompute(0, endIndex, executor, parallelism);
+            } else {
+                // Not cached: precomputing its own dependencies
+                precomputeDependencies(dependency, endIndex, executor, parallelism);
+            }
+        }
+    }
+
+    /**
+     * @param startIndex the first index of a range
+     * @param endIndex the last index of the range
+     * @return the first index of the range whose result is not cached (endIndex + 1 if none)
+     */
+    private int getFirstUncachedIndex(int startIndex, int endIndex) {
+        if (results == null || startIndex < lowestResultIndex) {
+            return startIndex;
+        }
+        final int lastIndex = Math.min(endIndex, highestResultIndex);
+        for (int i = startIndex; i <= lastIndex; i++) {
+            if (results.get(i) == null) {
+                return i;
+            }
+        }
+        return Math.max(startIndex, lastIndex + 1);
+    }
+
+    /**
+     * @param chunk a chunk number (from 0 to nbChunks)
+     * @param nbValues the number of values
+     * @param nbChunks the number of chunks
+     * @return the first value offset of the chunk
+     */
+    static int chunkStart(int chunk, int nbValues, int nbChunks) {
+        return (int) ((long) nbValues * chunk / nbChunks);
+    }
+
+    /**
+     * Runs tasks and waits for their completion.
+     * @param executor the executor service
+     * @param tasks the tasks to be run
+     * @return the results of the tasks
+     */
+    static <V> List<V> invokeAll(ExecutorService executor, List<Callable<V>> tasks) {
+        try {
+            List<V> taskResults = new ArrayList<V>(tasks.size());
+            for (Future<V> future : executor.invokeAll(tasks)) {
+                taskResults.add(future.get());
+            }
+            return taskResults;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted precomputation", ie);
+        } catch (ExecutionException ee) {
+            throw new IllegalStateException("Failed precomputation", ee.getCause());
+        }
+    }
+
+    /**
+     * Invalidates the cached results (and resets the incremental state) which depend on the ticks modified since
+     * the last call.
+     * <p>
+     * Called before reading the cached results. Must also be called by the methods of the indicator giving access
+     * to its incremental state.
+     * @see TimeSeries#getModificationCount()
+     */
+    protected final void invalidateModifiedResults() {
+        TimeSeries series = getTimeSeries();
+        if (series == null) {
+            return;
+        }
+        final long count = series.getModificationCount();
+        if (count != modificationCount) {
+            final int firstModifiedIndex = series.getFirstModifiedIndex(modificationCount);
+            final int lastModifiedIndex = series.getLastModifiedIndex(modificationCount);
+            modificationCount = count;
+            final int firstInvalidIndex = Math.min(firstModifiedIndex, resetStateFrom(firstModifiedIndex));
+            if (firstInvalidIndex > highestResultIndex) {
+                return;
+            }
+            final long lastInvalidIndex = (long) lastModifiedIndex + getTotalLookBack() - 1;
+            if (lastInvalidIndex >= highestResultIndex) {
+                // (The slots of the invalid results are cleared when the results are calculated again)
+                highestResultIndex = Math.max(firstInvalidIndex, lowestResultIndex) - 1;
+            } else {
+                for (int i = Math.max(firstInvalidIndex, lowestResultIndex); i <= lastInvalidIndex; i++) {
+                    results.clear(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the look-back of the indicator, i.e. the number of ticks its results depend on.
+     * <p>
+     * The result for the index i must only depend on the ticks (and on the values of the indicators it depends on)
+     * from the index i - lookBack + 1 to the index i. Window indicators (e.g. moving averages) should return their
+     * time frame; the default implementation returns Integer.MAX_VALUE (i.e. results depending on all the previous
+     * ticks, like the ones of recursive indicators).
+     * @return the look-back of the indicator (at least 1)
+     */
+    protected int getLookBack() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * @return the look-back of the indicator accumulated over the indicators it depends on (Integer.MAX_VALUE if
+     *         unbounded), i.e. the number of ticks its results depend on through its dependencies
+     */
+    final int getTotalLookBack() {
+        if (totalLookBack == 0) {
+            // (Unbounded while being computed, in case of a cycle in the dependencies)
+            totalLookBack = Integer.MAX_VALUE;
+            final int lookBack = getLookBack();
+            if (lookBack != Integer.MAX_VALUE) {
+                final long total = (long) lookBack - 1 + getTotalLookBack(IndicatorDependencies.of(this));
+                totalLookBack = (int) Math.min(total, Integer.MAX_VALUE);
+            }
+        }
+        return totalLookBack;
+    }
+
+    /**
+     * @param dependencies the indicators an indicator depends on
+     * @return the maximum accumulated look-back of the indicators (1 for the ticks read directly)
+     */
+    private static int getTotalLookBack(List<Indicator<?>> dependencies) {
+        int maxLookBack = 1;
+        for (Indicator<?> dependency : dependencies) {
+            final int lookBack = dependency instanceof CachedIndicator
+                    ? ((CachedIndicator<?>) dependency).getTotalLookBack()
+                    : getTotalLookBack(IndicatorDependencies.of(dependency));
+            maxLookBack = Math.max(maxLookBack, lookBack);
+        }
+        return maxLookBack;
+    }
+
+    /**
+     * Resets the incremental state of the indicator (e.g. running sums) which depends on the ticks from the
+     * provided index.
+     * <p>
+     * Called when ticks of the series have been modified, before the results from this index are calculated again.
+     * Indicators keeping a state between two calculations must override this method: typically by rewinding the
+     * state to the previous index, or by dropping it.
+     * @param index the index of the first modified tick
+     * @return the index from which the results have to be calculated again: the provided one, or a lower one if
+     *         the state cannot be rewound (e.g. 0 to calculate all the results again)
+     */
+    protected int resetStateFrom(int index) {
+        return index;
+    }
+
+    /**
+     * Caches the results of the indicator in an array of doubles (8 bytes per result, instead of a reference
+     * to a {@link Decimal decimal} object) when the related time series uses
+     * {@link TimeSeries#usePrimitiveDecimals() primitive decimals}. Otherwise (e.g. BigDecimal-backed series)
+     * the results are cached as objects, without any loss of precision.
+     * <p>
+     * Must be called from the constructor, and only by indicators of decimals.
+     */
+    protected void usePrimitiveCache() {
+        if (results != null) {
+            throw new IllegalStateException("Cannot change the cache of an indicator after its first calculation");
+        }
+        primitiveCache = true;
+    }
+
+    /**
+     * Caches a result calculated outside of {@link #getValue(int)} (e.g. by a bulk precomputation).
+     * <p>
+     * Results must be cached in increasing index order.
+     * @param index the tick index
+     * @param result the result of the indicator at this index
+     */
+    void cacheResult(int index, T result) {
+        if (index > highestResultIndex) {
+            increaseLengthTo(index, getTimeSeries().getMaximumTickCount());
+        }
+        if (index >= lowestResultIndex) {
+            results.set(index, result);
+        }
+    }
+
+    /**
+     * Increases the highest index covered by the results buffer.
+     * <p>
+     * Only the maxLength last results are kept.
      * @param index the index to increase length to
      * @param maxLength the maximum length of the results buffer
      */
     private void increaseLengthTo(int index, int maxLength) {
-        if (highestResultIndex > -1) {
-            int newResultsCount = Math.min(index-highestResultIndex, maxLength);
-            if (newResultsCount == maxLength) {
-                results.clear();
-                results.addAll(Collections.<T> nCopies(maxLength, null));
-            } else if (newResultsCount > 0) {
-                results.addAll(Collections.<T> nCopies(newResultsCount, null));
-                removeExceedingResults(maxLength);
-            }
+        final int newLowestResultIndex = Math.max(lowestResultIndex, index - maxLength + 1);
+        final int newLength = index - newLowestResultIndex + 1;
+        if (results == null) {
+            results = createResultsBuffer(capacityFor(newLength));
+        } else if (results.capacity() < newLength) {
+            // Growing the buffer, keeping the cached results from the new lowest index
+            results.resize(capacityFor(newLength),
+                    Math.max(newLowestResultIndex, lowestResultIndex), highestResultIndex);
+        }
+
+        // Clearing the slots of the new results
+        final int firstNewIndex = Math.max(highestResultIndex + 1, newLowestResultIndex);
+        if (index - firstNewIndex + 1 >= results.capacity()) {
+            results.clearAll();
         } else {
-            // First use of cache
-            assert results.isEmpty() : "Cache results list should be empty";
-            results.addAll(Collections.<T> nCopies(Math.min(index+1, maxLength), null));
+            for (int i = firstNewIndex; i <= index; i++) {
+                results.clear(i);
+            }
         }
+        lowestResultIndex = newLowestResultIndex;
+        highestResultIndex = index;
     }
 
     /**
-     * Removes the N first results which exceed the maximum tick count.
-     * (i.e. keeps only the last maximumResultCount results)
-     * @param maximumResultCount the number of results to keep
+     * @param capacity the capacity of the buffer
+     * @return a new results buffer
      */
-    private void removeExceedingResults(int maximumResultCount) {
-        int resultCount = results.size();
-        if (resultCount > maximumResultCount) {
-            // Removing old results
-            final int nbResultsToRemove = resultCount - maximumResultCount;
-            for (int i = 0; i < nbResultsToRemove; i++) {
-                results.remove(0);
-            }
+    @SuppressWarnings("unchecked")
+    ResultsBuffer<T> createResultsBuffer(int capacity) {
+        if (primitiveCache && getTimeSeries().isPrimitiveDecimals()) {
+            return (ResultsBuffer<T>) new ResultsBuffer.PrimitiveDecimalResultsBuffer(capacity);
+        }
+        return new ResultsBuffer.ObjectResultsBuffer<T>(capacity);
+    }
+
+    /**
+     * @param minCapacity the minimum capacity of the results buffer
+     * @return the capacity of the results buffer (a power of two, at least 16)
+     */
+    private static int capacityFor(int minCapacity) {
+        int capacity = Math.max(16, Integer.highestOneBit(minCapacity));
+        if (capacity < minCapacity) {
+            capacity <<= 1;
         }
+        return capacity;
     }
 }
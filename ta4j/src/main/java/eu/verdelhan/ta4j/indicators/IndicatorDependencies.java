@@ -0,0 +1,93 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.Rule;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.trading.rules.AbstractRule;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Dependencies of an {@link Indicator indicator}.
+ * <p>
+ * The dependencies of an indicator are the ones it declares (see {@link AbstractIndicator#getDependencies()});
+ * the indicators used by a strategy are the ones declared by its rules (see {@link AbstractRule#getIndicators()}).
+ */
+final class IndicatorDependencies {
+
+    private IndicatorDependencies() {
+    }
+
+    /**
+     * @param indicator an indicator
+     * @return the indicators the provided indicator directly depends on
+     */
+    static List<Indicator<?>> of(Indicator<?> indicator) {
+        if (indicator instanceof AbstractIndicator) {
+            return ((AbstractIndicator<?>) indicator).getDependencies();
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * @param strategy a strategy
+     * @return the indicators read by the rules of the strategy
+     */
+    static List<Indicator<?>> of(Strategy strategy) {
+        List<Indicator<?>> indicators = new ArrayList<Indicator<?>>(of(strategy.getEntryRule()));
+        for (Indicator<?> indicator : of(strategy.getExitRule())) {
+            if (!containsSame(indicators, indicator)) {
+                indicators.add(indicator);
+            }
+        }
+        return indicators;
+    }
+
+    /**
+     * @param rule a rule
+     * @return the indicators read by the rule
+     */
+    private static List<Indicator<?>> of(Rule rule) {
+        if (rule instanceof AbstractRule) {
+            return ((AbstractRule) rule).getIndicators();
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * @param indicators a list of indicators
+     * @param indicator an indicator
+     * @return true if the list contains the very same indicator, false otherwise
+     */
+    private static boolean containsSame(List<Indicator<?>> indicators, Indicator<?> indicator) {
+        for (Indicator<?> element : indicators) {
+            if (element == indicator) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
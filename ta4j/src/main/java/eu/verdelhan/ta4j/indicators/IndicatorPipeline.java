@@ -0,0 +1,198 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TickListener;
+import eu.verdelhan.ta4j.TimeSeries;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Push-based pipeline of {@link Indicator indicators}.
+ * <p>
+ * The pipeline listens to the ticks added to its time series. Each time a tick is added, the value of every
+ * registered indicator is calculated (and cached) once for the new tick, in dependency order: an indicator
+ * is updated after all the indicators it depends on. The values read afterwards (e.g. by the rules of a
+ * {@link Strategy strategy}) are then already cached, and no indicator recursively calculates the value of
+ * another one on the live path.<br>
+ * The same goes when a tick is modified (e.g. by {@link TimeSeries#addTrade(eu.verdelhan.ta4j.Decimal,
+ * eu.verdelhan.ta4j.Decimal) a trade}): the invalidated results of the last tick are calculated again (the ones
+ * of previous ticks, after a {@link TimeSeries#replaceTick(int, eu.verdelhan.ta4j.Tick) correction}, on their
+ * next reads).
+ * <p>
+ * Typical use in a live bot:
+ * <pre>
+ * Strategy strategy = buildStrategy(series);
+ * new IndicatorPipeline(series).add(strategy);
+ * ...
+ * series.addTick(newTick); // updates the indicators of the strategy
+ * strategy.shouldEnter(series.getEnd()); // reads cached values
+ * </pre>
+ */
+public class IndicatorPipeline implements TickListener {
+
+    private final TimeSeries series;
+
+    /** Registered indicators and their dependencies (in dependency order) */
+    private final List<Indicator<?>> indicators = new ArrayList<Indicator<?>>();
+
+    /** Cached indicators to be updated on each tick (in dependency order) */
+    private volatile List<CachedIndicator<?>> updatedIndicators = new ArrayList<CachedIndicator<?>>();
+
+    /**
+     * Constructor.
+     * <p>
+     * The pipeline starts listening to the ticks added to the series.
+     * @param series the time series
+     */
+    public IndicatorPipeline(TimeSeries series) {
+        if (series == null) {
+            throw new IllegalArgumentException("Series cannot be null");
+        }
+        this.series = series;
+        series.addTickListener(this);
+    }
+
+    /**
+     * Registers an indicator (and the indicators it depends on).
+     * @param indicator the indicator
+     * @return this pipeline
+     * @throws IllegalArgumentException if the indicator is related to another time series
+     */
+    public IndicatorPipeline add(Indicator<?> indicator) {
+        checkSeries(indicator);
+        return register(Collections.<Indicator<?>>singletonList(indicator));
+    }
+
+    /**
+     * Registers the indicators used by the rules of a strategy (and the indicators they depend on).
+     * @param strategy the strategy
+     * @return this pipeline
+     * @throws IllegalArgumentException if an indicator of the strategy is related to another time series
+     */
+    public IndicatorPipeline add(Strategy strategy) {
+        List<Indicator<?>> strategyIndicators = IndicatorDependencies.of(strategy);
+        for (Indicator<?> indicator : strategyIndicators) {
+            checkSeries(indicator);
+        }
+        return register(strategyIndicators);
+    }
+
+    /**
+     * Updates the registered indicators for the provided tick.
+     * @param index the tick index
+     */
+    public void update(int index) {
+        for (CachedIndicator<?> indicator : updatedIndicators) {
+            indicator.getValue(index);
+        }
+    }
+
+    @Override
+    public void tickAdded(TimeSeries series, int index) {
+        update(index);
+    }
+
+    @Override
+    public void tickModified(TimeSeries series, int index) {
+        // The invalidated results are calculated again up to the last tick
+        update(series.getEnd());
+    }
+
+    /**
+     * Stops listening to the ticks of the series.
+     */
+    public void close() {
+        series.removeTickListener(this);
+    }
+
+    /**
+     * @return the registered indicators and the indicators they depend on, in dependency order
+     */
+    public synchronized List<Indicator<?>> getIndicators() {
+        return new ArrayList<Indicator<?>>(indicators);
+    }
+
+    /**
+     * @return the time series
+     */
+    public TimeSeries getTimeSeries() {
+        return series;
+    }
+
+    /**
+     * @param indicator an indicator
+     * @throws IllegalArgumentException if the indicator is related to another time series
+     */
+    private void checkSeries(Indicator<?> indicator) {
+        if (indicator.getTimeSeries() != null && indicator.getTimeSeries() != series) {
+            throw new IllegalArgumentException("Indicator " + indicator + " is not related to the pipeline series");
+        }
+    }
+
+    /**
+     * Registers indicators, sorting them (and their dependencies) after the already registered ones.
+     * @param newIndicators the indicators to be registered
+     * @return this pipeline
+     */
+    private synchronized IndicatorPipeline register(List<Indicator<?>> newIndicators) {
+        Set<Indicator<?>> sorted = Collections.newSetFromMap(new IdentityHashMap<Indicator<?>, Boolean>());
+        sorted.addAll(indicators);
+        Set<Indicator<?>> visiting = Collections.newSetFromMap(new IdentityHashMap<Indicator<?>, Boolean>());
+        for (Indicator<?> indicator : newIndicators) {
+            sort(indicator, sorted, visiting);
+        }
+        List<CachedIndicator<?>> cachedIndicators = new ArrayList<CachedIndicator<?>>();
+        for (Indicator<?> indicator : indicators) {
+            if (indicator instanceof CachedIndicator && indicator.getTimeSeries() == series) {
+                cachedIndicators.add((CachedIndicator<?>) indicator);
+            }
+        }
+        // (Not modified in place: the list may be iterated by a concurrent update)
+        updatedIndicators = cachedIndicators;
+        return this;
+    }
+
+    /**
+     * Topological sort (depth-first, dependencies first).
+     * @param indicator the indicator to be sorted
+     * @param sorted the indicators already sorted
+     * @param visiting the indicators being sorted (i.e. whose dependencies are being sorted)
+     */
+    private void sort(Indicator<?> indicator, Set<Indicator<?>> sorted, Set<Indicator<?>> visiting) {
+        if (sorted.contains(indicator) || !visiting.add(indicator)) {
+            return;
+        }
+        for (Indicator<?> dependency : IndicatorDependencies.of(indicator)) {
+            sort(dependency, sorted, visiting);
+        }
+        visiting.remove(indicator);
+        sorted.add(indicator);
+        indicators.add(indicator);
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TimeSeries;
+
+/**
+ * Linear recursive {@link Indicator indicator}.
+ * <p>
+ * From the {@link #getFirstLinearIndex() first linear index}, the value of the indicator is a linear function of
+ * its previous value: x(i) = a(i) * x(i-1) + b(i). Subclasses only provide the initial values and the coefficients
+ * a(i) and b(i).
+ */
+public abstract class LinearRecursiveIndicator extends RecursiveCachedIndicator<Decimal> {
+
+    /**
+     * 
+     */
+    private static final long serialVersionUID = -6094873263185937624L;
+
+    /**
+     * Constructor.
+     * @param series the related time series
+     */
+    public LinearRecursiveIndicator(TimeSeries series) {
+        super(series);
+    }
+
+    /**
+     * Constructor.
+     * @param indicator a related indicator (with a time series)
+     */
+    public LinearRecursiveIndicator(Indicator<?> indicator) {
+        super(indicator);
+    }
+
+    @Override
+    protected final Decimal calculate(int index) {
+        if (index < getFirstLinearIndex()) {
+            return getInitialValue(index);
+        }
+        return getMultiplier(index).multipliedBy(getValue(index - 1)).plus(getIncrement(index));
+    }
+
+    /**
+     * @return the first index from which x(i) = a(i) * x(i-1) + b(i) (at least 1)
+     */
+    protected int getFirstLinearIndex() {
+        return 1;
+    }
+
+    /**
+     * @param index a tick index (before the first linear index)
+     * @return the value x(i) of the indicator
+     */
+    protected abstract Decimal getInitialValue(int index);
+
+    /**
+     * @param index a tick index (from the first linear index)
+     * @return the multiplier a(i) of the previous value
+     */
+    protected abstract Decimal getMultiplier(int index);
+
+    /**
+     * @param index a tick index (from the first linear index)
+     * @return the increment b(i)
+     */
+    protected abstract Decimal getIncrement(int index);
+}
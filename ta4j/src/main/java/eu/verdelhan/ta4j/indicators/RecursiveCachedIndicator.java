@@ -60,13 +60,14 @@ public abstract class RecursiveCachedIndicator<T> extends CachedIndicator<T> {
      * @param indicator a related indicator (with a time series)
      */
     public RecursiveCachedIndicator(Indicator<?> indicator) {
-        this(indicator.getTimeSeries());
+        super(indicator);
     }
 
     @Override
     public T getValue(int index) {
         TimeSeries series = getTimeSeries();
         if (series != null) {
+            invalidateModifiedResults();
             final int seriesEndIndex = series.getEnd();
             if (index <= seriesEndIndex) {
                 // We are not after the end of the series
@@ -0,0 +1,282 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.Decimal;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Circular buffer of {@link CachedIndicator indicator} results.
+ * <p>
+ * The result for the tick index i is stored in the slot i modulo the capacity of the buffer (a power of two).
+ * A slot may be empty (i.e. result not calculated yet).
+ * @param <T> the type of the results
+ */
+abstract class ResultsBuffer<T> implements Serializable {
+
+    private static final long serialVersionUID = -6113428549416447618L;
+
+    /**
+     * @return the number of slots of the buffer (a power of two)
+     */
+    abstract int capacity();
+
+    /**
+     * @param index a tick index
+     * @return the result for the tick index, or null if the slot is empty
+     */
+    abstract T get(int index);
+
+    /**
+     * @param index a tick index
+     * @param result the result for the tick index
+     */
+    abstract void set(int index, T result);
+
+    /**
+     * Empties the slot of a tick index.
+     * @param index a tick index
+     */
+    abstract void clear(int index);
+
+    /**
+     * Empties all the slots.
+     */
+    abstract void clearAll();
+
+    /**
+     * Changes the capacity of the buffer.
+     * @param capacity the new capacity (a power of two)
+     * @param fromIndex the first tick index (inclusive) of the results to be kept
+     * @param toIndex the last tick index (inclusive) of the results to be kept
+     */
+    abstract void resize(int capacity, int fromIndex, int toIndex);
+
+    /**
+     * Buffer of objects.
+     */
+    static final class ObjectResultsBuffer<T> extends ResultsBuffer<T> {
+
+        private static final long serialVersionUID = 2770106001406108569L;
+
+        private Object[] results;
+
+        ObjectResultsBuffer(int capacity) {
+            results = new Object[capacity];
+        }
+
+        @Override
+        int capacity() {
+            return results.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        T get(int index) {
+            return (T) results[index & (results.length - 1)];
+        }
+
+        @Override
+        void set(int index, T result) {
+            results[index & (results.length - 1)] = result;
+        }
+
+        @Override
+        void clear(int index) {
+            results[index & (results.length - 1)] = null;
+        }
+
+        @Override
+        void clearAll() {
+            Arrays.fill(results, null);
+        }
+
+        @Override
+        void resize(int capacity, int fromIndex, int toIndex) {
+            Object[] newResults = new Object[capacity];
+            for (int i = fromIndex; i <= toIndex; i++) {
+                newResults[i & (capacity - 1)] = results[i & (results.length - 1)];
+            }
+            results = newResults;
+        }
+    }
+
+    /**
+     * Buffer of primitive {@link Decimal decimals}, stored as doubles.
+     * <p>
+     * Takes 8 bytes per result. Empty slots hold a dedicated NaN sentinel (Decimal.NaN being stored as a standard NaN).
+     * <p>
+     * The last boxed result is kept and returned again while the slot read holds the same value (e.g. when the result
+     * of the last tick is read by several rules or indicators), so that these reads do not allocate.
+     */
+    static final class PrimitiveDecimalResultsBuffer extends ResultsBuffer<Decimal> {
+
+        private static final long serialVersionUID = -1573214338071924035L;
+
+        /** Bits of the (NaN) value of empty slots */
+        private static final long EMPTY_SLOT_BITS = 0x7ff80000deadbeefL;
+
+        private static final double EMPTY_SLOT = Double.longBitsToDouble(EMPTY_SLOT_BITS);
+
+        private double[] results;
+
+        /** Last boxed result (immutable, so that it can be shared without synchronization) */
+        private transient Decimal lastResult;
+
+        PrimitiveDecimalResultsBuffer(int capacity) {
+            results = new double[capacity];
+            Arrays.fill(results, EMPTY_SLOT);
+        }
+
+        @Override
+        int capacity() {
+            return results.length;
+        }
+
+        @Override
+        Decimal get(int index) {
+            double result = results[index & (results.length - 1)];
+            if (Double.isNaN(result)) {
+                return Double.doubleToRawLongBits(result) == EMPTY_SLOT_BITS ? null : Decimal.NaN;
+            }
+            Decimal boxedResult = lastResult;
+            if (boxedResult == null
+                    || Double.doubleToRawLongBits(boxedResult.toDouble()) != Double.doubleToRawLongBits(result)) {
+                boxedResult = Decimal.primitiveValueOf(result);
+                lastResult = boxedResult;
+            }
+            return boxedResult;
+        }
+
+        @Override
+        void set(int index, Decimal result) {
+            results[index & (results.length - 1)] = result == null ? EMPTY_SLOT : result.toDouble();
+            if (result != null && result.isPrimitive()) {
+                lastResult = result;
+            }
+        }
+
+        @Override
+        void clear(int index) {
+            results[index & (results.length - 1)] = EMPTY_SLOT;
+        }
+
+        @Override
+        void clearAll() {
+            Arrays.fill(results, EMPTY_SLOT);
+        }
+
+        @Override
+        void resize(int capacity, int fromIndex, int toIndex) {
+            double[] newResults = new double[capacity];
+            Arrays.fill(newResults, EMPTY_SLOT);
+            for (int i = fromIndex; i <= toIndex; i++) {
+                newResults[i & (capacity - 1)] = results[i & (results.length - 1)];
+            }
+            results = newResults;
+        }
+    }
+
+    /**
+     * Buffer of booleans, stored in two bit sets (calculated slots and values).
+     * <p>
+     * Takes 2 bits per result.
+     */
+    static final class BooleanResultsBuffer extends ResultsBuffer<Boolean> {
+
+        private static final long serialVersionUID = 5178427436862513617L;
+
+        private int capacity;
+
+        /** Calculated slots */
+        private BitSet calculated;
+
+        /** Values of the slots (always false for the slots not calculated) */
+        private BitSet values;
+
+        BooleanResultsBuffer(int capacity) {
+            this.capacity = capacity;
+            calculated = new BitSet(capacity);
+            values = new BitSet(capacity);
+        }
+
+        @Override
+        int capacity() {
+            return capacity;
+        }
+
+        @Override
+        Boolean get(int index) {
+            final int slot = index & (capacity - 1);
+            if (!calculated.get(slot)) {
+                return null;
+            }
+            return values.get(slot);
+        }
+
+        @Override
+        void set(int index, Boolean result) {
+            final int slot = index & (capacity - 1);
+            if (result == null) {
+                calculated.clear(slot);
+                values.clear(slot);
+            } else {
+                calculated.set(slot);
+                values.set(slot, result);
+            }
+        }
+
+        @Override
+        void clear(int index) {
+            final int slot = index & (capacity - 1);
+            calculated.clear(slot);
+            values.clear(slot);
+        }
+
+        @Override
+        void clearAll() {
+            calculated.clear();
+            values.clear();
+        }
+
+        @Override
+        void resize(int capacity, int fromIndex, int toIndex) {
+            BitSet newCalculated = new BitSet(capacity);
+            BitSet newValues = new BitSet(capacity);
+            for (int i = calculated.nextSetBit(0); i >= 0; i = calculated.nextSetBit(i + 1)) {
+                // Slot i holds the result of the only index of [fromIndex, toIndex] congruent to i
+                int index = toIndex - ((toIndex - i) & (this.capacity - 1));
+                if (index >= fromIndex) {
+                    int newSlot = index & (capacity - 1);
+                    newCalculated.set(newSlot);
+                    newValues.set(newSlot, values.get(i));
+                }
+            }
+            this.capacity = capacity;
+            calculated = newCalculated;
+            values = newValues;
+        }
+    }
+}
@@ -25,14 +25,15 @@ package eu.verdelhan.ta4j.indicators.candles;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.CachedBooleanIndicator;
+import java.util.List;
 
 /**
  * Bullish engulfing pattern indicator.
  * <p>
  * @see http://www.investopedia.com/terms/b/bullishengulfingpattern.asp
  */
-public class BullishEngulfingIndicator extends CachedIndicator<Boolean> {
+public class BullishEngulfingIndicator extends CachedBooleanIndicator {
 
     /**
      * 
@@ -67,4 +68,15 @@ public class BullishEngulfingIndicator extends CachedIndicator<Boolean> {
         }
         return false;
     }
+
+    @Override
+    protected int getLookBack() {
+        return 2;
+    }
+
+    @Override
+    protected List<Boolean> calculateRange(int startIndex, int endIndex) {
+        // No state: the values can be calculated in any order
+        return calculateEach(startIndex, endIndex);
+    }
 }
@@ -25,9 +25,10 @@ package eu.verdelhan.ta4j.indicators.candles;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.CachedBooleanIndicator;
 import eu.verdelhan.ta4j.indicators.simple.AbsoluteIndicator;
 import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import java.util.List;
 
 /**
  * Doji indicator.
@@ -35,7 +36,7 @@ import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
  * A candle/tick is considered Doji if its body height is lower than the average multiplied by a factor.
  * @see http://stockcharts.com/school/doku.php?id=chart_school:chart_analysis:introduction_to_candlesticks#doji
  */
-public class DojiIndicator extends CachedIndicator<Boolean> {
+public class DojiIndicator extends CachedBooleanIndicator {
 
     /**
      * 
@@ -59,6 +60,7 @@ public class DojiIndicator extends CachedIndicator<Boolean> {
         bodyHeightInd = new AbsoluteIndicator(new RealBodyIndicator(series));
         averageBodyHeightInd = new SMAIndicator(bodyHeightInd, timeFrame);
         factor = bodyFactor;
+        dependsOn(bodyHeightInd, averageBodyHeightInd);
     }
 
     @Override
@@ -72,4 +74,15 @@ public class DojiIndicator extends CachedIndicator<Boolean> {
         
         return currentBodyHeight.isLessThan(averageBodyHeight.multipliedBy(factor));
     }
+
+    @Override
+    protected int getLookBack() {
+        return 2;
+    }
+
+    @Override
+    protected List<Boolean> calculateRange(int startIndex, int endIndex) {
+        // No state: the values can be calculated in any order
+        return calculateEach(startIndex, endIndex);
+    }
 }
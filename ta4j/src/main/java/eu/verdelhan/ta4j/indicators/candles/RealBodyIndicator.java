@@ -26,6 +26,7 @@ import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import java.util.List;
 
 /**
  * Real (candle) body height indicator.
@@ -56,4 +57,15 @@ public class RealBodyIndicator extends CachedIndicator<Decimal> {
         Tick t = series.getTick(index);
         return t.getClosePrice().minus(t.getOpenPrice());
     }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
+
+    @Override
+    protected List<Decimal> calculateRange(int startIndex, int endIndex) {
+        // No state: the values can be calculated in any order
+        return calculateEach(startIndex, endIndex);
+    }
 }
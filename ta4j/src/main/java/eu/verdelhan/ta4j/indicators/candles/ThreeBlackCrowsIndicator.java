@@ -25,7 +25,7 @@ package eu.verdelhan.ta4j.indicators.candles;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.CachedBooleanIndicator;
 import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
 
 /**
@@ -33,7 +33,7 @@ import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
  * <p>
  * @see http://www.investopedia.com/terms/t/three_black_crows.asp
  */
-public class ThreeBlackCrowsIndicator extends CachedIndicator<Boolean> {
+public class ThreeBlackCrowsIndicator extends CachedBooleanIndicator {
 
     /**
      * 
@@ -62,6 +62,7 @@ public class ThreeBlackCrowsIndicator extends CachedIndicator<Boolean> {
         this.series = series;
         lowerShadowInd = new LowerShadowIndicator(series);
         averageLowerShadowInd = new SMAIndicator(lowerShadowInd, timeFrame);
+        dependsOn(lowerShadowInd, averageLowerShadowInd);
         this.factor = factor;
     }
 
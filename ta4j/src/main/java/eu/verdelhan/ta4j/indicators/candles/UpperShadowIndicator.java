@@ -26,6 +26,7 @@ import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import java.util.List;
 
 /**
  * Upper shadow height indicator.
@@ -64,4 +65,15 @@ public class UpperShadowIndicator extends CachedIndicator<Decimal> {
             return t.getMaxPrice().minus(openPrice);
         }
     }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
+
+    @Override
+    protected List<Decimal> calculateRange(int startIndex, int endIndex) {
+        // No state: the values can be calculated in any order
+        return calculateEach(startIndex, endIndex);
+    }
 }
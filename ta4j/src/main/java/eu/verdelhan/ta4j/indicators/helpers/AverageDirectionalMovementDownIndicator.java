@@ -44,6 +44,7 @@ public class AverageDirectionalMovementDownIndicator extends RecursiveCachedIndi
         super(series);
         this.timeFrame = timeFrame;
         dmdown = new DirectionalMovementDownIndicator(series);
+        dependsOn(dmdown);
     }
 
     @Override
@@ -45,6 +45,7 @@ public class AverageDirectionalMovementUpIndicator extends RecursiveCachedIndica
         super(series);
         this.timeFrame = timeFrame;
         dmup = new DirectionalMovementUpIndicator(series);
+        dependsOn(dmup);
     }
 
     @Override
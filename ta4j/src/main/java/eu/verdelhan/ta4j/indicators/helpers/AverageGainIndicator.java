@@ -45,6 +45,7 @@ public class AverageGainIndicator extends CachedIndicator<Decimal> {
         super(indicator);
         this.cumulatedGains = new CumulatedGainsIndicator(indicator, timeFrame);
         this.timeFrame = timeFrame;
+        dependsOn(cumulatedGains);
     }
 
     @Override
@@ -52,4 +53,9 @@ public class AverageGainIndicator extends CachedIndicator<Decimal> {
         final int realTimeFrame = Math.min(timeFrame, index + 1);
         return cumulatedGains.getValue(index).dividedBy(Decimal.valueOf(realTimeFrame));
     }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
 }
@@ -45,6 +45,7 @@ public class AverageLossIndicator extends CachedIndicator<Decimal> {
         super(indicator);
         this.cumulatedLosses = new CumulatedLossesIndicator(indicator, timeFrame);
         this.timeFrame = timeFrame;
+        dependsOn(cumulatedLosses);
     }
 
     @Override
@@ -52,4 +53,9 @@ public class AverageLossIndicator extends CachedIndicator<Decimal> {
         final int realTimeFrame = Math.min(timeFrame, index + 1);
         return cumulatedLosses.getValue(index).dividedBy(Decimal.valueOf(realTimeFrame));
     }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
 }
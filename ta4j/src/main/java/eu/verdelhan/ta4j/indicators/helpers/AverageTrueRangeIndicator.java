@@ -43,6 +43,7 @@ public class AverageTrueRangeIndicator extends RecursiveCachedIndicator<Decimal>
         super(series);
         this.timeFrame = timeFrame;
         this.tr = new TrueRangeIndicator(series);
+        dependsOn(tr);
     }
     
     @Override
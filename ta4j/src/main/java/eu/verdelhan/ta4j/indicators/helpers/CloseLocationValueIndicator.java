@@ -53,4 +53,9 @@ public class CloseLocationValueIndicator extends CachedIndicator<Decimal> {
         return ((tick.getClosePrice().minus(tick.getMinPrice())).minus(tick.getMaxPrice().minus(tick.getClosePrice())))
                  .dividedBy(tick.getMaxPrice().minus(tick.getMinPrice()));
     }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
 }
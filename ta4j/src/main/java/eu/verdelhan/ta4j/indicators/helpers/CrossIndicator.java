@@ -24,14 +24,18 @@ package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.CachedBooleanIndicator;
 
 /**
  * Cross indicator.
  * <p>
  * Boolean indicator which monitors two-indicators crossings.
+ * <p>
+ * The last tick where the indicators were not equal is tracked while the indicator moves forward: on sequential
+ * calculation, the values in a flat run (i.e. equal values) are not scanned again.
  */
-public class CrossIndicator extends CachedIndicator<Boolean> {
+public class CrossIndicator extends CachedBooleanIndicator {
 
     /**
      * 
@@ -42,6 +46,15 @@ public class CrossIndicator extends CachedIndicator<Boolean> {
     /** Lower indicator */
     private final Indicator<Decimal> low;
 
+    /** Index up to which the last non-equal indexes are known */
+    private int stateIndex = -1;
+
+    /** Last index in [1, stateIndex] where up is not equal to low (0 if none) */
+    private int lastNonEqualIndex;
+
+    /** Last index in [1, stateIndex - 1] where up is not equal to low (0 if none, -1 if unknown) */
+    private int previousNonEqualIndex;
+
     /**
      * Constructor.
      * @param up the upper indicator
@@ -49,29 +62,94 @@ public class CrossIndicator extends CachedIndicator<Boolean> {
      */
     public CrossIndicator(Indicator<Decimal> up, Indicator<Decimal> low) {
         // TODO: check if up series is equal to low series
-        super(up);
+        super(seriesOf(up, low));
         this.up = up;
         this.low = low;
+        dependsOn(up, low);
+    }
+
+    /**
+     * @param up the upper indicator
+     * @param low the lower indicator
+     * @return the series of the upper indicator, or the one of the lower indicator if the upper one has none (e.g. a
+     *         constant), so that the tick modifications are tracked
+     */
+    private static TimeSeries seriesOf(Indicator<Decimal> up, Indicator<Decimal> low) {
+        final TimeSeries series = up.getTimeSeries();
+        return series != null ? series : low.getTimeSeries();
     }
 
     @Override
     protected Boolean calculate(int index) {
 
-        int i = index;
-        if (i == 0 || up.getValue(i).isGreaterThanOrEqual(low.getValue(i))) {
+        if (index == 0) {
             return false;
         }
-
-        i--;
-        if (up.getValue(i).isGreaterThan(low.getValue(i))) {
+        int i = moveTo(index);
+        if (up.getValue(index).isGreaterThanOrEqual(low.getValue(index))) {
+            return false;
+        }
+        if (up.getValue(index - 1).isGreaterThan(low.getValue(index - 1))) {
             return true;
-        } else {
+        }
+        return (i != 0) && (up.getValue(i).isGreaterThan(low.getValue(i)));
+    }
+
+    @Override
+    protected int resetStateFrom(int index) {
+        if (index <= stateIndex) {
+            if (index == stateIndex && stateIndex > 0 && previousNonEqualIndex >= 0) {
+                // Moving back to the previous index (the non-equal index before it is unknown)
+                lastNonEqualIndex = previousNonEqualIndex;
+                previousNonEqualIndex = -1;
+                stateIndex--;
+            } else {
+                stateIndex = -1;
+            }
+        }
+        return index;
+    }
 
-            while (i > 0 && up.getValue(i).isEqual(low.getValue(i))) {
-                i--;
+    /**
+     * Moves the tracked non-equal indexes to the provided index.
+     * <p>
+     * Sequential moves are O(1). Otherwise (or when the tracked tick has been removed from the series) the
+     * previous ticks are scanned backwards until a non-equal one is found.
+     * @param index the tick index
+     * @return the last index before the provided one where up is not equal to low (0 if none)
+     */
+    private int moveTo(int index) {
+        if (index != stateIndex) {
+            if (index == stateIndex + 1) {
+                previousNonEqualIndex = lastNonEqualIndex;
+            } else {
+                previousNonEqualIndex = scanNonEqualIndex(index - 1);
             }
-            return (i != 0) && (up.getValue(i).isGreaterThan(low.getValue(i)));
+            lastNonEqualIndex = up.getValue(index).isEqual(low.getValue(index)) ? previousNonEqualIndex : index;
+            stateIndex = index;
+        } else if (previousNonEqualIndex < 0) {
+            // Unknown after a move back: scanning again
+            previousNonEqualIndex = scanNonEqualIndex(index - 1);
+        }
+        TimeSeries series = getTimeSeries();
+        if (series != null && previousNonEqualIndex > 0 && previousNonEqualIndex < series.getRemovedTicksCount()) {
+            // Non-equal tick removed from the series: scanning again
+            previousNonEqualIndex = scanNonEqualIndex(index - 1);
+        }
+        return previousNonEqualIndex;
+    }
+
+    /**
+     * @param index the tick index to scan from
+     * @return the last index (starting from the provided one and scanning backwards) where up is not equal to low
+     * (0 if none)
+     */
+    private int scanNonEqualIndex(int index) {
+        int i = index;
+        while (i > 0 && up.getValue(i).isEqual(low.getValue(i))) {
+            i--;
         }
+        return Math.max(i, 0);
     }
 
     /**
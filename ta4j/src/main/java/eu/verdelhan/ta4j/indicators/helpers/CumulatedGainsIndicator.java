@@ -29,6 +29,7 @@ import eu.verdelhan.ta4j.indicators.CachedIndicator;
 /**
  * Cumulated gains indicator.
  * <p>
+ * The sum of the gains over the time frame is updated in O(1) on sequential calculation (see {@link RollingSums}).
  */
 public class CumulatedGainsIndicator extends CachedIndicator<Decimal> {
 
@@ -37,24 +38,54 @@ public class CumulatedGainsIndicator extends CachedIndicator<Decimal> {
      */
     private static final long serialVersionUID = -1898544308698352057L;
 
-    private final Indicator<Decimal> indicator;
-
-    private final int timeFrame;
+    private final GainSums sums;
 
     public CumulatedGainsIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
-        this.indicator = indicator;
-        this.timeFrame = timeFrame;
+        sums = new GainSums(indicator, timeFrame);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        Decimal sumOfGains = Decimal.ZERO;
-        for (int i = Math.max(1, index - timeFrame + 1); i <= index; i++) {
-            if (indicator.getValue(i).isGreaterThan(indicator.getValue(i - 1))) {
-                sumOfGains = sumOfGains.plus(indicator.getValue(i).minus(indicator.getValue(i - 1)));
+        sums.moveTo(index);
+        return sums.getSum(0);
+    }
+
+    @Override
+    protected int getLookBack() {
+        return sums.getLookBack();
+    }
+
+    @Override
+    protected int resetStateFrom(int index) {
+        sums.invalidateFrom(index);
+        return index;
+    }
+
+    /**
+     * Rolling sum of the gains.
+     */
+    private static class GainSums extends RollingSums {
+
+        private static final long serialVersionUID = 4123705853425318632L;
+
+        private final Indicator<Decimal> indicator;
+
+        GainSums(Indicator<Decimal> indicator, int timeFrame) {
+            super(indicator.getTimeSeries(), timeFrame, 1, 1);
+            this.indicator = indicator;
+        }
+
+        @Override
+        protected void getTerms(int index, Decimal[] terms) {
+            terms[0] = Decimal.ZERO;
+            if (index > 0) {
+                Decimal current = indicator.getValue(index);
+                Decimal previous = indicator.getValue(index - 1);
+                if (current.isGreaterThan(previous)) {
+                    terms[0] = current.minus(previous);
+                }
             }
         }
-        return sumOfGains;
     }
 }
@@ -29,6 +29,7 @@ import eu.verdelhan.ta4j.indicators.CachedIndicator;
 /**
  * Cumulated losses indicator.
  * <p>
+ * The sum of the losses over the time frame is updated in O(1) on sequential calculation (see {@link RollingSums}).
  */
 public class CumulatedLossesIndicator extends CachedIndicator<Decimal> {
 
@@ -37,24 +38,54 @@ public class CumulatedLossesIndicator extends CachedIndicator<Decimal> {
      */
     private static final long serialVersionUID = 5181754774126824521L;
 
-    private final Indicator<Decimal> indicator;
-
-    private final int timeFrame;
+    private final LossSums sums;
 
     public CumulatedLossesIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
-        this.indicator = indicator;
-        this.timeFrame = timeFrame;
+        sums = new LossSums(indicator, timeFrame);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        Decimal sumOfLosses = Decimal.ZERO;
-        for (int i = Math.max(1, index - timeFrame + 1); i <= index; i++) {
-            if (indicator.getValue(i).isLessThan(indicator.getValue(i - 1))) {
-                sumOfLosses = sumOfLosses.plus(indicator.getValue(i - 1).minus(indicator.getValue(i)));
+        sums.moveTo(index);
+        return sums.getSum(0);
+    }
+
+    @Override
+    protected int getLookBack() {
+        return sums.getLookBack();
+    }
+
+    @Override
+    protected int resetStateFrom(int index) {
+        sums.invalidateFrom(index);
+        return index;
+    }
+
+    /**
+     * Rolling sum of the losses.
+     */
+    private static class LossSums extends RollingSums {
+
+        private static final long serialVersionUID = -2769215634716829404L;
+
+        private final Indicator<Decimal> indicator;
+
+        LossSums(Indicator<Decimal> indicator, int timeFrame) {
+            super(indicator.getTimeSeries(), timeFrame, 1, 1);
+            this.indicator = indicator;
+        }
+
+        @Override
+        protected void getTerms(int index, Decimal[] terms) {
+            terms[0] = Decimal.ZERO;
+            if (index > 0) {
+                Decimal current = indicator.getValue(index);
+                Decimal previous = indicator.getValue(index - 1);
+                if (current.isLessThan(previous)) {
+                    terms[0] = previous.minus(current);
+                }
             }
         }
-        return sumOfLosses;
     }
 }
@@ -46,6 +46,7 @@ public class DirectionalDownIndicator extends CachedIndicator<Decimal>{
         this.admdown = new AverageDirectionalMovementDownIndicator(series, timeFrame);
         this.atr = new AverageTrueRangeIndicator(series, timeFrame);
         this.timeFrame = timeFrame;
+        dependsOn(admdown, atr);
     }
 
     @Override
@@ -53,6 +54,11 @@ public class DirectionalDownIndicator extends CachedIndicator<Decimal>{
         return admdown.getValue(index).dividedBy(atr.getValue(index));
     }
 
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: "+ timeFrame;
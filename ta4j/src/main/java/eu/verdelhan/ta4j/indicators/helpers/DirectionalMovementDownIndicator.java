@@ -59,4 +59,9 @@ public class DirectionalMovementDownIndicator extends CachedIndicator<Decimal>{
         }
         return prevMinPrice.minus(minPrice);
     }
+
+    @Override
+    protected int getLookBack() {
+        return 2;
+    }
 }
@@ -63,4 +63,9 @@ public class DirectionalMovementUpIndicator extends CachedIndicator<Decimal>
         
         return Decimal.ZERO;
     }
+
+    @Override
+    protected int getLookBack() {
+        return 2;
+    }
 }
@@ -46,6 +46,7 @@ public class DirectionalUpIndicator extends CachedIndicator<Decimal>{
         this.admup = new AverageDirectionalMovementUpIndicator(series, timeFrame);
         this.atr = new AverageTrueRangeIndicator(series, timeFrame);
         this.timeFrame = timeFrame;
+        dependsOn(admup, atr);
     }
 
     @Override
@@ -53,6 +54,11 @@ public class DirectionalUpIndicator extends CachedIndicator<Decimal>{
         return admup.getValue(index).dividedBy(atr.getValue(index));
     }
 
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
@@ -25,10 +25,13 @@ package eu.verdelhan.ta4j.indicators.helpers;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Highest value indicator.
  * <p>
+ * Sequential calculations are amortized O(1) (using a monotonic deque of tick indexes).
  */
 public class HighestValueIndicator extends CachedIndicator<Decimal> {
 
@@ -41,22 +44,55 @@ public class HighestValueIndicator extends CachedIndicator<Decimal> {
 
     private final int timeFrame;
 
+    private final SlidingExtremum extremum;
+
     public HighestValueIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
         this.indicator = indicator;
         this.timeFrame = timeFrame;
+        extremum = new SlidingExtremum(indicator, timeFrame, true);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        int start = Math.max(0, index - timeFrame + 1);
-        Decimal highest = indicator.getValue(start);
-        for (int i = start + 1; i <= index; i++) {
-            if (highest.isLessThan(indicator.getValue(i))) {
-                highest = indicator.getValue(i);
-            }
+        extremum.moveTo(index);
+        return extremum.getValue();
+    }
+
+    @Override
+    protected int getLookBack() {
+        return timeFrame;
+    }
+
+    @Override
+    protected int resetStateFrom(int index) {
+        extremum.invalidateFrom(index);
+        return index;
+    }
+
+    @Override
+    protected List<Decimal> calculateRange(int startIndex, int endIndex) {
+        List<Decimal> values = new ArrayList<Decimal>(endIndex - startIndex + 1);
+        SlidingExtremum rangeExtremum = new SlidingExtremum(indicator, timeFrame, true);
+        for (int index = startIndex; index <= endIndex; index++) {
+            rangeExtremum.moveTo(index);
+            values.add(rangeExtremum.getValue());
+        }
+        return values;
+    }
+
+    /**
+     * @param index the tick index
+     * @return the index of the highest value over the time frame ending at index (the most recent one if several);
+     *         if none (i.e. only NaN values) the index preceding the time frame
+     */
+    public int getHighestValueIndex(int index) {
+        // (The tracked window may be invalidated by modified ticks)
+        invalidateModifiedResults();
+        if (extremum.getEndIndex() != index) {
+            extremum.moveTo(index);
         }
-        return highest;
+        return extremum.getIndex();
     }
 
     @Override
@@ -30,6 +30,9 @@ import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
 /**
  * Mean deviation indicator.
  * <p>
+ * The absolute deviations are summed in O(log n) from the values lower than the average and the values greater
+ * than the average (see {@link SlidingOrderStatistics}), instead of scanning the time frame.
+ * <p>
  * @see http://en.wikipedia.org/wiki/Mean_absolute_deviation#Average_absolute_deviation
  */
 public class MeanDeviationIndicator extends CachedIndicator<Decimal> {
@@ -39,11 +42,11 @@ public class MeanDeviationIndicator extends CachedIndicator<Decimal> {
      */
     private static final long serialVersionUID = 1146429234278028519L;
 
-    private Indicator<Decimal> indicator;
-
     private int timeFrame;
 
     private SMAIndicator sma;
+
+    private final SlidingOrderStatistics statistics;
     
     /**
      * Constructor.
@@ -52,26 +55,41 @@ public class MeanDeviationIndicator extends CachedIndicator<Decimal> {
      */
     public MeanDeviationIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
-        this.indicator = indicator;
         this.timeFrame = timeFrame;
         sma = new SMAIndicator(indicator, timeFrame);
+        statistics = new SlidingOrderStatistics(indicator, timeFrame);
+        dependsOn(sma);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        Decimal absoluteDeviations = Decimal.ZERO;
-
+        statistics.moveTo(index);
         final Decimal average = sma.getValue(index);
-        final int startIndex = Math.max(0, index - timeFrame + 1);
-        final int nbValues = index - startIndex + 1;
-
-        for (int i = startIndex; i <= index; i++) {
-            // For each period...
-            absoluteDeviations = absoluteDeviations.plus(indicator.getValue(i).minus(average).abs());
+        if (statistics.hasNaN() || average.isNaN()) {
+            return Decimal.NaN;
         }
+
+        // Sum of |value - average| = (average * nbLowerValues - lowerSum) + (higherSum - average * nbHigherValues)
+        final int nbValues = statistics.getCount();
+        final int nbLowerValues = statistics.countLowerThan(average);
+        final Decimal lowerSum = statistics.sumLowerThan(average);
+        final Decimal higherSum = statistics.getSum().minus(lowerSum);
+        Decimal absoluteDeviations = average.multipliedBy(Decimal.valueOf(nbLowerValues)).minus(lowerSum)
+                .plus(higherSum.minus(average.multipliedBy(Decimal.valueOf(nbValues - nbLowerValues))));
         return absoluteDeviations.dividedBy(Decimal.valueOf(nbValues));
     }
 
+    @Override
+    protected int getLookBack() {
+        return timeFrame;
+    }
+
+    @Override
+    protected int resetStateFrom(int index) {
+        statistics.invalidateFrom(index);
+        return index;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
@@ -0,0 +1,253 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.helpers;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.TimeSeries;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Sums of terms over a rolling window of ticks.
+ * <p>
+ * When the window is moved sequentially (i.e. from the window ending at index-1 to the one ending at index),
+ * the sums are updated in O(1): the terms of the new tick are added and the ones of the dropped ticks are
+ * subtracted (or the sums are started again from zero if the new window does not overlap the previous one, e.g.
+ * on a new session). The sums are fully recalculated on any other move, when a dropped tick has been removed from
+ * the series, after a NaN term, and every {@value #MAX_INCREMENTAL_UPDATES} incremental updates (to bound
+ * the accumulation of rounding errors).
+ * <p>
+ * By default the window is the time frame ending at the index; it may be redefined by overriding
+ * {@link #getStartIndex(int)}, as long as its start index never decreases.
+ */
+public abstract class RollingSums implements Serializable {
+
+    private static final long serialVersionUID = -2410532467693413562L;
+
+    /** Maximum number of successive incremental updates of the sums */
+    public static final int MAX_INCREMENTAL_UPDATES = 1024;
+
+    private final TimeSeries series;
+
+    private final int timeFrame;
+
+    /** Number of previous ticks the terms of a tick depend on */
+    private final int lookback;
+
+    private final Decimal[] sums;
+
+    /** Sums of the window ending at endIndex - 1 (if available) */
+    private final Decimal[] previousSums;
+
+    /** Index of the first tick of the window ending at endIndex - 1 (if available) */
+    private int previousStartIndex;
+
+    /** True if the sums of the window ending at endIndex - 1 are available */
+    private boolean previousSumsAvailable;
+
+    /** Terms of a tick (reused buffer) */
+    private final Decimal[] terms;
+
+    /** Index of the first tick of the window */
+    private int startIndex;
+
+    /** Index of the last tick of the window (-1 if none) */
+    private int endIndex = -1;
+
+    /** Number of incremental updates since the last full calculation of the sums */
+    private int incrementalUpdates;
+
+    /**
+     * Constructor.
+     * @param series the time series of the terms (may be null)
+     * @param timeFrame the time frame
+     * @param sumCount the number of sums
+     */
+    protected RollingSums(TimeSeries series, int timeFrame, int sumCount) {
+        this(series, timeFrame, sumCount, 0);
+    }
+
+    /**
+     * Constructor.
+     * @param series the time series of the terms (may be null)
+     * @param timeFrame the time frame
+     * @param sumCount the number of sums
+     * @param lookback the number of previous ticks the terms of a tick depend on (e.g. 1 for price changes)
+     */
+    protected RollingSums(TimeSeries series, int timeFrame, int sumCount, int lookback) {
+        this.series = series;
+        this.timeFrame = timeFrame;
+        this.lookback = lookback;
+        sums = new Decimal[sumCount];
+        previousSums = new Decimal[sumCount];
+        terms = new Decimal[sumCount];
+    }
+
+    /**
+     * @param index a tick index
+     * @param terms the array to be filled with the terms of the sums for the tick
+     */
+    protected abstract void getTerms(int index, Decimal[] terms);
+
+    /**
+     * Called before a full calculation of the sums (e.g. to re-anchor the terms).
+     * @param startIndex the first index of the window
+     * @param endIndex the last index of the window
+     */
+    protected void beforeRecalculation(int startIndex, int endIndex) {
+    }
+
+    /**
+     * @param index the last index of a window
+     * @return the first index of the window
+     */
+    protected int getStartIndex(int index) {
+        return Math.max(0, index - timeFrame + 1);
+    }
+
+    /**
+     * @return the number of ticks the sums of a window depend on (e.g. to be returned as the
+     *         {@link eu.verdelhan.ta4j.indicators.CachedIndicator#getLookBack() look-back} of an indicator using
+     *         the sums)
+     */
+    public int getLookBack() {
+        return (int) Math.min((long) timeFrame + lookback, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Moves the window so that it ends at the provided index.
+     * @param index the last index of the window
+     */
+    public void moveTo(int index) {
+        final int newStartIndex = getStartIndex(index);
+        if (index == endIndex + 1 && endIndex >= 0 && newStartIndex > endIndex) {
+            // No overlap with the current window (e.g. new session): summing the new terms only
+            savePreviousSums();
+            Arrays.fill(sums, Decimal.ZERO);
+            for (int i = newStartIndex; i <= index; i++) {
+                add(i, true);
+            }
+            incrementalUpdates = 0;
+        } else if (index == endIndex + 1 && canSlide(newStartIndex)) {
+            savePreviousSums();
+            add(index, true);
+            for (int i = startIndex; i < newStartIndex; i++) {
+                add(i, false);
+            }
+            incrementalUpdates++;
+        } else {
+            beforeRecalculation(newStartIndex, index);
+            Arrays.fill(sums, Decimal.ZERO);
+            for (int i = newStartIndex; i <= index; i++) {
+                add(i, true);
+            }
+            incrementalUpdates = 0;
+            previousSumsAvailable = false;
+        }
+        startIndex = newStartIndex;
+        endIndex = index;
+    }
+
+    /**
+     * Invalidates the sums which depend on the ticks from the provided index (e.g. after a modification of
+     * the ticks).
+     * <p>
+     * When only the last tick of the window is invalidated, the window is moved back to the previous tick (in O(1)).
+     * Otherwise the sums are fully recalculated on the next move.
+     * @param index the index of the first modified tick
+     */
+    public void invalidateFrom(int index) {
+        if (index > endIndex) {
+            return;
+        }
+        if (index == endIndex && previousSumsAvailable) {
+            System.arraycopy(previousSums, 0, sums, 0, sums.length);
+            startIndex = previousStartIndex;
+            endIndex--;
+        } else {
+            endIndex = -1;
+        }
+        previousSumsAvailable = false;
+    }
+
+    /**
+     * @param i the index of a sum
+     * @return the sum over the window
+     */
+    public Decimal getSum(int i) {
+        return sums[i];
+    }
+
+    /**
+     * @return the number of ticks in the window
+     */
+    public int getTickCount() {
+        return endIndex - startIndex + 1;
+    }
+
+    /**
+     * @return the last index of the window (-1 if none)
+     */
+    public int getEndIndex() {
+        return endIndex;
+    }
+
+    /**
+     * @param newStartIndex the first index of the new window
+     * @return true if the sums of the new window can be calculated from the current ones
+     */
+    private boolean canSlide(int newStartIndex) {
+        if (endIndex < 0 || newStartIndex < startIndex || incrementalUpdates >= MAX_INCREMENTAL_UPDATES) {
+            return false;
+        }
+        for (Decimal sum : sums) {
+            if (sum.isNaN()) {
+                return false;
+            }
+        }
+        // The dropped terms must still be available
+        return newStartIndex == startIndex || series == null
+                || startIndex - lookback >= series.getRemovedTicksCount();
+    }
+
+    /**
+     * Saves the sums of the current window (before moving to the next tick).
+     */
+    private void savePreviousSums() {
+        System.arraycopy(sums, 0, previousSums, 0, sums.length);
+        previousStartIndex = startIndex;
+        previousSumsAvailable = true;
+    }
+
+    /**
+     * Adds (or subtracts) the terms of a tick to the sums.
+     * @param index the tick index
+     * @param add true to add the terms, false to subtract them
+     */
+    private void add(int index, boolean add) {
+        getTerms(index, terms);
+        for (int i = 0; i < sums.length; i++) {
+            sums[i] = add ? sums[i].plus(terms[i]) : sums[i].minus(terms[i]);
+        }
+    }
+}
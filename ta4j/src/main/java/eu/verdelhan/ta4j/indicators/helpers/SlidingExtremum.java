@@ -0,0 +1,207 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.helpers;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TimeSeries;
+import java.io.Serializable;
+
+/**
+ * Sliding extremum (highest or lowest value) of an indicator over a time frame.
+ * <p>
+ * Keeps a monotonic deque of tick indexes: moving the window by one tick is amortized O(1).
+ * Any other move rebuilds the deque over the whole time frame.
+ */
+final class SlidingExtremum implements Serializable {
+
+    private static final long serialVersionUID = 2453720553447106325L;
+
+    private final Indicator<Decimal> indicator;
+
+    private final int timeFrame;
+
+    /** True for the highest value, false for the lowest one */
+    private final boolean highest;
+
+    /** Circular buffer of the indexes of the deque (values strictly decreasing for the highest value) */
+    private int[] indexes = new int[16];
+
+    /** Circular buffer of the values of the deque */
+    private Decimal[] values = new Decimal[16];
+
+    private int head;
+
+    private int size;
+
+    /** Last index of the window (-1 if none) */
+    private int endIndex = -1;
+
+    /** Index of the last NaN value (which is not pushed to the deque) */
+    private int lastNaNIndex = -1;
+
+    /**
+     * Constructor.
+     * @param indicator the indicator
+     * @param timeFrame the time frame
+     * @param highest true for the highest value, false for the lowest one
+     */
+    SlidingExtremum(Indicator<Decimal> indicator, int timeFrame, boolean highest) {
+        this.indicator = indicator;
+        this.timeFrame = timeFrame;
+        this.highest = highest;
+    }
+
+    /**
+     * @return the last index of the window (-1 if none)
+     */
+    int getEndIndex() {
+        return endIndex;
+    }
+
+    /**
+     * Moves the window so that it ends at the provided index.
+     * @param index the last index of the window
+     */
+    void moveTo(int index) {
+        final int startIndex = getStartIndex(index);
+        TimeSeries series = indicator.getTimeSeries();
+        boolean removedTicksInWindow = series != null && startIndex < series.getRemovedTicksCount();
+        if (index == endIndex + 1 && !removedTicksInWindow) {
+            push(index);
+            while (size > 0 && indexes[head] < startIndex) {
+                head = (head + 1) & (indexes.length - 1);
+                size--;
+            }
+        } else {
+            size = 0;
+            lastNaNIndex = -1;
+            for (int i = startIndex; i <= index; i++) {
+                push(i);
+            }
+        }
+        endIndex = index;
+    }
+
+    /**
+     * Invalidates the window if it contains values from the provided index (e.g. after a modification of the ticks).
+     * <p>
+     * The deque is then rebuilt on the next move.
+     * @param index the index of the first modified tick
+     */
+    void invalidateFrom(int index) {
+        if (index <= endIndex) {
+            size = 0;
+            lastNaNIndex = -1;
+            endIndex = -1;
+        }
+    }
+
+    /**
+     * @return the extremum value of the window
+     */
+    Decimal getValue() {
+        if (lastNaNIndex >= getStartIndex(endIndex)) {
+            // NaN in the window: scanning as Highest/LowestValueIndicator always did
+            final int startIndex = getStartIndex(endIndex);
+            Decimal extremum = indicator.getValue(startIndex);
+            for (int i = startIndex + 1; i <= endIndex; i++) {
+                Decimal value = indicator.getValue(i);
+                if (highest ? extremum.isLessThan(value) : extremum.isGreaterThan(value)) {
+                    extremum = value;
+                }
+            }
+            return extremum;
+        }
+        return values[head];
+    }
+
+    /**
+     * @return the (most recent) index of the extremum value of the window, or the start index minus one if none
+     */
+    int getIndex() {
+        final int startIndex = getStartIndex(endIndex);
+        if (lastNaNIndex >= startIndex) {
+            final Decimal extremum = getValue();
+            for (int i = endIndex; i >= startIndex; i--) {
+                if (indicator.getValue(i).isEqual(extremum)) {
+                    return i;
+                }
+            }
+            return startIndex - 1;
+        }
+        return indexes[head];
+    }
+
+    /**
+     * @param index the last index of a window
+     * @return the first index of the window
+     */
+    private int getStartIndex(int index) {
+        return Math.max(0, index - timeFrame + 1);
+    }
+
+    /**
+     * Pushes an index to the back of the deque, removing the indexes it dominates.
+     * @param index the index to be pushed
+     */
+    private void push(int index) {
+        final Decimal value = indicator.getValue(index);
+        if (value.isNaN()) {
+            lastNaNIndex = index;
+            return;
+        }
+        int mask = indexes.length - 1;
+        while (size > 0) {
+            int compared = values[(head + size - 1) & mask].compareTo(value);
+            if (highest ? compared > 0 : compared < 0) {
+                break;
+            }
+            size--;
+        }
+        if (size == indexes.length) {
+            grow();
+            mask = indexes.length - 1;
+        }
+        final int tail = (head + size) & mask;
+        indexes[tail] = index;
+        values[tail] = value;
+        size++;
+    }
+
+    /**
+     * Doubles the capacity of the deque.
+     */
+    private void grow() {
+        final int capacity = indexes.length;
+        int[] newIndexes = new int[capacity << 1];
+        Decimal[] newValues = new Decimal[capacity << 1];
+        for (int i = 0; i < size; i++) {
+            newIndexes[i] = indexes[(head + i) & (capacity - 1)];
+            newValues[i] = values[(head + i) & (capacity - 1)];
+        }
+        indexes = newIndexes;
+        values = newValues;
+        head = 0;
+    }
+}
@@ -0,0 +1,422 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.helpers;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TimeSeries;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Sliding order statistics of an indicator over a time frame.
+ * <p>
+ * The values of the time frame are kept sorted in a treap (a randomized balanced search tree) whose nodes also
+ * hold the count and the sum of their subtree: inserting or removing a value, selecting the k-th smallest value
+ * and counting/summing the values lower than a given one are O(log n).
+ * Moving the window by one tick inserts the new value and removes the dropped one; any other move rebuilds the
+ * tree over the whole time frame.
+ * <p>
+ * NaN values are not inserted in the tree (see {@link #hasNaN()}).
+ */
+public final class SlidingOrderStatistics implements Serializable {
+
+    private static final long serialVersionUID = -3419617235260741127L;
+
+    private static final int NIL = -1;
+
+    private final Indicator<Decimal> indicator;
+
+    private final int timeFrame;
+
+    /** Circular buffer of the values of the window (indexed by tick index) */
+    private Decimal[] windowValues = new Decimal[16];
+
+    /** Last index of the window (-1 if none) */
+    private int endIndex = -1;
+
+    /** Index of the last NaN value (which is not inserted in the tree) */
+    private int lastNaNIndex = -1;
+
+    // Nodes of the treap (NIL for no node)
+    private int[] left = new int[16];
+    private int[] right = new int[16];
+    private int[] priorities = new int[16];
+    private int[] sizes = new int[16];
+    private int[] tickIndexes = new int[16];
+    private Decimal[] values = new Decimal[16];
+    private Decimal[] sums = new Decimal[16];
+
+    private int root = NIL;
+
+    /** Number of allocated nodes (used or free) */
+    private int nodeCount;
+
+    /** First free node (linked through the left array) */
+    private int freeNode = NIL;
+
+    /** Seed of the (xorshift) priorities */
+    private int seed = 0x2545F491;
+
+    /**
+     * Constructor.
+     * @param indicator the indicator
+     * @param timeFrame the time frame
+     */
+    public SlidingOrderStatistics(Indicator<Decimal> indicator, int timeFrame) {
+        this.indicator = indicator;
+        this.timeFrame = timeFrame;
+    }
+
+    /**
+     * @return the last index of the window (-1 if none)
+     */
+    public int getEndIndex() {
+        return endIndex;
+    }
+
+    /**
+     * Moves the window so that it ends at the provided index.
+     * @param index the last index of the window
+     */
+    public void moveTo(int index) {
+        if (index == endIndex) {
+            return;
+        }
+        final int startIndex = getStartIndex(index);
+        TimeSeries series = indicator.getTimeSeries();
+        boolean removedTicksInWindow = series != null && startIndex < series.getRemovedTicksCount();
+        if (index == endIndex + 1 && !removedTicksInWindow) {
+            for (int i = getStartIndex(endIndex); i < startIndex; i++) {
+                remove(i);
+            }
+            add(index);
+        } else {
+            clear();
+            for (int i = startIndex; i <= index; i++) {
+                add(i);
+            }
+        }
+        endIndex = index;
+    }
+
+    /**
+     * Invalidates the window if it contains values from the provided index (e.g. after a modification of the ticks).
+     * <p>
+     * When only the last value of the window is invalidated, the window is moved back to the previous tick
+     * (in O(log n)). Otherwise the tree is rebuilt on the next move.
+     * @param index the index of the first modified tick
+     */
+    public void invalidateFrom(int index) {
+        if (index > endIndex) {
+            return;
+        }
+        final int previousStartIndex = getStartIndex(endIndex - 1);
+        TimeSeries series = indicator.getTimeSeries();
+        if (index == endIndex && endIndex > 0 && lastNaNIndex != endIndex
+                && (series == null || previousStartIndex >= series.getRemovedTicksCount())) {
+            final int startIndex = getStartIndex(endIndex);
+            remove(endIndex);
+            for (int i = previousStartIndex; i < startIndex; i++) {
+                add(i);
+            }
+            endIndex--;
+        } else {
+            clear();
+            endIndex = -1;
+        }
+    }
+
+    /**
+     * @return true if there is a NaN value in the window
+     */
+    public boolean hasNaN() {
+        return lastNaNIndex >= getStartIndex(endIndex);
+    }
+
+    /**
+     * @return the number of (non-NaN) values in the window
+     */
+    public int getCount() {
+        return size(root);
+    }
+
+    /**
+     * @return the sum of the (non-NaN) values of the window
+     */
+    public Decimal getSum() {
+        return sum(root);
+    }
+
+    /**
+     * @param k the rank of the value (0 for the lowest one)
+     * @return the k-th lowest value of the window
+     */
+    public Decimal select(int k) {
+        if (k < 0 || k >= getCount()) {
+            throw new IndexOutOfBoundsException("Rank " + k + " out of the window (" + getCount() + " values)");
+        }
+        int node = root;
+        while (true) {
+            final int leftSize = size(left[node]);
+            if (k < leftSize) {
+                node = left[node];
+            } else if (k == leftSize) {
+                return values[node];
+            } else {
+                k -= leftSize + 1;
+                node = right[node];
+            }
+        }
+    }
+
+    /**
+     * @param value a value
+     * @return the number of values of the window which are strictly lower than the provided one
+     */
+    public int countLowerThan(Decimal value) {
+        int count = 0;
+        int node = root;
+        while (node != NIL) {
+            if (values[node].isLessThan(value)) {
+                count += size(left[node]) + 1;
+                node = right[node];
+            } else {
+                node = left[node];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @param value a value
+     * @return the sum of the values of the window which are strictly lower than the provided one
+     */
+    public Decimal sumLowerThan(Decimal value) {
+        Decimal sum = Decimal.ZERO;
+        int node = root;
+        while (node != NIL) {
+            if (values[node].isLessThan(value)) {
+                sum = sum.plus(sum(left[node])).plus(values[node]);
+                node = right[node];
+            } else {
+                node = left[node];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * @param index the last index of a window
+     * @return the first index of the window
+     */
+    private int getStartIndex(int index) {
+        return Math.max(0, index - timeFrame + 1);
+    }
+
+    /**
+     * Removes all the values of the tree.
+     */
+    private void clear() {
+        root = NIL;
+        nodeCount = 0;
+        freeNode = NIL;
+        lastNaNIndex = -1;
+    }
+
+    /**
+     * Adds the value of a tick to the window.
+     * @param index the tick index
+     */
+    private void add(int index) {
+        final Decimal value = indicator.getValue(index);
+        if (index - getStartIndex(index) >= windowValues.length) {
+            growWindowValues(index);
+        }
+        windowValues[index & (windowValues.length - 1)] = value;
+        if (value.isNaN()) {
+            lastNaNIndex = Math.max(lastNaNIndex, index);
+        } else {
+            root = insert(root, newNode(value, index));
+        }
+    }
+
+    /**
+     * Removes the value of a tick from the window.
+     * @param index the tick index
+     */
+    private void remove(int index) {
+        final Decimal value = windowValues[index & (windowValues.length - 1)];
+        if (!value.isNaN()) {
+            root = delete(root, value, index);
+        }
+    }
+
+    /**
+     * Doubles the capacity of the window values buffer.
+     * @param index the index being added
+     */
+    private void growWindowValues(int index) {
+        final int capacity = windowValues.length;
+        Decimal[] newWindowValues = new Decimal[capacity << 1];
+        for (int i = Math.max(getStartIndex(index), index - capacity); i < index; i++) {
+            newWindowValues[i & ((capacity << 1) - 1)] = windowValues[i & (capacity - 1)];
+        }
+        windowValues = newWindowValues;
+    }
+
+    private int size(int node) {
+        return node == NIL ? 0 : sizes[node];
+    }
+
+    private Decimal sum(int node) {
+        return node == NIL ? Decimal.ZERO : sums[node];
+    }
+
+    /**
+     * @param value a value
+     * @param tickIndex the tick index of the value
+     * @param node a node
+     * @return true if the value (then the tick index, for equal values) is lower than the one of the node
+     */
+    private boolean isLower(Decimal value, int tickIndex, int node) {
+        final int compared = value.compareTo(values[node]);
+        return compared < 0 || (compared == 0 && tickIndex < tickIndexes[node]);
+    }
+
+    private int insert(int node, int newNode) {
+        if (node == NIL) {
+            return newNode;
+        }
+        if (isLower(values[newNode], tickIndexes[newNode], node)) {
+            left[node] = insert(left[node], newNode);
+            if (priorities[left[node]] > priorities[node]) {
+                node = rotateRight(node);
+            }
+        } else {
+            right[node] = insert(right[node], newNode);
+            if (priorities[right[node]] > priorities[node]) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private int delete(int node, Decimal value, int tickIndex) {
+        if (node == NIL) {
+            throw new IllegalStateException("Value of tick " + tickIndex + " not found in the window");
+        }
+        if (tickIndex == tickIndexes[node]) {
+            if (left[node] == NIL || right[node] == NIL) {
+                final int child = left[node] == NIL ? right[node] : left[node];
+                freeNode(node);
+                return child;
+            }
+            if (priorities[left[node]] > priorities[right[node]]) {
+                node = rotateRight(node);
+                right[node] = delete(right[node], value, tickIndex);
+            } else {
+                node = rotateLeft(node);
+                left[node] = delete(left[node], value, tickIndex);
+            }
+        } else if (isLower(value, tickIndex, node)) {
+            left[node] = delete(left[node], value, tickIndex);
+        } else {
+            right[node] = delete(right[node], value, tickIndex);
+        }
+        update(node);
+        return node;
+    }
+
+    private int rotateRight(int node) {
+        final int newNode = left[node];
+        left[node] = right[newNode];
+        right[newNode] = node;
+        update(node);
+        update(newNode);
+        return newNode;
+    }
+
+    private int rotateLeft(int node) {
+        final int newNode = right[node];
+        right[node] = left[newNode];
+        left[newNode] = node;
+        update(node);
+        update(newNode);
+        return newNode;
+    }
+
+    /**
+     * Updates the size and the sum of a subtree from its children.
+     * @param node the root of the subtree
+     */
+    private void update(int node) {
+        sizes[node] = size(left[node]) + size(right[node]) + 1;
+        sums[node] = values[node].plus(sum(left[node])).plus(sum(right[node]));
+    }
+
+    private int newNode(Decimal value, int tickIndex) {
+        int node = freeNode;
+        if (node != NIL) {
+            freeNode = left[node];
+        } else {
+            if (nodeCount == values.length) {
+                growNodes();
+            }
+            node = nodeCount++;
+        }
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        left[node] = NIL;
+        right[node] = NIL;
+        priorities[node] = seed;
+        sizes[node] = 1;
+        tickIndexes[node] = tickIndex;
+        values[node] = value;
+        sums[node] = value;
+        return node;
+    }
+
+    private void freeNode(int node) {
+        values[node] = null;
+        sums[node] = null;
+        left[node] = freeNode;
+        freeNode = node;
+    }
+
+    /**
+     * Doubles the capacity of the nodes arrays.
+     */
+    private void growNodes() {
+        final int capacity = values.length << 1;
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        sizes = Arrays.copyOf(sizes, capacity);
+        tickIndexes = Arrays.copyOf(tickIndexes, capacity);
+        values = Arrays.copyOf(values, capacity);
+        sums = Arrays.copyOf(sums, capacity);
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.helpers;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.RecursiveCachedIndicator;
+
+/**
+ * Smoothed average gain indicator.
+ * <p>
+ * Wilder's smoothing of the gains: the first value (at the time frame index) is the simple average gain,
+ * then each value is (previous average gain * (time frame - 1) + current gain) / time frame.
+ * @see http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:relative_strength_index_rsi
+ */
+public class SmoothedAverageGainIndicator extends RecursiveCachedIndicator<Decimal> {
+
+    /**
+     * 
+     */
+    private static final long serialVersionUID = 6917460279013587122L;
+
+    private final Indicator<Decimal> indicator;
+
+    private final AverageGainIndicator averageGain;
+
+    private final int timeFrame;
+
+    public SmoothedAverageGainIndicator(Indicator<Decimal> indicator, int timeFrame) {
+        super(indicator);
+        this.indicator = indicator;
+        this.averageGain = new AverageGainIndicator(indicator, timeFrame);
+        dependsOn(averageGain);
+        this.timeFrame = timeFrame;
+        usePrimitiveCache();
+    }
+
+    @Override
+    protected Decimal calculate(int index) {
+        if (index <= timeFrame) {
+            return averageGain.getValue(index);
+        }
+        Decimal gain = Decimal.ZERO;
+        Decimal current = indicator.getValue(index);
+        Decimal previous = indicator.getValue(index - 1);
+        if (current.isGreaterThan(previous)) {
+            gain = current.minus(previous);
+        }
+        Decimal nbTicks = Decimal.valueOf(timeFrame);
+        return getValue(index - 1).multipliedBy(nbTicks.minus(Decimal.ONE)).plus(gain).dividedBy(nbTicks);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " timeFrame: " + timeFrame;
+    }
+}
@@ -51,4 +51,9 @@ public class TrueRangeIndicator extends CachedIndicator<Decimal>{
         
         return ts.abs().max(ys.abs()).max(yst.abs());
     }
+
+    @Override
+    protected int getLookBack() {
+        return 2;
+    }
 }
@@ -42,15 +42,14 @@ public class AroonDownIndicator extends CachedIndicator<Decimal> {
 
     private final int timeFrame;
 
-    private final ClosePriceIndicator closePriceIndicator;
-
     private final LowestValueIndicator lowestClosePriceIndicator;
 
     public AroonDownIndicator(TimeSeries series, int timeFrame) {
         super(series);
         this.timeFrame = timeFrame;
-        closePriceIndicator = new ClosePriceIndicator(series);
+        ClosePriceIndicator closePriceIndicator = new ClosePriceIndicator(series);
         lowestClosePriceIndicator = new LowestValueIndicator(closePriceIndicator, timeFrame);
+        dependsOn(lowestClosePriceIndicator);
     }
 
     @Override
@@ -58,15 +57,8 @@ public class AroonDownIndicator extends CachedIndicator<Decimal> {
         int realTimeFrame = Math.min(timeFrame, index + 1);
 
         // Getting the number of ticks since the lowest close price
-        int endIndex = index - realTimeFrame;
-        int nbTicks = 0;
-        for (int i = index; i > endIndex; i--) {
-            if (closePriceIndicator.getValue(i).isEqual(lowestClosePriceIndicator.getValue(index))) {
-                break;
-            }
-            nbTicks++;
-        }
-        
+        int nbTicks = index - lowestClosePriceIndicator.getLowestValueIndex(index);
+
         return Decimal.valueOf(realTimeFrame - nbTicks).dividedBy(Decimal.valueOf(realTimeFrame)).multipliedBy(Decimal.HUNDRED);
     }
 }
@@ -42,15 +42,14 @@ public class AroonUpIndicator extends CachedIndicator<Decimal> {
 
     private final int timeFrame;
 
-    private final ClosePriceIndicator closePriceIndicator;
-
     private final HighestValueIndicator highestClosePriceIndicator;
 
     public AroonUpIndicator(TimeSeries series, int timeFrame) {
         super(series);
         this.timeFrame = timeFrame;
-        closePriceIndicator = new ClosePriceIndicator(series);
+        ClosePriceIndicator closePriceIndicator = new ClosePriceIndicator(series);
         highestClosePriceIndicator = new HighestValueIndicator(closePriceIndicator, timeFrame);
+        dependsOn(highestClosePriceIndicator);
     }
 
     @Override
@@ -58,14 +57,7 @@ public class AroonUpIndicator extends CachedIndicator<Decimal> {
         int realTimeFrame = Math.min(timeFrame, index + 1);
 
         // Getting the number of ticks since the highest close price
-        int endIndex = index - realTimeFrame;
-        int nbTicks = 0;
-        for (int i = index; i > endIndex; i--) {
-            if (closePriceIndicator.getValue(i).isEqual(highestClosePriceIndicator.getValue(index))) {
-                break;
-            }
-            nbTicks++;
-        }
+        int nbTicks = index - highestClosePriceIndicator.getHighestValueIndex(index);
 
         return Decimal.valueOf(realTimeFrame - nbTicks).dividedBy(Decimal.valueOf(realTimeFrame)).multipliedBy(Decimal.HUNDRED);
     }
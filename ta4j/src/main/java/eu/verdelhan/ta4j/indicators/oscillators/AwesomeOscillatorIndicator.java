@@ -47,6 +47,7 @@ public class AwesomeOscillatorIndicator extends CachedIndicator<Decimal> {
         super(indicator);
         this.sma5 = new SMAIndicator(indicator, timeFrameSma1);
         this.sma34 = new SMAIndicator(indicator, timeFrameSma2);
+        dependsOn(sma5, sma34);
     }
 
     public AwesomeOscillatorIndicator(Indicator<Decimal> indicator) {
@@ -57,4 +58,9 @@ public class AwesomeOscillatorIndicator extends CachedIndicator<Decimal> {
     protected Decimal calculate(int index) {
         return sma5.getValue(index).minus(sma34.getValue(index));
     }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
 }
@@ -61,6 +61,7 @@ public class CCIIndicator extends CachedIndicator<Decimal> {
         typicalPriceInd = new TypicalPriceIndicator(series);
         smaInd = new SMAIndicator(typicalPriceInd, timeFrame);
         meanDeviationInd = new MeanDeviationIndicator(typicalPriceInd, timeFrame);
+        dependsOn(typicalPriceInd, smaInd, meanDeviationInd);
         this.timeFrame = timeFrame;
     }
 
@@ -75,6 +76,11 @@ public class CCIIndicator extends CachedIndicator<Decimal> {
         return (typicalPrice.minus(typicalPriceAvg)).dividedBy(meanDeviation.multipliedBy(FACTOR));
     }
 
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
@@ -54,6 +54,7 @@ public class CMOIndicator extends CachedIndicator<Decimal> {
         super(price);
         cumulatedGains = new CumulatedGainsIndicator(price, timeFrame);
         cumulatedLosses = new CumulatedLossesIndicator(price, timeFrame);
+        dependsOn(cumulatedGains, cumulatedLosses);
     }
 
     @Override
@@ -76,6 +76,7 @@ public class DPOIndicator extends CachedIndicator<Decimal> {
         timeShift = timeFrame / 2 + 1;
         this.price = price;
         sma = new SMAIndicator(price, this.timeFrame);
+        dependsOn(sma);
     }
 
     @Override
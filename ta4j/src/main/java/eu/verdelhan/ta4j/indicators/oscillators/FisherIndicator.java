@@ -89,6 +89,10 @@ public class FisherIndicator extends RecursiveCachedIndicator<Decimal>{
              */
             private static final long serialVersionUID = 4395704974991496725L;
 
+            {
+                dependsOn(periodHigh, periodLow);
+            }
+
             @Override
             protected Decimal calculate(int index) {
                 if (index <= 0) {
@@ -109,6 +113,7 @@ public class FisherIndicator extends RecursiveCachedIndicator<Decimal>{
                 return value;
             }
         };
+        dependsOn(intermediateValue);
     }
 
     @Override
@@ -49,6 +49,7 @@ public class PPOIndicator extends CachedIndicator<Decimal> {
         }
         shortTermEma = new EMAIndicator(indicator, shortTimeFrame);
         longTermEma = new EMAIndicator(indicator, longTimeFrame);
+        dependsOn(shortTermEma, longTermEma);
     }
 
     @Override
@@ -59,4 +60,9 @@ public class PPOIndicator extends CachedIndicator<Decimal> {
                 .dividedBy(longEmaValue)
                 .multipliedBy(Decimal.HUNDRED);
     }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
 }
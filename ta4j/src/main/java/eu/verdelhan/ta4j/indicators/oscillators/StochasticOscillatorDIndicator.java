@@ -54,6 +54,11 @@ public class StochasticOscillatorDIndicator extends CachedIndicator<Decimal> {
         return indicator.getValue(index);
     }
 
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " " + indicator;
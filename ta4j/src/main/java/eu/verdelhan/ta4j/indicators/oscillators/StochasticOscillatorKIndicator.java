@@ -67,6 +67,7 @@ public class StochasticOscillatorKIndicator extends CachedIndicator<Decimal> {
         this.timeFrame = timeFrame;
         this.maxPriceIndicator = maxPriceIndicator;
         this.minPriceIndicator = minPriceIndicator;
+        dependsOn(maxPriceIndicator, minPriceIndicator);
     }
 
     @Override
@@ -82,6 +83,11 @@ public class StochasticOscillatorKIndicator extends CachedIndicator<Decimal> {
                 .multipliedBy(Decimal.HUNDRED);
     }
 
+    @Override
+    protected int getLookBack() {
+        return timeFrame;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
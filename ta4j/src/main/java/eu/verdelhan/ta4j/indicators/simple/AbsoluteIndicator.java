@@ -47,4 +47,9 @@ public class AbsoluteIndicator extends CachedIndicator<Decimal> {
     protected Decimal calculate(int index) {
         return indicator.getValue(index).abs();
     }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
 }
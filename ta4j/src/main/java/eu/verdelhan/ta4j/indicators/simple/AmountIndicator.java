@@ -47,4 +47,9 @@ public class AmountIndicator extends CachedIndicator<Decimal> {
     protected Decimal calculate(int index) {
         return series.getTick(index).getAmount();
     }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
 }
\ No newline at end of file
@@ -41,10 +41,16 @@ public class ClosePriceIndicator extends CachedIndicator<Decimal> {
     public ClosePriceIndicator(TimeSeries series) {
         super(series);
         this.series = series;
+        usePrimitiveCache();
     }
 
     @Override
     protected Decimal calculate(int index) {
-        return series.getTick(index).getClosePrice();
+        return series.getClosePrice(index);
+    }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
     }
 }
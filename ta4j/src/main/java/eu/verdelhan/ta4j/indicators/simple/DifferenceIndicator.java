@@ -53,10 +53,16 @@ public class DifferenceIndicator extends CachedIndicator<Decimal> {
         super(first);
         this.first = first;
         this.second = second;
+        dependsOn(second);
     }
 
     @Override
     protected Decimal calculate(int index) {
         return first.getValue(index).minus(second.getValue(index));
     }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
 }
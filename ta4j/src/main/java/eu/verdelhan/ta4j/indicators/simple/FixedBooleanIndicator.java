@@ -22,8 +22,12 @@
  */
 package eu.verdelhan.ta4j.indicators.simple;
 
+import java.util.BitSet;
+
 /**
  * A fixed boolean indicator.
+ * <p>
+ * The values are stored in two bit sets (non-null values and true values).
  */
 public class FixedBooleanIndicator extends FixedIndicator<Boolean> {
 
@@ -32,11 +36,39 @@ public class FixedBooleanIndicator extends FixedIndicator<Boolean> {
      */
     private static final long serialVersionUID = 4860621553533405216L;
 
+    /** Indexes of the non-null values */
+    private final BitSet nonNullValues = new BitSet();
+
+    /** Indexes of the true values */
+    private final BitSet trueValues = new BitSet();
+
+    private int size;
+
     /**
      * Constructor.
      * @param values the values to be returned by this indicator
      */
     public FixedBooleanIndicator(Boolean... values) {
-        super(values);
+        super();
+        for (Boolean value : values) {
+            addValue(value);
+        }
+    }
+
+    @Override
+    public void addValue(Boolean value) {
+        if (value != null) {
+            nonNullValues.set(size);
+            trueValues.set(size, value);
+        }
+        size++;
+    }
+
+    @Override
+    public Boolean getValue(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return nonNullValues.get(index) ? trueValues.get(index) : null;
     }
 }
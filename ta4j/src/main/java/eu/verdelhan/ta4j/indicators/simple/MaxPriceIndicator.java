@@ -45,6 +45,11 @@ public class MaxPriceIndicator extends CachedIndicator<Decimal> {
 
     @Override
     protected Decimal calculate(int index) {
-        return series.getTick(index).getMaxPrice();
+        return series.getMaxPrice(index);
+    }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
     }
 }
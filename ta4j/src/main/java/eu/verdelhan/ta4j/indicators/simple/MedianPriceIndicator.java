@@ -45,7 +45,12 @@ public class MedianPriceIndicator extends CachedIndicator<Decimal> {
 
     @Override
     protected Decimal calculate(int index) {
-        return series.getTick(index).getMaxPrice().plus(series.getTick(index).getMinPrice())
+        return series.getMaxPrice(index).plus(series.getMinPrice(index))
                 .dividedBy(Decimal.TWO);
     }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
 }
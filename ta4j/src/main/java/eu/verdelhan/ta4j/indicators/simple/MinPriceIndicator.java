@@ -45,6 +45,11 @@ public class MinPriceIndicator extends CachedIndicator<Decimal> {
 
     @Override
     protected Decimal calculate(int index) {
-        return series.getTick(index).getMinPrice();
+        return series.getMinPrice(index);
+    }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
     }
 }
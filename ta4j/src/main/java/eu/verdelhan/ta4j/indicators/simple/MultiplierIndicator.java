@@ -52,6 +52,11 @@ public class MultiplierIndicator extends CachedIndicator<Decimal> {
         return indicator.getValue(index).multipliedBy(coefficient);
     }
 
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " Coefficient: " + coefficient;
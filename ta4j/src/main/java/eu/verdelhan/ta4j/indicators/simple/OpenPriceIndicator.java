@@ -45,6 +45,11 @@ public class OpenPriceIndicator extends CachedIndicator<Decimal> {
 
     @Override
     protected Decimal calculate(int index) {
-        return series.getTick(index).getOpenPrice();
+        return series.getOpenPrice(index);
+    }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
     }
 }
\ No newline at end of file
@@ -45,6 +45,11 @@ public class PreviousPriceIndicator extends CachedIndicator<Decimal> {
 
     @Override
     protected Decimal calculate(int index) {
-        return series.getTick(Math.max(0, index - 1)).getClosePrice();
+        return series.getClosePrice(Math.max(0, index - 1));
+    }
+
+    @Override
+    protected int getLookBack() {
+        return 2;
     }
 }
@@ -49,6 +49,7 @@ public class SumIndicator extends CachedIndicator<Decimal> {
         super(operands[0]);
         this.operands = new Indicator[operands.length];
         System.arraycopy(operands, 0, this.operands, 0, operands.length);
+        dependsOn(operands);
     }
 
     @Override
@@ -59,4 +60,9 @@ public class SumIndicator extends CachedIndicator<Decimal> {
         }
         return sum;
     }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
 }
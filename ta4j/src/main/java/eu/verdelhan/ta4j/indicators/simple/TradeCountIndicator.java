@@ -46,4 +46,9 @@ public class TradeCountIndicator extends CachedIndicator<Integer> {
     protected Integer calculate(int index) {
         return series.getTick(index).getTrades();
     }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
 }
\ No newline at end of file
@@ -56,8 +56,13 @@ public class VolumeIndicator extends CachedIndicator<Decimal> {
         int startIndex = Math.max(0, index - timeFrame + 1);
         Decimal sumOfVolume = Decimal.ZERO;
         for (int i = startIndex; i <= index; i++) {
-            sumOfVolume = sumOfVolume.plus(series.getTick(i).getVolume());
+            sumOfVolume = sumOfVolume.plus(series.getVolume(i));
         }
         return sumOfVolume;
     }
+
+    @Override
+    protected int getLookBack() {
+        return timeFrame;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.statistics;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.CachedIndicator;
+
+/**
+ * Beta indicator.
+ * <p>
+ * Beta of an indicator relative to a benchmark indicator, over the time frame:
+ * covariance(indicator, benchmark) / variance(benchmark).
+ * (Usually calculated on the returns of an asset and of a market index.)
+ * <p>
+ * Calculated in O(1) on sequential calculation, from the rolling moments of the two indicators.
+ */
+public class BetaIndicator extends CachedIndicator<Decimal> {
+
+    /**
+     * 
+     */
+    private static final long serialVersionUID = 2619731025465713958L;
+
+    private final int timeFrame;
+
+    private final BivariateMomentSums moments;
+
+    /**
+     * Constructor.
+     * @param indicator the indicator
+     * @param benchmark the benchmark indicator
+     * @param timeFrame the time frame
+     */
+    public BetaIndicator(Indicator<Decimal> indicator, Indicator<Decimal> benchmark, int timeFrame) {
+        super(indicator);
+        this.timeFrame = timeFrame;
+        moments = BivariateMomentSums.of(indicator, benchmark, timeFrame);
+        dependsOn(benchmark);
+    }
+
+    @Override
+    protected Decimal calculate(int index) {
+        moments.moveTo(index);
+        Decimal benchmarkVariance = moments.getVarianceY();
+        if (benchmarkVariance.isZero()) {
+            return Decimal.NaN;
+        }
+        return moments.getCovariance().dividedBy(benchmarkVariance);
+    }
+
+    @Override
+    protected int getLookBack() {
+        return moments.getLookBack();
+    }
+
+    @Override
+    protected int resetStateFrom(int index) {
+        moments.invalidateFrom(index);
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " timeFrame: " + timeFrame;
+    }
+}
@@ -0,0 +1,202 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.statistics;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.helpers.RollingSums;
+
+/**
+ * Rolling moments of two variables: sums of u, v, u^2, v^2 and uv over the time frame.
+ * <p>
+ * u and v are the values of x and y relative to anchor values (reset on each full recalculation) to limit the
+ * cancellation errors.
+ * Covariance and variances are population ones (i.e. divided by the number of observations).
+ */
+abstract class BivariateMomentSums extends RollingSums {
+
+    private static final long serialVersionUID = -6197645071567327463L;
+
+    private Decimal anchorX = Decimal.ZERO;
+
+    private Decimal anchorY = Decimal.ZERO;
+
+    /**
+     * Constructor.
+     * @param series the time series of the variables
+     * @param timeFrame the time frame
+     */
+    BivariateMomentSums(TimeSeries series, int timeFrame) {
+        super(series, timeFrame, 5);
+    }
+
+    /**
+     * @param indicator1 the first indicator (x)
+     * @param indicator2 the second indicator (y)
+     * @param timeFrame the time frame
+     * @return the moments of the two indicators
+     */
+    static BivariateMomentSums of(Indicator<Decimal> indicator1, Indicator<Decimal> indicator2, int timeFrame) {
+        return new IndicatorMomentSums(indicator1, indicator2, timeFrame);
+    }
+
+    /**
+     * @param index the tick index
+     * @return the value of x at the index
+     */
+    protected abstract Decimal getX(int index);
+
+    /**
+     * @param index the tick index
+     * @return the value of y at the index
+     */
+    protected abstract Decimal getY(int index);
+
+    /**
+     * @return the average of x over the window
+     */
+    Decimal getMeanX() {
+        return anchorX.plus(getSum(0).dividedBy(Decimal.valueOf(getTickCount())));
+    }
+
+    /**
+     * @return the average of y over the window
+     */
+    Decimal getMeanY() {
+        return anchorY.plus(getSum(1).dividedBy(Decimal.valueOf(getTickCount())));
+    }
+
+    /**
+     * @return the sum of the squared deviations of x to its average over the window
+     */
+    Decimal getCenteredSumXX() {
+        return centeredSum(2, 0, 0);
+    }
+
+    /**
+     * @return the sum of the squared deviations of y to its average over the window
+     */
+    Decimal getCenteredSumYY() {
+        return centeredSum(3, 1, 1);
+    }
+
+    /**
+     * @return the sum of the products of the deviations of x and y to their averages over the window
+     */
+    Decimal getCenteredSumXY() {
+        return centeredSum(4, 0, 1);
+    }
+
+    /**
+     * @return the covariance of x and y over the window
+     */
+    Decimal getCovariance() {
+        return getCenteredSumXY().dividedBy(Decimal.valueOf(getTickCount()));
+    }
+
+    /**
+     * @return the variance of x over the window
+     */
+    Decimal getVarianceX() {
+        return nonNegative(getCenteredSumXX()).dividedBy(Decimal.valueOf(getTickCount()));
+    }
+
+    /**
+     * @return the variance of y over the window
+     */
+    Decimal getVarianceY() {
+        return nonNegative(getCenteredSumYY()).dividedBy(Decimal.valueOf(getTickCount()));
+    }
+
+    @Override
+    protected void beforeRecalculation(int startIndex, int endIndex) {
+        anchorX = anchor(getX(endIndex));
+        anchorY = anchor(getY(endIndex));
+    }
+
+    @Override
+    protected void getTerms(int index, Decimal[] terms) {
+        Decimal u = getX(index).minus(anchorX);
+        Decimal v = getY(index).minus(anchorY);
+        terms[0] = u;
+        terms[1] = v;
+        terms[2] = u.multipliedBy(u);
+        terms[3] = v.multipliedBy(v);
+        terms[4] = u.multipliedBy(v);
+    }
+
+    /**
+     * @param productSum the index of the sum of the products
+     * @param sum1 the index of the sum of the first factors
+     * @param sum2 the index of the sum of the second factors
+     * @return the sum of the products of the deviations to the averages
+     */
+    private Decimal centeredSum(int productSum, int sum1, int sum2) {
+        return getSum(productSum).minus(getSum(sum1).multipliedBy(getSum(sum2)).dividedBy(Decimal.valueOf(getTickCount())));
+    }
+
+    /**
+     * @param value a value
+     * @return the anchor for the value
+     */
+    private static Decimal anchor(Decimal value) {
+        return value.isNaN() ? Decimal.ZERO : value;
+    }
+
+    /**
+     * @param sumOfSquares a (centered) sum of squares
+     * @return the sum, or zero if it is negative (rounding error)
+     */
+    private static Decimal nonNegative(Decimal sumOfSquares) {
+        return sumOfSquares.isNegative() ? Decimal.ZERO : sumOfSquares;
+    }
+
+    /**
+     * Moments of two indicators.
+     */
+    private static final class IndicatorMomentSums extends BivariateMomentSums {
+
+        private static final long serialVersionUID = 4316052519453867235L;
+
+        private final Indicator<Decimal> indicator1;
+
+        private final Indicator<Decimal> indicator2;
+
+        IndicatorMomentSums(Indicator<Decimal> indicator1, Indicator<Decimal> indicator2, int timeFrame) {
+            super(indicator1.getTimeSeries(), timeFrame);
+            this.indicator1 = indicator1;
+            this.indicator2 = indicator2;
+        }
+
+        @Override
+        protected Decimal getX(int index) {
+            return indicator1.getValue(index);
+        }
+
+        @Override
+        protected Decimal getY(int index) {
+            return indicator2.getValue(index);
+        }
+    }
+}
@@ -30,6 +30,8 @@ import eu.verdelhan.ta4j.indicators.CachedIndicator;
  * Correlation coefficient indicator.
  * <p>
  * See also: http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:correlation_coeffici
+ * <p>
+ * Covariance and variances come from the same rolling moments, updated in O(1) on sequential calculation.
  */
 public class CorrelationCoefficientIndicator extends CachedIndicator<Decimal> {
 
@@ -38,11 +40,7 @@ public class CorrelationCoefficientIndicator extends CachedIndicator<Decimal> {
      */
     private static final long serialVersionUID = -7605307520556074985L;
 
-    private VarianceIndicator variance1;
-    
-    private VarianceIndicator variance2;
-    
-    private CovarianceIndicator covariance;
+    private final BivariateMomentSums moments;
     
     /**
      * Constructor.
@@ -52,17 +50,28 @@ public class CorrelationCoefficientIndicator extends CachedIndicator<Decimal> {
      */
     public CorrelationCoefficientIndicator(Indicator<Decimal> indicator1, Indicator<Decimal> indicator2, int timeFrame) {
         super(indicator1);
-        variance1 = new VarianceIndicator(indicator1, timeFrame);
-        variance2 = new VarianceIndicator(indicator2, timeFrame);
-        covariance = new CovarianceIndicator(indicator1, indicator2, timeFrame);
+        moments = BivariateMomentSums.of(indicator1, indicator2, timeFrame);
+        dependsOn(indicator2);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        Decimal cov = covariance.getValue(index);
-        Decimal var1 = variance1.getValue(index);
-        Decimal var2 = variance2.getValue(index);
+        moments.moveTo(index);
+        Decimal cov = moments.getCovariance();
+        Decimal var1 = moments.getVarianceX();
+        Decimal var2 = moments.getVarianceY();
         
         return cov.dividedBy(var1.multipliedBy(var2).sqrt());
     }
+
+    @Override
+    protected int getLookBack() {
+        return moments.getLookBack();
+    }
+
+    @Override
+    protected int resetStateFrom(int index) {
+        moments.invalidateFrom(index);
+        return index;
+    }
 }
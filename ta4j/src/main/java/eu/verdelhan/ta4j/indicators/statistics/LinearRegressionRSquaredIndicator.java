@@ -0,0 +1,61 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.statistics;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.indicators.CachedIndicator;
+
+/**
+ * Linear regression coefficient of determination (R squared) indicator.
+ * <p>
+ * Returns the coefficient of determination (R squared) of the regression line over the time frame ending at the index (1 if all the
+ * values are equal, NaN if less than 2 observations).
+ * The line is the one of the provided {@link SimpleLinearRegressionIndicator regression}: its rolling sums are
+ * shared with the other outputs of the regression.
+ */
+public class LinearRegressionRSquaredIndicator extends CachedIndicator<Decimal> {
+
+    private static final long serialVersionUID = -2174480310851446729L;
+
+    private final SimpleLinearRegressionIndicator regression;
+
+    public LinearRegressionRSquaredIndicator(SimpleLinearRegressionIndicator regression) {
+        super(regression);
+        this.regression = regression;
+    }
+
+    @Override
+    protected Decimal calculate(int index) {
+        return regression.getRSquared(index);
+    }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " " + regression;
+    }
+}
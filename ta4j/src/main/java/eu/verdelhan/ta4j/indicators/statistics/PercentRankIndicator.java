@@ -0,0 +1,89 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.statistics;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.SlidingOrderStatistics;
+
+/**
+ * Percent rank indicator.
+ * <p>
+ * Percentage of the values of the time frame which are strictly lower than the current value (from 0 for the
+ * lowest value of the time frame, up to 100 * (n - 1) / n for the highest one).
+ * Sequential calculations are O(log n) (see {@link SlidingOrderStatistics}).
+ * @see https://en.wikipedia.org/wiki/Percentile_rank
+ */
+public class PercentRankIndicator extends CachedIndicator<Decimal> {
+
+    /**
+     * 
+     */
+    private static final long serialVersionUID = 4672308512937045236L;
+
+    private final Indicator<Decimal> indicator;
+
+    private final int timeFrame;
+
+    private final SlidingOrderStatistics statistics;
+
+    /**
+     * Constructor.
+     * @param indicator the indicator
+     * @param timeFrame the time frame
+     */
+    public PercentRankIndicator(Indicator<Decimal> indicator, int timeFrame) {
+        super(indicator);
+        this.indicator = indicator;
+        this.timeFrame = timeFrame;
+        statistics = new SlidingOrderStatistics(indicator, timeFrame);
+    }
+
+    @Override
+    protected Decimal calculate(int index) {
+        statistics.moveTo(index);
+        if (statistics.hasNaN()) {
+            return Decimal.NaN;
+        }
+        final int nbLowerValues = statistics.countLowerThan(indicator.getValue(index));
+        return Decimal.valueOf(nbLowerValues).multipliedBy(Decimal.HUNDRED)
+                .dividedBy(Decimal.valueOf(statistics.getCount()));
+    }
+
+    @Override
+    protected int getLookBack() {
+        return timeFrame;
+    }
+
+    @Override
+    protected int resetStateFrom(int index) {
+        statistics.invalidateFrom(index);
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " timeFrame: " + timeFrame;
+    }
+}
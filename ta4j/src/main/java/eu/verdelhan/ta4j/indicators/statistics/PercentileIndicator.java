@@ -0,0 +1,102 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.statistics;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.SlidingOrderStatistics;
+
+/**
+ * Percentile indicator.
+ * <p>
+ * Rolling percentile of an indicator over a time frame, linearly interpolated between the closest ranks
+ * (i.e. the value at rank percentile / 100 * (n - 1) in the sorted values of the time frame).
+ * Sequential calculations are O(log n) (see {@link SlidingOrderStatistics}).
+ * @see https://en.wikipedia.org/wiki/Percentile
+ */
+public class PercentileIndicator extends CachedIndicator<Decimal> {
+
+    /**
+     * 
+     */
+    private static final long serialVersionUID = -1390839549245924633L;
+
+    private final int timeFrame;
+
+    private final Decimal percentile;
+
+    private final SlidingOrderStatistics statistics;
+
+    /**
+     * Constructor.
+     * @param indicator the indicator
+     * @param timeFrame the time frame
+     * @param percentile the percentile (between 0 and 100)
+     */
+    public PercentileIndicator(Indicator<Decimal> indicator, int timeFrame, Decimal percentile) {
+        super(indicator);
+        if (percentile.isNegative() || percentile.isGreaterThan(Decimal.HUNDRED)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        this.timeFrame = timeFrame;
+        this.percentile = percentile;
+        statistics = new SlidingOrderStatistics(indicator, timeFrame);
+    }
+
+    @Override
+    protected Decimal calculate(int index) {
+        statistics.moveTo(index);
+        if (statistics.hasNaN()) {
+            return Decimal.NaN;
+        }
+        final Decimal rank = percentile.dividedBy(Decimal.HUNDRED)
+                .multipliedBy(Decimal.valueOf(statistics.getCount() - 1));
+        final int lowerRank = (int) Math.floor(rank.toDouble());
+        final Decimal lowerValue = statistics.select(lowerRank);
+        if (lowerRank == statistics.getCount() - 1) {
+            return lowerValue;
+        }
+        final Decimal fraction = rank.minus(Decimal.valueOf(lowerRank));
+        if (fraction.isZero()) {
+            return lowerValue;
+        }
+        return lowerValue.plus(statistics.select(lowerRank + 1).minus(lowerValue).multipliedBy(fraction));
+    }
+
+    @Override
+    protected int getLookBack() {
+        return timeFrame;
+    }
+
+    @Override
+    protected int resetStateFrom(int index) {
+        statistics.invalidateFrom(index);
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " timeFrame: " + timeFrame + " percentile: " + percentile;
+    }
+}
@@ -32,6 +32,13 @@ import eu.verdelhan.ta4j.indicators.CachedIndicator;
  * A moving (i.e. over the time frame) simple linear regression (least squares).
  * y = slope * x + intercept
  * See also: http://introcs.cs.princeton.edu/java/97data/LinearRegression.java.html
+ * <p>
+ * The value of the indicator is the value of the regression line at the index. The slope, the intercept and the
+ * coefficient of determination (R squared) of the line are provided by the {@link LinearRegressionSlopeIndicator},
+ * {@link LinearRegressionInterceptIndicator} and {@link LinearRegressionRSquaredIndicator} indicators, from the
+ * same calculation.
+ * The regression line is calculated in O(1) on sequential calculation, from the rolling moments of the tick index
+ * (x) and of the value (y) (see {@code BivariateMomentSums}).
  */
 public class SimpleLinearRegressionIndicator extends CachedIndicator<Decimal> {
 
@@ -40,60 +47,136 @@ public class SimpleLinearRegressionIndicator extends CachedIndicator<Decimal> {
      */
     private static final long serialVersionUID = -1275241394724128378L;
 
-    private Indicator<Decimal> indicator;
-    
     private int timeFrame;
-    
+
+    private final RegressionSums sums;
+
+    /** Index of the last calculated regression line (-1 if none) */
+    private int lineIndex = -1;
+
     private Decimal slope;
     
     private Decimal intercept;
+
+    private Decimal rSquared;
     
     public SimpleLinearRegressionIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
-        this.indicator = indicator;
         this.timeFrame = timeFrame;
+        sums = new RegressionSums(indicator, timeFrame);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        final int startIndex = Math.max(0, index - timeFrame + 1);
-        final int endIndex = index;
-        if (endIndex - startIndex + 1 < 2) {
-            // Not enough observations to compute a regression line
-            return Decimal.NaN;
-        }
-        calculateRegressionLine(startIndex, endIndex);
+        calculateRegressionLine(index);
         return slope.multipliedBy(Decimal.valueOf(index)).plus(intercept);
     }
+
+    @Override
+    protected int getLookBack() {
+        return sums.getLookBack();
+    }
+
+    @Override
+    protected int resetStateFrom(int index) {
+        if (index <= lineIndex) {
+            lineIndex = -1;
+        }
+        sums.invalidateFrom(index);
+        return index;
+    }
+
+    /**
+     * @param index the tick index
+     * @return the slope of the regression line over the time frame ending at index (NaN if less than 2 observations)
+     */
+    Decimal getSlope(int index) {
+        calculateRegressionLine(index);
+        return slope;
+    }
+
+    /**
+     * @param index the tick index
+     * @return the intercept of the regression line over the time frame ending at index (NaN if less than 2 observations)
+     */
+    Decimal getIntercept(int index) {
+        calculateRegressionLine(index);
+        return intercept;
+    }
+
+    /**
+     * @param index the tick index
+     * @return the coefficient of determination (R squared) of the regression line over the time frame ending at
+     *         index (1 if all the values are equal, NaN if less than 2 observations)
+     */
+    Decimal getRSquared(int index) {
+        calculateRegressionLine(index);
+        return rSquared;
+    }
     
     /**
-     * Calculates the regression line.
-     * @param startIndex the start index (inclusive) in the time series
-     * @param endIndex the end index (inclusive) in the time series
+     * Calculates the regression line (if not already calculated).
+     * @param index the end index (inclusive) in the time series
      */
-    private void calculateRegressionLine(int startIndex, int endIndex) {
-        // First pass: compute xBar and yBar
-        Decimal sumX = Decimal.ZERO;
-        Decimal sumY = Decimal.ZERO;
-        for (int i = startIndex; i <= endIndex; i++) {
-            sumX = sumX.plus(Decimal.valueOf(i));
-            sumY = sumY.plus(indicator.getValue(i));
+    private void calculateRegressionLine(int index) {
+        invalidateModifiedResults();
+        if (index == lineIndex) {
+            return;
         }
-        Decimal nbObservations = Decimal.valueOf(endIndex - startIndex + 1);
-        Decimal xBar = sumX.dividedBy(nbObservations);
-        Decimal yBar = sumY.dividedBy(nbObservations);
-        
-        // Second pass: compute slope and intercept
-        Decimal xxBar = Decimal.ZERO;
-        Decimal xyBar = Decimal.ZERO;
-        for (int i = startIndex; i <= endIndex; i++) {
-            Decimal dX = Decimal.valueOf(i).minus(xBar);
-            Decimal dY = indicator.getValue(i).minus(yBar);
-            xxBar = xxBar.plus(dX.multipliedBy(dX));
-            xyBar = xyBar.plus(dX.multipliedBy(dY));
+        lineIndex = index;
+        final int startIndex = Math.max(0, index - timeFrame + 1);
+        if (index - startIndex + 1 < 2) {
+            // Not enough observations to compute a regression line
+            slope = Decimal.NaN;
+            intercept = Decimal.NaN;
+            rSquared = Decimal.NaN;
+            return;
         }
-        
-        slope = xyBar.dividedBy(xxBar);
+        sums.moveTo(index);
+
+        // Sums of the (products of the) deviations to the averages
+        Decimal sumXX = sums.getCenteredSumXX();
+        Decimal sumYY = sums.getCenteredSumYY();
+        Decimal sumXY = sums.getCenteredSumXY();
+        Decimal xBar = sums.getMeanX();
+        Decimal yBar = sums.getMeanY();
+        slope = sumXY.dividedBy(sumXX);
         intercept = yBar.minus(slope.multipliedBy(xBar));
+        if (sumYY.isPositive()) {
+            rSquared = sumXY.multipliedBy(sumXY).dividedBy(sumXX.multipliedBy(sumYY));
+        } else {
+            // All the values are equal (or rounding error)
+            rSquared = sumYY.isNaN() ? Decimal.NaN : Decimal.ONE;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " timeFrame: " + timeFrame;
+    }
+
+    /**
+     * Rolling moments of the tick index (x) and of the value (y).
+     */
+    private static class RegressionSums extends BivariateMomentSums {
+
+        private static final long serialVersionUID = -8563154925735401373L;
+
+        private final Indicator<Decimal> indicator;
+
+        RegressionSums(Indicator<Decimal> indicator, int timeFrame) {
+            super(indicator.getTimeSeries(), timeFrame);
+            this.indicator = indicator;
+        }
+
+        @Override
+        protected Decimal getX(int index) {
+            return Decimal.valueOf(index);
+        }
+
+        @Override
+        protected Decimal getY(int index) {
+            return indicator.getValue(index);
+        }
     }
 }
@@ -48,10 +48,16 @@ public class StandardDeviationIndicator extends CachedIndicator<Decimal> {
     public StandardDeviationIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
         variance = new VarianceIndicator(indicator, timeFrame);
+        dependsOn(variance);
     }
 
     @Override
     protected Decimal calculate(int index) {
         return variance.getValue(index).sqrt();
     }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
 }
@@ -50,6 +50,7 @@ public class StandardErrorIndicator extends CachedIndicator<Decimal> {
         super(indicator);
         this.timeFrame = timeFrame;
         sdev = new StandardDeviationIndicator(indicator, timeFrame);
+        dependsOn(sdev);
     }
 
     @Override
@@ -58,4 +59,9 @@ public class StandardErrorIndicator extends CachedIndicator<Decimal> {
         final int numberOfObservations = index - startIndex + 1;
         return sdev.getValue(index).dividedBy(Decimal.valueOf(Math.sqrt(numberOfObservations)));
     }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
 }
@@ -25,11 +25,18 @@ package eu.verdelhan.ta4j.indicators.statistics;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
-import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.RollingSums;
 
 /**
  * Variance indicator.
  * <p>
+ * Calculated in O(1) on sequential calculation, from the rolling sums of the deviations to an anchor value and of
+ * their squares (see {@link RollingSums}). The anchor (a value of the indicator) is reset on each full
+ * recalculation of the sums, which keeps the cancellation errors low.
+ * <p>
+ * Tolerance, compared to the two-pass calculation (average, then squared deviations): the results of
+ * BigDecimal-backed decimals agree far below the precision of a double; the relative error of primitive decimals
+ * stays below 1e-10 on price series.
  */
 public class VarianceIndicator extends CachedIndicator<Decimal> {
 
@@ -38,11 +45,9 @@ public class VarianceIndicator extends CachedIndicator<Decimal> {
      */
     private static final long serialVersionUID = -6568279991537612785L;
 
-    private Indicator<Decimal> indicator;
-
     private int timeFrame;
 
-    private SMAIndicator sma;
+    private final DeviationSums sums;
 
     /**
      * Constructor.
@@ -51,27 +56,70 @@ public class VarianceIndicator extends CachedIndicator<Decimal> {
      */
     public VarianceIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
-        this.indicator = indicator;
         this.timeFrame = timeFrame;
-        sma = new SMAIndicator(indicator, timeFrame);
+        sums = new DeviationSums(indicator, timeFrame);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        final int startIndex = Math.max(0, index - timeFrame + 1);
-        final int numberOfObservations = index - startIndex + 1;
-        Decimal variance = Decimal.ZERO;
-        Decimal average = sma.getValue(index);
-        for (int i = startIndex; i <= index; i++) {
-            Decimal pow = indicator.getValue(i).minus(average).pow(2);
-            variance = variance.plus(pow);
+        sums.moveTo(index);
+        final Decimal numberOfObservations = Decimal.valueOf(sums.getTickCount());
+        final Decimal sum = sums.getSum(0);
+        final Decimal sumOfSquares = sums.getSum(1);
+        Decimal variance = sumOfSquares.minus(sum.multipliedBy(sum).dividedBy(numberOfObservations))
+                .dividedBy(numberOfObservations);
+        if (variance.isNegative()) {
+            // Rounding error
+            variance = Decimal.ZERO;
         }
-        variance = variance.dividedBy(Decimal.valueOf(numberOfObservations));
         return variance;
     }
 
+    @Override
+    protected int getLookBack() {
+        return sums.getLookBack();
+    }
+
+    @Override
+    protected int resetStateFrom(int index) {
+        sums.invalidateFrom(index);
+        return index;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
     }
+
+    /**
+     * Rolling sums of the deviations to the anchor, and of their squares.
+     */
+    private static class DeviationSums extends RollingSums {
+
+        private static final long serialVersionUID = 7541628539170357946L;
+
+        private final Indicator<Decimal> indicator;
+
+        private Decimal anchor = Decimal.ZERO;
+
+        DeviationSums(Indicator<Decimal> indicator, int timeFrame) {
+            super(indicator.getTimeSeries(), timeFrame, 2);
+            this.indicator = indicator;
+        }
+
+        @Override
+        protected void beforeRecalculation(int startIndex, int endIndex) {
+            anchor = indicator.getValue(endIndex);
+            if (anchor.isNaN()) {
+                anchor = Decimal.ZERO;
+            }
+        }
+
+        @Override
+        protected void getTerms(int index, Decimal[] terms) {
+            Decimal deviation = indicator.getValue(index).minus(anchor);
+            terms[0] = deviation;
+            terms[1] = deviation.multipliedBy(deviation);
+        }
+    }
 }
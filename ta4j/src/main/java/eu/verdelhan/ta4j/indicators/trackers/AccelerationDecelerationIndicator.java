@@ -47,6 +47,7 @@ public class AccelerationDecelerationIndicator extends CachedIndicator<Decimal>
         super(series);
         this.awesome = new AwesomeOscillatorIndicator(new MedianPriceIndicator(series), timeFrameSma1, timeFrameSma2);
         this.sma5 = new SMAIndicator(awesome, timeFrameSma1);
+        dependsOn(awesome, sma5);
     }
     
     public AccelerationDecelerationIndicator(TimeSeries series) {
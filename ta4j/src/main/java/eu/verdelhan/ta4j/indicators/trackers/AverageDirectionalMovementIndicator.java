@@ -43,6 +43,7 @@ public class AverageDirectionalMovementIndicator extends RecursiveCachedIndicato
         super(series);
         this.timeFrame = timeFrame;
         this.dm = new DirectionalMovementIndicator(series, timeFrame);
+        dependsOn(dm);
     }
 
     @Override
@@ -65,6 +65,7 @@ public class ChandelierExitLongIndicator extends CachedIndicator<Decimal> {
         high = new HighestValueIndicator(new MaxPriceIndicator(series), timeFrame);
         atr = new AverageTrueRangeIndicator(series, timeFrame);
         this.k = k;
+        dependsOn(high, atr);
     }
 
     @Override
@@ -65,6 +65,7 @@ public class ChandelierExitShortIndicator extends CachedIndicator<Decimal> {
         low = new LowestValueIndicator(new MinPriceIndicator(series), timeFrame);
         atr = new AverageTrueRangeIndicator(series, timeFrame);
         this.k = k;
+        dependsOn(low, atr);
     }
 
     @Override
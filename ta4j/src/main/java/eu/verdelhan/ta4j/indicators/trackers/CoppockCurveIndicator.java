@@ -54,6 +54,7 @@ public class CoppockCurveIndicator extends CachedIndicator<Decimal> {
                 new ROCIndicator(indicator, shortRoCTimeFrame)
         );
         wma = new WMAIndicator(sum, wmaTimeFrame);
+        dependsOn(wma);
     }
 
     @Override
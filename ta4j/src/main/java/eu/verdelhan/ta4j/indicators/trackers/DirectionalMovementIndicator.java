@@ -47,6 +47,7 @@ public class DirectionalMovementIndicator extends CachedIndicator<Decimal>{
         this.timeFrame = timeFrame;
         dup = new DirectionalUpIndicator(series, timeFrame);
         ddown = new DirectionalDownIndicator(series, timeFrame);
+        dependsOn(dup, ddown);
     }
 
     @Override
@@ -24,13 +24,13 @@ package eu.verdelhan.ta4j.indicators.trackers;
 
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
-import eu.verdelhan.ta4j.indicators.RecursiveCachedIndicator;
+import eu.verdelhan.ta4j.indicators.LinearRecursiveIndicator;
 
 /**
  * Exponential moving average indicator.
  * <p>
  */
-public class EMAIndicator extends RecursiveCachedIndicator<Decimal> {
+public class EMAIndicator extends LinearRecursiveIndicator {
 
     /**
      * 
@@ -43,6 +43,9 @@ public class EMAIndicator extends RecursiveCachedIndicator<Decimal> {
 
     private final Decimal multiplier;
 
+    /** Starting point of the EMA */
+    private final SMAIndicator sma;
+
     /**
      * Constructor.
      * @param indicator an indicator
@@ -53,19 +56,33 @@ public class EMAIndicator extends RecursiveCachedIndicator<Decimal> {
         this.indicator = indicator;
         this.timeFrame = timeFrame;
         multiplier = Decimal.TWO.dividedBy(Decimal.valueOf(timeFrame + 1));
+        sma = new SMAIndicator(indicator, timeFrame);
+        dependsOn(sma);
+        usePrimitiveCache();
+    }
+
+    @Override
+    protected int getFirstLinearIndex() {
+        return Math.max(1, timeFrame - 1);
     }
 
     @Override
-    protected Decimal calculate(int index) {
+    protected Decimal getInitialValue(int index) {
         if (index + 1 < timeFrame) {
             // Starting point of the EMA
-            return new SMAIndicator(indicator, timeFrame).getValue(index);
-        }
-        if (index == 0) {
-            // If the timeframe is bigger than the indicator's value count
-            return indicator.getValue(0);
+            return sma.getValue(index);
         }
-        Decimal emaPrev = getValue(index - 1);
-        return indicator.getValue(index).minus(emaPrev).multipliedBy(multiplier).plus(emaPrev);
+        // If the timeframe is bigger than the indicator's value count
+        return indicator.getValue(0);
+    }
+
+    @Override
+    protected Decimal getMultiplier(int index) {
+        return Decimal.ONE.minus(multiplier);
+    }
+
+    @Override
+    protected Decimal getIncrement(int index) {
+        return indicator.getValue(index).multipliedBy(multiplier);
     }
 }
\ No newline at end of file
@@ -53,6 +53,7 @@ public class HMAIndicator extends CachedIndicator<Decimal> {
         
         Indicator<Decimal> indicatorForSqrtWma = new DifferenceIndicator(new MultiplierIndicator(halfWma, Decimal.TWO), origWma);
         sqrtWma = new WMAIndicator(indicatorForSqrtWma, (int) Math.sqrt(timeFrame));
+        dependsOn(sqrtWma);
     }
 
     @Override
@@ -60,6 +61,11 @@ public class HMAIndicator extends CachedIndicator<Decimal> {
         return sqrtWma.getValue(index);
     }
 
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
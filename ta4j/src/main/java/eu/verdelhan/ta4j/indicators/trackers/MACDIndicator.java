@@ -42,16 +42,36 @@ public class MACDIndicator extends CachedIndicator<Decimal> {
     private final EMAIndicator longTermEma;
 
     public MACDIndicator(Indicator<Decimal> indicator, int shortTimeFrame, int longTimeFrame) {
-        super(indicator);
+        super(indicator.getTimeSeries());
         if (shortTimeFrame > longTimeFrame) {
             throw new IllegalArgumentException("Long term period count must be greater than short term period count");
         }
         shortTermEma = new EMAIndicator(indicator, shortTimeFrame);
         longTermEma = new EMAIndicator(indicator, longTimeFrame);
+        dependsOn(shortTermEma, longTermEma);
+    }
+
+    /**
+     * Constructor.
+     * <p>
+     * Useful to share the EMAs with other indicators (e.g. when they come from an {@link eu.verdelhan.ta4j.IndicatorRegistry}).
+     * @param shortTermEma the short term EMA
+     * @param longTermEma the long term EMA
+     */
+    public MACDIndicator(EMAIndicator shortTermEma, EMAIndicator longTermEma) {
+        super(shortTermEma);
+        this.shortTermEma = shortTermEma;
+        this.longTermEma = longTermEma;
+        dependsOn(longTermEma);
     }
 
     @Override
     protected Decimal calculate(int index) {
         return shortTermEma.getValue(index).minus(longTermEma.getValue(index));
     }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
 }
\ No newline at end of file
@@ -52,6 +52,15 @@ public class ParabolicSarIndicator extends RecursiveCachedIndicator<Decimal> {
 
     private Decimal extremePoint;
 
+    /** Index of the last step of the state (-1 if none) */
+    private int stateIndex = -1;
+
+    /** Acceleration factor before the last step (null if unknown) */
+    private Decimal previousAcceleration;
+
+    /** Extreme point before the last step (null if unknown) */
+    private Decimal previousExtremePoint;
+
     private final LowestValueIndicator lowestValueIndicator;
 
     private final HighestValueIndicator highestValueIndicator;
@@ -61,15 +70,55 @@ public class ParabolicSarIndicator extends RecursiveCachedIndicator<Decimal> {
         this.series = series;
         this.lowestValueIndicator = new LowestValueIndicator(new MinPriceIndicator(series), timeFrame);
         this.highestValueIndicator = new HighestValueIndicator(new MaxPriceIndicator(series), timeFrame);
+        dependsOn(lowestValueIndicator, highestValueIndicator);
     }
 
     @Override
     protected Decimal calculate(int index) {
+        Decimal previousSar = index > 0 ? getValue(index - 1) : null;
+        if (stateIndex != index - 1) {
+            // State not calculated up to the previous index (e.g. random access): replaying it from the first tick
+            resetState();
+            Decimal sar = null;
+            for (int i = 0; i < index; i++) {
+                sar = step(i, sar);
+            }
+        }
+        return step(index, previousSar);
+    }
+
+    @Override
+    protected int resetStateFrom(int index) {
+        if (index == stateIndex && previousExtremePoint != null) {
+            // Moving back to the state before the last step (only once: the state before it is unknown)
+            acceleration = previousAcceleration;
+            extremePoint = previousExtremePoint;
+            previousAcceleration = null;
+            previousExtremePoint = null;
+            stateIndex--;
+        } else if (index <= stateIndex) {
+            // The state cannot be rewound: it is replayed on the next calculation
+            resetState();
+        }
+        return index;
+    }
+
+    /**
+     * Calculates the SAR for a tick, moving the state (acceleration factor and extreme point) from the previous
+     * tick to this one.
+     * @param index the tick index (the state must be at index - 1)
+     * @param previousSar the SAR of the previous tick (null for the first tick)
+     * @return the SAR
+     */
+    private Decimal step(int index, Decimal previousSar) {
+        previousAcceleration = acceleration;
+        previousExtremePoint = extremePoint;
 
         if (index <= 1) {
             // Warning: should the min or the max price, according to the trend
             // But we don't know the trend yet, so we use the close price.
             extremePoint = series.getTick(index).getClosePrice();
+            stateIndex = index;
             return extremePoint;
         }
 
@@ -96,7 +145,7 @@ public class ParabolicSarIndicator extends RecursiveCachedIndicator<Decimal> {
                 incrementAcceleration();
                 extremePoint = lowestValue;
             }
-            sar = calculateSar(index);
+            sar = calculateSar(previousSar);
 
             Decimal n2MaxPrice = series.getTick(index - 2).getMaxPrice();
             Decimal n1MaxPrice = series.getTick(index - 1).getMaxPrice();
@@ -118,7 +167,7 @@ public class ParabolicSarIndicator extends RecursiveCachedIndicator<Decimal> {
                 incrementAcceleration();
                 extremePoint = highestValue;
             }
-            sar = calculateSar(index);
+            sar = calculateSar(previousSar);
 
             Decimal n2MinPrice = series.getTick(index - 2).getMinPrice();
             Decimal n1MinPrice = series.getTick(index - 1).getMinPrice();
@@ -134,9 +183,21 @@ public class ParabolicSarIndicator extends RecursiveCachedIndicator<Decimal> {
             }
 
         }
+        stateIndex = index;
         return sar;
     }
 
+    /**
+     * Resets the state to the one before the first tick.
+     */
+    private void resetState() {
+        acceleration = DEFAULT_ACCELERATION;
+        extremePoint = null;
+        previousAcceleration = null;
+        previousExtremePoint = null;
+        stateIndex = -1;
+    }
+
     /**
      * Increments the acceleration factor.
      */
@@ -150,11 +211,10 @@ public class ParabolicSarIndicator extends RecursiveCachedIndicator<Decimal> {
 
     /**
      * Calculates the SAR.
-     * @param index the tick index
+     * @param previousSar the SAR of the previous tick
      * @return the SAR
      */
-    private Decimal calculateSar(int index) {
-        Decimal previousSar = getValue(index - 1);
+    private Decimal calculateSar(Decimal previousSar) {
         return extremePoint.multipliedBy(acceleration)
                 .plus(Decimal.ONE.minus(acceleration).multipliedBy(previousSar));
     }
@@ -50,6 +50,7 @@ public class RAVIIndicator extends CachedIndicator<Decimal> {
         super(price);
         shortSma = new SMAIndicator(price, shortSmaTimeFrame);
         longSma = new SMAIndicator(price, longSmaTimeFrame);
+        dependsOn(shortSma, longSma);
     }
 
     @Override
@@ -61,4 +62,9 @@ public class RAVIIndicator extends CachedIndicator<Decimal> {
                 .multipliedBy(Decimal.HUNDRED);
     }
 
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
+
 }
@@ -25,6 +25,7 @@ package eu.verdelhan.ta4j.indicators.trackers;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import java.util.List;
 
 /**
  * Rate of change (ROCIndicator) indicator.
@@ -58,4 +59,15 @@ public class ROCIndicator extends CachedIndicator<Decimal> {
                 .dividedBy(nPeriodsAgoValue)
                 .multipliedBy(Decimal.HUNDRED);
     }
-}
\ No newline at end of file
+
+    @Override
+    protected int getLookBack() {
+        return timeFrame + 1;
+    }
+
+    @Override
+    protected List<Decimal> calculateRange(int startIndex, int endIndex) {
+        // No state: the values can be calculated in any order
+        return calculateEach(startIndex, endIndex);
+    }
+}
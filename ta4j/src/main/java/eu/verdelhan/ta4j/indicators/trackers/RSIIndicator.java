@@ -40,17 +40,29 @@ public class RSIIndicator extends CachedIndicator<Decimal> {
      */
     private static final long serialVersionUID = 1254716380798754762L;
 
-    private AverageGainIndicator averageGainIndicator;
+    private final Indicator<Decimal> averageGainIndicator;
 
-    private AverageLossIndicator averageLossIndicator;
+    private final Indicator<Decimal> averageLossIndicator;
 
     private final int timeFrame;
 
     public RSIIndicator(Indicator<Decimal> indicator, int timeFrame) {
-        super(indicator);
+        this(new AverageGainIndicator(indicator, timeFrame), new AverageLossIndicator(indicator, timeFrame), timeFrame);
+    }
+
+    /**
+     * Constructor.
+     * @param averageGainIndicator the average gain indicator
+     * @param averageLossIndicator the average loss indicator
+     * @param timeFrame the time frame of the averages
+     */
+    protected RSIIndicator(Indicator<Decimal> averageGainIndicator, Indicator<Decimal> averageLossIndicator, int timeFrame) {
+        super(averageGainIndicator);
+        this.averageGainIndicator = averageGainIndicator;
+        this.averageLossIndicator = averageLossIndicator;
+        dependsOn(averageLossIndicator);
         this.timeFrame = timeFrame;
-        averageGainIndicator = new AverageGainIndicator(indicator, timeFrame);
-        averageLossIndicator = new AverageLossIndicator(indicator, timeFrame);
+        usePrimitiveCache();
     }
 
     @Override
@@ -72,6 +84,11 @@ public class RSIIndicator extends CachedIndicator<Decimal> {
         return Decimal.HUNDRED.minus(ratio);
     }
 
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
+
     @Override
     public String toString() {
         return getClass().getName() + " timeFrame: " + timeFrame;
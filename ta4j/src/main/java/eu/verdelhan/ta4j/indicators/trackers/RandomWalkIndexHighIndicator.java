@@ -61,6 +61,7 @@ public class RandomWalkIndexHighIndicator extends CachedIndicator<Decimal> {
         maxPrice = new MaxPriceIndicator(series);
         minPrice = new MinPriceIndicator(series);
         averageTrueRange = new AverageTrueRangeIndicator(series, timeFrame);
+        dependsOn(maxPrice, minPrice, averageTrueRange);
         sqrtTimeFrame = Decimal.valueOf(timeFrame).sqrt();
     }
 
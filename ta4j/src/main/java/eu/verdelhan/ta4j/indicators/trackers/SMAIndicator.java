@@ -24,11 +24,17 @@ package eu.verdelhan.ta4j.indicators.trackers;
 
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Simple moving average (SMA) indicator.
  * <p>
+ * When the values are calculated sequentially, the sum of the time frame is updated in O(1) from the previous one
+ * (adding the new value and subtracting the dropped one). It is fully recalculated on random access, and
+ * periodically to avoid the accumulation of rounding errors.
  */
 public class SMAIndicator extends CachedIndicator<Decimal> {
 
@@ -37,27 +43,126 @@ public class SMAIndicator extends CachedIndicator<Decimal> {
      */
     private static final long serialVersionUID = -5025860923919162234L;
 
+    /** Maximum number of successive incremental updates of the sum */
+    private static final int MAX_INCREMENTAL_UPDATES = 1024;
+
     private final Indicator<Decimal> indicator;
 
     private final int timeFrame;
 
+    /** Index of the last calculated sum (-1 if none) */
+    private int sumIndex = -1;
+
+    /** Sum of the values of the time frame ending at sumIndex */
+    private Decimal sum;
+
+    /** Sum of the values of the time frame ending at sumIndex - 1 (null if unknown) */
+    private Decimal previousSum;
+
+    /** Number of incremental updates since the last full calculation of the sum */
+    private int incrementalUpdates;
+
     public SMAIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
         this.indicator = indicator;
         this.timeFrame = timeFrame;
+        usePrimitiveCache();
     }
 
     @Override
     protected Decimal calculate(int index) {
-        Decimal sum = Decimal.ZERO;
-        for (int i = Math.max(0, index - timeFrame + 1); i <= index; i++) {
-            sum = sum.plus(indicator.getValue(i));
+        if (index == sumIndex + 1 && canSlide(index)) {
+            previousSum = sum;
+            sum = sum.plus(indicator.getValue(index));
+            if (index >= timeFrame) {
+                sum = sum.minus(indicator.getValue(index - timeFrame));
+            }
+            incrementalUpdates++;
+        } else {
+            sum = calculateSum(index);
+            previousSum = null;
+            incrementalUpdates = 0;
         }
+        sumIndex = index;
 
         final int realTimeFrame = Math.min(timeFrame, index + 1);
         return sum.dividedBy(Decimal.valueOf(realTimeFrame));
     }
 
+    @Override
+    protected int getLookBack() {
+        return timeFrame;
+    }
+
+    @Override
+    protected int resetStateFrom(int index) {
+        if (index <= sumIndex) {
+            if (index == sumIndex && previousSum != null) {
+                // Only the last value of the sum has been modified
+                sum = previousSum;
+                sumIndex--;
+            } else {
+                sumIndex = -1;
+                sum = null;
+            }
+            previousSum = null;
+        }
+        return index;
+    }
+
+    @Override
+    protected List<Decimal> calculateRange(int startIndex, int endIndex) {
+        List<Decimal> values = new ArrayList<Decimal>(endIndex - startIndex + 1);
+        // Sum of the range (independent of the sequential one)
+        Decimal rangeSum = null;
+        for (int index = startIndex; index <= endIndex; index++) {
+            if (rangeSum != null && !rangeSum.isNaN() && (index - startIndex) % MAX_INCREMENTAL_UPDATES != 0
+                    && isDroppedValueAvailable(index)) {
+                rangeSum = rangeSum.plus(indicator.getValue(index));
+                if (index >= timeFrame) {
+                    rangeSum = rangeSum.minus(indicator.getValue(index - timeFrame));
+                }
+            } else {
+                rangeSum = calculateSum(index);
+            }
+            final int realTimeFrame = Math.min(timeFrame, index + 1);
+            values.add(rangeSum.dividedBy(Decimal.valueOf(realTimeFrame)));
+        }
+        return values;
+    }
+
+    /**
+     * @param index the tick index
+     * @return the sum of the values of the time frame ending at index
+     */
+    private Decimal calculateSum(int index) {
+        Decimal windowSum = Decimal.ZERO;
+        for (int i = Math.max(0, index - timeFrame + 1); i <= index; i++) {
+            windowSum = windowSum.plus(indicator.getValue(i));
+        }
+        return windowSum;
+    }
+
+    /**
+     * @param index the tick index
+     * @return true if the sum of the time frame ending at index can be calculated from the one ending at index-1
+     */
+    private boolean canSlide(int index) {
+        if (sum == null || sum.isNaN() || incrementalUpdates >= MAX_INCREMENTAL_UPDATES) {
+            return false;
+        }
+        return isDroppedValueAvailable(index);
+    }
+
+    /**
+     * @param index the tick index
+     * @return true if the value dropped from the time frame ending at index-1 is still available
+     */
+    private boolean isDroppedValueAvailable(int index) {
+        TimeSeries series = getTimeSeries();
+        return index < timeFrame || series == null || index - timeFrame >= series.getRemovedTicksCount();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " timeFrame: " + timeFrame;
@@ -0,0 +1,48 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.trackers;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.helpers.SmoothedAverageGainIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.SmoothedAverageLossIndicator;
+
+/**
+ * Smoothed relative strength index indicator.
+ * <p>
+ * Wilder's original RSI: the average gains and losses are smoothed (see {@link SmoothedAverageGainIndicator}
+ * and {@link SmoothedAverageLossIndicator}) instead of being simple averages over the time frame.
+ * @see http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:relative_strength_index_rsi
+ */
+public class SmoothedRSIIndicator extends RSIIndicator {
+
+    /**
+     * 
+     */
+    private static final long serialVersionUID = -5790420418372356112L;
+
+    public SmoothedRSIIndicator(Indicator<Decimal> indicator, int timeFrame) {
+        super(new SmoothedAverageGainIndicator(indicator, timeFrame),
+                new SmoothedAverageLossIndicator(indicator, timeFrame), timeFrame);
+    }
+}
@@ -24,7 +24,7 @@ package eu.verdelhan.ta4j.indicators.trackers;
 
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Indicator;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.RecursiveCachedIndicator;
 
 /**
  * This class implenents a basic trailing stop loss indicator.
@@ -53,7 +53,7 @@ import eu.verdelhan.ta4j.indicators.CachedIndicator;
  * 
  * @author Bastian Engelmann
  */
-public class TrailingStopLossIndicator extends CachedIndicator<Decimal> {
+public class TrailingStopLossIndicator extends RecursiveCachedIndicator<Decimal> {
     
     /**
      * 
@@ -62,8 +62,8 @@ public class TrailingStopLossIndicator extends CachedIndicator<Decimal> {
 
     private final Indicator<Decimal> indicator;
 
-    private Decimal stopLossLimit;
-    
+    private final Decimal initialStopLossLimit;
+
     private final Decimal stopLossDistance;
     
     /**
@@ -85,7 +85,7 @@ public class TrailingStopLossIndicator extends CachedIndicator<Decimal> {
         super(indicator);
         this.indicator = indicator;
         this.stopLossDistance = stopLossDistance;
-        this.stopLossLimit = initialStopLossLimit;
+        this.initialStopLossLimit = initialStopLossLimit;
     }
     
     /**
@@ -97,6 +97,8 @@ public class TrailingStopLossIndicator extends CachedIndicator<Decimal> {
      */
     @Override
     protected Decimal calculate(int index) {
+        // (The limit of the previous tick is calculated first: the limit does not depend on the read order)
+        Decimal stopLossLimit = index > 0 ? getValue(index - 1) : initialStopLossLimit;
         if (stopLossLimit.isNaN()) {
             // Case without initial stop-loss limit value
             stopLossLimit = indicator.getValue(0).minus(stopLossDistance);
@@ -46,6 +46,7 @@ public class TripleEMAIndicator extends CachedIndicator<Decimal> {
         super(indicator);
         this.timeFrame = timeFrame;
         this.ema = new EMAIndicator(indicator, timeFrame);
+        dependsOn(ema);
     }
 
     @Override
@@ -25,10 +25,14 @@ package eu.verdelhan.ta4j.indicators.trackers;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.RollingSums;
 
 /**
  * WMA indicator.
  * <p>
+ * Calculated in O(1) on sequential calculation, from the rolling sum S of the values and the rolling sum of the
+ * values weighted by their tick index (see {@link RollingSums}). Sliding the time frame amounts to
+ * W' = W + n.x_new - S, and S' = S + x_new - x_old.
  */
 public class WMAIndicator extends CachedIndicator<Decimal> {
 
@@ -41,10 +45,14 @@ public class WMAIndicator extends CachedIndicator<Decimal> {
 
     private Indicator<Decimal> indicator;
 
+    private final WeightedSums sums;
+
     public WMAIndicator(Indicator<Decimal> indicator, int timeFrame) {
         super(indicator);
         this.indicator = indicator;
         this.timeFrame = timeFrame;
+        sums = new WeightedSums(indicator, timeFrame);
+        usePrimitiveCache();
     }
 
     @Override
@@ -52,25 +60,56 @@ public class WMAIndicator extends CachedIndicator<Decimal> {
         if (index == 0) {
             return indicator.getValue(0);
         }
-        Decimal value = Decimal.ZERO;
-        if(index - timeFrame < 0) {
-            
-            for(int i = index + 1; i > 0; i--) {
-                value = value.plus(Decimal.valueOf(i).multipliedBy(indicator.getValue(i-1)));
-            }
-            return value.dividedBy(Decimal.valueOf(((index + 1) * (index + 2)) / 2));
-        }
-        
-        int actualIndex = index;
-        for(int i = timeFrame; i > 0; i--) {
-            value = value.plus(Decimal.valueOf(i).multipliedBy(indicator.getValue(actualIndex)));
-            actualIndex--;
-        }
-        return value.dividedBy(Decimal.valueOf((timeFrame * (timeFrame + 1)) / 2));
+        sums.moveTo(index);
+        final int realTimeFrame = sums.getTickCount();
+        // Weight of the value of tick j: j - (index - realTimeFrame)
+        final Decimal weightedSum = sums.getSum(1)
+                .minus(Decimal.valueOf(index - realTimeFrame - sums.anchorIndex).multipliedBy(sums.getSum(0)));
+        return weightedSum.dividedBy(Decimal.valueOf((realTimeFrame * (realTimeFrame + 1)) / 2));
+    }
+
+    @Override
+    protected int getLookBack() {
+        return sums.getLookBack();
+    }
+
+    @Override
+    protected int resetStateFrom(int index) {
+        sums.invalidateFrom(index);
+        return index;
     }
 
     @Override
     public String toString() {
         return String.format("%s timeFrame: %s", getClass().getSimpleName(), timeFrame);
     }
+
+    /**
+     * Rolling sums of the values, and of the values weighted by their tick index (relative to an anchor index).
+     */
+    private static class WeightedSums extends RollingSums {
+
+        private static final long serialVersionUID = -4365236612780851012L;
+
+        private final Indicator<Decimal> indicator;
+
+        /** Index relative to which the weights are calculated (reset on full recalculation to keep them small) */
+        private int anchorIndex;
+
+        WeightedSums(Indicator<Decimal> indicator, int timeFrame) {
+            super(indicator.getTimeSeries(), timeFrame, 2);
+            this.indicator = indicator;
+        }
+
+        @Override
+        protected void beforeRecalculation(int startIndex, int endIndex) {
+            anchorIndex = startIndex - 1;
+        }
+
+        @Override
+        protected void getTerms(int index, Decimal[] terms) {
+            terms[0] = indicator.getValue(index);
+            terms[1] = terms[0].multipliedBy(Decimal.valueOf(index - anchorIndex));
+        }
+    }
 }
@@ -65,6 +65,7 @@ public class WilliamsRIndicator extends CachedIndicator<Decimal> {
         this.timeFrame = timeFrame;
         this.maxPriceIndicator = maxPriceIndicator;
         this.minPriceIndicator = minPriceIndicator;
+        dependsOn(maxPriceIndicator, minPriceIndicator);
     }
 
     @Override
@@ -80,6 +81,11 @@ public class WilliamsRIndicator extends CachedIndicator<Decimal> {
                 .multipliedBy(multiplier);
     }
 
+    @Override
+    protected int getLookBack() {
+        return timeFrame;
+    }
+
     @Override
     public String toString() {
         return getClass().getName();
@@ -47,6 +47,7 @@ public class BollingerBandWidthIndicator extends CachedIndicator<Decimal> {
         this.bbu = bbu;
         this.bbm = bbm;
         this.bbl = bbl;
+        dependsOn(bbu, bbm, bbl);
     }
 
     @Override
@@ -54,4 +55,9 @@ public class BollingerBandWidthIndicator extends CachedIndicator<Decimal> {
         return bbu.getValue(index).minus(bbl.getValue(index))
                 .dividedBy(bbm.getValue(index)).multipliedBy(Decimal.HUNDRED);
     }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
 }
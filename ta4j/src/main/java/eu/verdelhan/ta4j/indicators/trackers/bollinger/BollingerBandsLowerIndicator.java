@@ -53,6 +53,7 @@ public class BollingerBandsLowerIndicator extends CachedIndicator<Decimal> {
         this.bbm = bbm;
         this.indicator = indicator;
         this.k = k;
+        dependsOn(bbm);
     }
 
     @Override
@@ -60,6 +61,11 @@ public class BollingerBandsLowerIndicator extends CachedIndicator<Decimal> {
         return bbm.getValue(index).minus(indicator.getValue(index).multipliedBy(k));
     }
 
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
+
     /**
      * @return the K multiplier
      */
@@ -49,6 +49,11 @@ public class BollingerBandsMiddleIndicator extends CachedIndicator<Decimal> {
         return indicator.getValue(index);
     }
 
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
+
     public Indicator<Decimal> getIndicator() {
         return indicator;
     }
@@ -60,6 +60,7 @@ public class PercentBIndicator extends CachedIndicator<Decimal> {
         StandardDeviationIndicator sd = new StandardDeviationIndicator(indicator, timeFrame);
         this.bbu = new BollingerBandsUpperIndicator(bbm, sd, k);
         this.bbl = new BollingerBandsLowerIndicator(bbm, sd, k);;
+        dependsOn(bbu, bbm, bbl);
     }
 
     @Override
@@ -69,4 +70,9 @@ public class PercentBIndicator extends CachedIndicator<Decimal> {
         Decimal lowValue = bbl.getValue(index);
         return value.minus(lowValue).dividedBy(upValue.minus(lowValue));
     }
+
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
 }
@@ -58,6 +58,7 @@ public abstract class AbstractIchimokuLineIndicator extends CachedIndicator<Deci
         super(series);
         periodHigh = new HighestValueIndicator(new MaxPriceIndicator(series), timeFrame);
         periodLow = new LowestValueIndicator(new MinPriceIndicator(series), timeFrame);
+        dependsOn(periodHigh, periodLow);
     }
 
     @Override
@@ -62,6 +62,7 @@ public class IchimokuChikouSpanIndicator extends CachedIndicator<Decimal> {
         super(series);
         closePriceIndicator = new ClosePriceIndicator(series);
         this.timeDelay = timeDelay;
+        dependsOn(closePriceIndicator);
     }
 
     @Override
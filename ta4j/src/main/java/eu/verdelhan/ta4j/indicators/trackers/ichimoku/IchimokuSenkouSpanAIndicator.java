@@ -72,6 +72,7 @@ public class IchimokuSenkouSpanAIndicator extends CachedIndicator<Decimal> {
         super(series);
         this.conversionLine = conversionLine;
         this.baseLine = baseLine;
+        dependsOn(conversionLine, baseLine);
     }
 
     @Override
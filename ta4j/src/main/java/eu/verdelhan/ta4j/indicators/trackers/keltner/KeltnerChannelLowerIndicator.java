@@ -48,6 +48,7 @@ public class KeltnerChannelLowerIndicator extends CachedIndicator<Decimal> {
         this.ratio = ratio;
         this.keltnerMiddleIndicator = keltnerMiddleIndicator;
         averageTrueRangeIndicator = new AverageTrueRangeIndicator(keltnerMiddleIndicator.getTimeSeries(), timeFrameATR);
+        dependsOn(averageTrueRangeIndicator);
     }
 
     @Override
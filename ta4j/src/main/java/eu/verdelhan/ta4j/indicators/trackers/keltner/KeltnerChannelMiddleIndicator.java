@@ -48,6 +48,7 @@ public class KeltnerChannelMiddleIndicator extends CachedIndicator<Decimal> {
     public KeltnerChannelMiddleIndicator(Indicator<Decimal> indicator, int timeFrameEMA) {
         super(indicator);
         emaIndicator = new EMAIndicator(indicator, timeFrameEMA);
+        dependsOn(emaIndicator);
     }
 
     @Override
@@ -48,6 +48,7 @@ public class KeltnerChannelUpperIndicator extends CachedIndicator<Decimal> {
         this.ratio = ratio;
         this.keltnerMiddleIndicator = keltnerMiddleIndicator;
         averageTrueRangeIndicator = new AverageTrueRangeIndicator(keltnerMiddleIndicator.getTimeSeries(), timeFrameATR);
+        dependsOn(averageTrueRangeIndicator);
     }
 
     @Override
@@ -64,6 +64,7 @@ public class MassIndexIndicator extends CachedIndicator<Decimal> {
         singleEma = new EMAIndicator(highLowDifferential, emaTimeFrame);
         doubleEma = new EMAIndicator(singleEma, emaTimeFrame); // Not the same formula as DoubleEMAIndicator
         this.timeFrame = timeFrame;
+        dependsOn(singleEma, doubleEma);
     }
 
     @Override
@@ -56,6 +56,7 @@ public class UlcerIndexIndicator extends CachedIndicator<Decimal> {
         this.indicator = indicator;
         this.timeFrame = timeFrame;
         highestValueInd = new HighestValueIndicator(indicator, timeFrame);
+        dependsOn(highestValueInd);
     }
 
     @Override
@@ -25,14 +25,14 @@ package eu.verdelhan.ta4j.indicators.volume;
 
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.RecursiveCachedIndicator;
+import eu.verdelhan.ta4j.indicators.LinearRecursiveIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.CloseLocationValueIndicator;
 
 /**
  * Accumulation-distribution indicator.
  * <p>
  */
-public class AccumulationDistributionIndicator extends RecursiveCachedIndicator<Decimal> {
+public class AccumulationDistributionIndicator extends LinearRecursiveIndicator {
 
     /**
      * 
@@ -47,20 +47,22 @@ public class AccumulationDistributionIndicator extends RecursiveCachedIndicator<
         super(series);
         this.series = series;
         this.clvIndicator = new CloseLocationValueIndicator(series);
+        dependsOn(clvIndicator);
     }
 
     @Override
-    protected Decimal calculate(int index) {
-        if (index == 0) {
-            return Decimal.ZERO;
-        }
-
-        // Calculating the money flow multiplier
-        Decimal moneyFlowMultiplier = clvIndicator.getValue(index);
+    protected Decimal getInitialValue(int index) {
+        return Decimal.ZERO;
+    }
 
-        // Calculating the money flow volume
-        Decimal moneyFlowVolume = moneyFlowMultiplier.multipliedBy(series.getTick(index).getVolume());
+    @Override
+    protected Decimal getMultiplier(int index) {
+        return Decimal.ONE;
+    }
 
-        return moneyFlowVolume.plus(getValue(index - 1));
+    @Override
+    protected Decimal getIncrement(int index) {
+        // Money flow volume
+        return clvIndicator.getValue(index).multipliedBy(series.getTick(index).getVolume());
     }
 }
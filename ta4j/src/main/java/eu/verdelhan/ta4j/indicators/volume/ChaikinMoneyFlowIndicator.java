@@ -27,13 +27,14 @@ import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.CloseLocationValueIndicator;
-import eu.verdelhan.ta4j.indicators.simple.VolumeIndicator;
 
 /**
  * Chaikin Money Flow (CMF) indicator.
  * <p>
  * @see http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:chaikin_money_flow_cmf
  * @see http://www.fmlabs.com/reference/default.htm?url=ChaikinMoneyFlow.htm
+ * <p>
+ * The sums of the time frame are updated in O(1) on sequential calculation.
  */
 public class ChaikinMoneyFlowIndicator extends CachedIndicator<Decimal> {
 
@@ -42,39 +43,30 @@ public class ChaikinMoneyFlowIndicator extends CachedIndicator<Decimal> {
      */
     private static final long serialVersionUID = -4509837052646704543L;
 
-    private TimeSeries series;
-    
-    private CloseLocationValueIndicator clvIndicator;
-    
-    private VolumeIndicator volumeIndicator;
-    
-    private int timeFrame;
+    private final VolumeWeightedSums sums;
 
     public ChaikinMoneyFlowIndicator(TimeSeries series, int timeFrame) {
         super(series);
-        this.series = series;
-        this.timeFrame = timeFrame;
-        this.clvIndicator = new CloseLocationValueIndicator(series);
-        this.volumeIndicator = new VolumeIndicator(series, timeFrame);
+        CloseLocationValueIndicator clv = new CloseLocationValueIndicator(series);
+        sums = new VolumeWeightedSums(series, clv, timeFrame);
+        dependsOn(clv);
     }
 
     @Override
     protected Decimal calculate(int index) {
-        int startIndex = Math.max(0, index - timeFrame + 1);
-        Decimal sumOfMoneyFlowVolume = Decimal.ZERO;
-        for (int i = startIndex; i <= index; i++) {
-            sumOfMoneyFlowVolume = sumOfMoneyFlowVolume.plus(getMoneyFlowVolume(i));
-        }
-        Decimal sumOfVolume = volumeIndicator.getValue(index);
-        
-        return sumOfMoneyFlowVolume.dividedBy(sumOfVolume);
+        // Sum of the money flow volumes divided by the sum of the volumes
+        sums.moveTo(index);
+        return sums.getWeightedSum().dividedBy(sums.getVolume());
     }
-    
-    /**
-     * @param index the tick index
-     * @return the money flow volume for the i-th period/tick
-     */
-    private Decimal getMoneyFlowVolume(int index) {
-        return clvIndicator.getValue(index).multipliedBy(series.getTick(index).getVolume());
+
+    @Override
+    protected int getLookBack() {
+        return sums.getLookBack();
+    }
+
+    @Override
+    protected int resetStateFrom(int index) {
+        sums.invalidateFrom(index);
+        return index;
     }
 }
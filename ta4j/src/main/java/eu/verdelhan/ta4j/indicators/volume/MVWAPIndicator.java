@@ -47,6 +47,7 @@ public class MVWAPIndicator extends CachedIndicator<Decimal> {
     public MVWAPIndicator(VWAPIndicator vwap, int timeFrame) {
         super(vwap);
         sma = new SMAIndicator(vwap, timeFrame);
+        dependsOn(sma);
     }
 
     @Override
@@ -54,4 +55,9 @@ public class MVWAPIndicator extends CachedIndicator<Decimal> {
         return sma.getValue(index);
     }
 
+    @Override
+    protected int getLookBack() {
+        return 1;
+    }
+
 }
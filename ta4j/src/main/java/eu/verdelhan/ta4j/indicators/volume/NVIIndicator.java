@@ -25,7 +25,7 @@ package eu.verdelhan.ta4j.indicators.volume;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.RecursiveCachedIndicator;
+import eu.verdelhan.ta4j.indicators.LinearRecursiveIndicator;
 
 /**
  * Negative Volume Index (NVI) indicator.
@@ -34,7 +34,7 @@ import eu.verdelhan.ta4j.indicators.RecursiveCachedIndicator;
  * @see http://www.metastock.com/Customer/Resources/TAAZ/Default.aspx?p=75
  * @see http://www.investopedia.com/terms/n/nvi.asp
  */
-public class NVIIndicator extends RecursiveCachedIndicator<Decimal> {
+public class NVIIndicator extends LinearRecursiveIndicator {
 
     /**
      * 
@@ -48,22 +48,25 @@ public class NVIIndicator extends RecursiveCachedIndicator<Decimal> {
     }
     
     @Override
-    protected Decimal calculate(int index) {
-        if (index == 0) {
-            return Decimal.THOUSAND;
-        }
-        
+    protected Decimal getInitialValue(int index) {
+        return Decimal.THOUSAND;
+    }
+
+    @Override
+    protected Decimal getMultiplier(int index) {
         Tick currentTick = series.getTick(index);
         Tick previousTick = series.getTick(index - 1);
-        Decimal previousValue = getValue(index - 1);
-        
         if (currentTick.getVolume().isLessThan(previousTick.getVolume())) {
             Decimal currentPrice = currentTick.getClosePrice();
             Decimal previousPrice = previousTick.getClosePrice();
-            Decimal priceChangeRatio = currentPrice.minus(previousPrice).dividedBy(previousPrice);
-            return previousValue.plus(priceChangeRatio.multipliedBy(previousValue));
+            return Decimal.ONE.plus(currentPrice.minus(previousPrice).dividedBy(previousPrice));
         }
-        return previousValue;
+        return Decimal.ONE;
+    }
+
+    @Override
+    protected Decimal getIncrement(int index) {
+        return Decimal.ZERO;
     }
 	
 }
\ No newline at end of file
@@ -24,13 +24,13 @@ package eu.verdelhan.ta4j.indicators.volume;
 
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.RecursiveCachedIndicator;
+import eu.verdelhan.ta4j.indicators.LinearRecursiveIndicator;
 
 /**
  * On-balance volume indicator.
  * <p>
  */
-public class OnBalanceVolumeIndicator extends RecursiveCachedIndicator<Decimal> {
+public class OnBalanceVolumeIndicator extends LinearRecursiveIndicator {
 
     /**
      * 
@@ -44,18 +44,25 @@ public class OnBalanceVolumeIndicator extends RecursiveCachedIndicator<Decimal>
     }
 
     @Override
-    protected Decimal calculate(int index) {
-        if (index == 0) {
-            return Decimal.ZERO;
-        }
+    protected Decimal getInitialValue(int index) {
+        return Decimal.ZERO;
+    }
+
+    @Override
+    protected Decimal getMultiplier(int index) {
+        return Decimal.ONE;
+    }
+
+    @Override
+    protected Decimal getIncrement(int index) {
         Decimal yesterdayClose = series.getTick(index - 1).getClosePrice();
         Decimal todayClose = series.getTick(index).getClosePrice();
 
         if (yesterdayClose.isGreaterThan(todayClose)) {
-            return getValue(index - 1).minus(series.getTick(index).getVolume());
+            return Decimal.ZERO.minus(series.getTick(index).getVolume());
         } else if (yesterdayClose.isLessThan(todayClose)) {
-            return getValue(index - 1).plus(series.getTick(index).getVolume());
+            return series.getTick(index).getVolume();
         }
-        return getValue(index - 1);
+        return Decimal.ZERO;
     }
 }
@@ -25,7 +25,7 @@ package eu.verdelhan.ta4j.indicators.volume;
 import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.RecursiveCachedIndicator;
+import eu.verdelhan.ta4j.indicators.LinearRecursiveIndicator;
 
 /**
  * Positive Volume Index (PVI) indicator.
@@ -33,7 +33,7 @@ import eu.verdelhan.ta4j.indicators.RecursiveCachedIndicator;
  * @see http://www.metastock.com/Customer/Resources/TAAZ/Default.aspx?p=92
  * @see http://www.investopedia.com/terms/p/pvi.asp
  */
-public class PVIIndicator extends RecursiveCachedIndicator<Decimal> {
+public class PVIIndicator extends LinearRecursiveIndicator {
 
     /**
      * 
@@ -47,22 +47,25 @@ public class PVIIndicator extends RecursiveCachedIndicator<Decimal> {
     }
     
     @Override
-    protected Decimal calculate(int index) {
-        if (index == 0) {
-            return Decimal.THOUSAND;
-        }
-        
+    protected Decimal getInitialValue(int index) {
+        return Decimal.THOUSAND;
+    }
+
+    @Override
+    protected Decimal getMultiplier(int index) {
         Tick currentTick = series.getTick(index);
         Tick previousTick = series.getTick(index - 1);
-        Decimal previousValue = getValue(index - 1);
-        
         if (currentTick.getVolume().isGreaterThan(previousTick.getVolume())) {
             Decimal currentPrice = currentTick.getClosePrice();
             Decimal previousPrice = previousTick.getClosePrice();
-            Decimal priceChangeRatio = currentPrice.minus(previousPrice).dividedBy(previousPrice);
-            return previousValue.plus(priceChangeRatio.multipliedBy(previousValue));
+            return Decimal.ONE.plus(currentPrice.minus(previousPrice).dividedBy(previousPrice));
         }
-        return previousValue;
+        return Decimal.ONE;
+    }
+
+    @Override
+    protected Decimal getIncrement(int index) {
+        return Decimal.ZERO;
     }
 	
 }
\ No newline at end of file
@@ -27,13 +27,15 @@ import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.CachedIndicator;
 import eu.verdelhan.ta4j.indicators.simple.TypicalPriceIndicator;
-import eu.verdelhan.ta4j.indicators.simple.VolumeIndicator;
+import org.joda.time.LocalTime;
 
 /**
  * The volume-weighted average price (VWAP) Indicator.
  * @see http://www.investopedia.com/articles/trading/11/trading-with-vwap-mvwap.asp
  * @see http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:vwap_intraday
  * @see https://en.wikipedia.org/wiki/Volume-weighted_average_price
+ * <p>
+ * The sums of the time frame (or of the session for an anchored VWAP) are updated in O(1) on sequential calculation.
  */
 public class VWAPIndicator extends CachedIndicator<Decimal> {
 
@@ -42,12 +44,10 @@ public class VWAPIndicator extends CachedIndicator<Decimal> {
      */
     private static final long serialVersionUID = -3312739287350668596L;
 
-    private final int timeFrame;
-    
     private final Indicator<Decimal> typicalPrice;
-    
-    private final Indicator<Decimal> volume;
-    
+
+    private final VolumeWeightedSums sums;
+
     /**
      * Constructor.
      * @param series the series
@@ -55,9 +55,24 @@ public class VWAPIndicator extends CachedIndicator<Decimal> {
      */
     public VWAPIndicator(TimeSeries series, int timeFrame) {
         super(series);
-        this.timeFrame = timeFrame;
         typicalPrice = new TypicalPriceIndicator(series);
-        volume = new VolumeIndicator(series);
+        sums = new VolumeWeightedSums(series, typicalPrice, timeFrame);
+        dependsOn(typicalPrice);
+    }
+
+    /**
+     * Constructor of an anchored VWAP.
+     * <p>
+     * The average is reset at the beginning of each session, the sessions starting every day at the provided time.
+     * A tick belongs to the session of its begin time.
+     * @param series the series
+     * @param sessionStart the time of day (in the time zone of the ticks) on which each session starts
+     */
+    public VWAPIndicator(TimeSeries series, LocalTime sessionStart) {
+        super(series);
+        typicalPrice = new TypicalPriceIndicator(series);
+        sums = new VolumeWeightedSums(series, typicalPrice, sessionStart);
+        dependsOn(typicalPrice);
     }
 
     @Override
@@ -65,14 +80,18 @@ public class VWAPIndicator extends CachedIndicator<Decimal> {
         if (index <= 0) {
             return typicalPrice.getValue(index);
         }
-        int startIndex = Math.max(0, index - timeFrame + 1);
-        Decimal cumulativeTPV = Decimal.ZERO;
-        Decimal cumulativeVolume = Decimal.ZERO;
-        for (int i = startIndex; i <= index; i++) {
-            Decimal currentVolume = volume.getValue(i);
-            cumulativeTPV = cumulativeTPV.plus(typicalPrice.getValue(i).multipliedBy(currentVolume));
-            cumulativeVolume = cumulativeVolume.plus(currentVolume);
-        }
-        return cumulativeTPV.dividedBy(cumulativeVolume);
+        sums.moveTo(index);
+        return sums.getWeightedSum().dividedBy(sums.getVolume());
+    }
+
+    @Override
+    protected int getLookBack() {
+        return sums.getLookBack();
+    }
+
+    @Override
+    protected int resetStateFrom(int index) {
+        sums.invalidateFrom(index);
+        return index;
     }
 }
@@ -0,0 +1,162 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.volume;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.helpers.RollingSums;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.joda.time.LocalTime;
+
+/**
+ * Rolling sums of the volume-weighted values of an indicator, and of the volumes.
+ * <p>
+ * The window is either the time frame ending at the index, or the session of the index (anchored mode: the sums
+ * are reset on the first tick of each session).
+ */
+class VolumeWeightedSums extends RollingSums {
+
+    private static final long serialVersionUID = 3570218469637620118L;
+
+    private final TimeSeries series;
+
+    private final Indicator<Decimal> indicator;
+
+    /** Start time of the sessions (null if not anchored) */
+    private final LocalTime sessionStart;
+
+    /** Last index passed to getStartIndex (-1 if none) */
+    private int lastIndex = -1;
+
+    /** Start index of the window ending at lastIndex */
+    private int lastStartIndex;
+
+    /**
+     * Constructor.
+     * @param series the time series
+     * @param indicator the indicator to be weighted by the volumes
+     * @param timeFrame the time frame
+     */
+    VolumeWeightedSums(TimeSeries series, Indicator<Decimal> indicator, int timeFrame) {
+        super(series, timeFrame, 2);
+        this.series = series;
+        this.indicator = indicator;
+        sessionStart = null;
+    }
+
+    /**
+     * Constructor (anchored mode).
+     * @param series the time series
+     * @param indicator the indicator to be weighted by the volumes
+     * @param sessionStart the time of day (in the time zone of the ticks) on which each session starts
+     */
+    VolumeWeightedSums(TimeSeries series, Indicator<Decimal> indicator, LocalTime sessionStart) {
+        super(series, Integer.MAX_VALUE, 2);
+        this.series = series;
+        this.indicator = indicator;
+        this.sessionStart = sessionStart;
+    }
+
+    /**
+     * @return the sum of the volume-weighted values
+     */
+    Decimal getWeightedSum() {
+        return getSum(0);
+    }
+
+    /**
+     * @return the sum of the volumes
+     */
+    Decimal getVolume() {
+        return getSum(1);
+    }
+
+    @Override
+    public void invalidateFrom(int index) {
+        super.invalidateFrom(index);
+        if (lastIndex >= index) {
+            // The sessions are known up to the end of the window
+            lastIndex = getEndIndex();
+            lastStartIndex = getEndIndex() - getTickCount() + 1;
+        }
+    }
+
+    @Override
+    protected void getTerms(int index, Decimal[] terms) {
+        Decimal volume = series.getTick(index).getVolume();
+        terms[0] = indicator.getValue(index).multipliedBy(volume);
+        terms[1] = volume;
+    }
+
+    @Override
+    protected int getStartIndex(int index) {
+        if (sessionStart == null) {
+            return super.getStartIndex(index);
+        }
+        final DateTime sessionBegin = getSessionBegin(index);
+        int startIndex;
+        if (index == lastIndex + 1 && lastIndex >= 0
+                && !series.getTick(lastIndex).getBeginTime().isBefore(sessionBegin)) {
+            // Same session as the previous tick
+            startIndex = lastStartIndex;
+        } else {
+            startIndex = index;
+            final int firstIndex = series.getRemovedTicksCount();
+            while (startIndex > firstIndex && !series.getTick(startIndex - 1).getBeginTime().isBefore(sessionBegin)) {
+                startIndex--;
+            }
+        }
+        lastIndex = index;
+        lastStartIndex = startIndex;
+        return startIndex;
+    }
+
+    /**
+     * @param index a tick index
+     * @return the begin time of the session of the tick
+     */
+    private DateTime getSessionBegin(int index) {
+        final DateTime tickBegin = series.getTick(index).getBeginTime();
+        final LocalDate tickDay = tickBegin.toLocalDate();
+        final DateTime sessionBegin = getSessionBegin(tickDay, tickBegin.getZone());
+        return sessionBegin.isAfter(tickBegin) ? getSessionBegin(tickDay.minusDays(1), tickBegin.getZone()) : sessionBegin;
+    }
+
+    /**
+     * @param day a day
+     * @param zone the time zone of the ticks
+     * @return the begin time of the session of the day (the end of the gap if the session start is skipped by a
+     *         daylight saving time transition)
+     */
+    private DateTime getSessionBegin(LocalDate day, DateTimeZone zone) {
+        final LocalDateTime sessionBegin = day.toLocalDateTime(sessionStart);
+        if (zone.isLocalDateTimeGap(sessionBegin)) {
+            return new DateTime(zone.nextTransition(day.toDateTimeAtStartOfDay(zone).getMillis() - 1), zone);
+        }
+        return sessionBegin.toDateTime(zone);
+    }
+}
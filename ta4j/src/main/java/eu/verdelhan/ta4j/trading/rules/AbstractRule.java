@@ -25,9 +25,13 @@ package eu.verdelhan.ta4j.trading.rules;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Rule;
 import eu.verdelhan.ta4j.Trade;
 import eu.verdelhan.ta4j.TradingRecord;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * An abstract trading {@link Rule rule}.
@@ -37,6 +41,9 @@ public abstract class AbstractRule implements Rule {
     /** The logger */
     protected final Logger log = LoggerFactory.getLogger(getClass());
 
+    /** The indicators the rule reads */
+    private final List<Indicator<?>> indicators = new ArrayList<Indicator<?>>(2);
+
     @Override
     public Rule and(Rule rule) {
         return new AndRule(this, rule);
@@ -67,6 +74,62 @@ public abstract class AbstractRule implements Rule {
         return isSatisfied(index, (TradingRecord) null);
     }
     
+    /**
+     * Returns the indicators this rule reads, including the ones of the rules it is made of.
+     * <p>
+     * They are the indicators updated by the {@link eu.verdelhan.ta4j.indicators.IndicatorPipeline pipelines}
+     * running the rule (through a strategy).
+     * @return the indicators this rule reads
+     */
+    public List<Indicator<?>> getIndicators() {
+        return Collections.unmodifiableList(indicators);
+    }
+
+    /**
+     * Declares indicators this rule reads.
+     * <p>
+     * Must be called by the constructors of the rules reading indicators.
+     * @param indicators the indicators (null ones are ignored)
+     * @see #getIndicators()
+     */
+    protected final void uses(Indicator<?>... indicators) {
+        for (Indicator<?> indicator : indicators) {
+            if (indicator != null && !isUsed(indicator)) {
+                this.indicators.add(indicator);
+            }
+        }
+    }
+
+    /**
+     * Declares rules this rule is made of (their indicators are read by this rule).
+     * <p>
+     * Only the indicators of the rules extending this class are known.
+     * @param rules the rules
+     * @see #getIndicators()
+     */
+    protected final void uses(Rule... rules) {
+        for (Rule rule : rules) {
+            if (rule instanceof AbstractRule) {
+                for (Indicator<?> indicator : ((AbstractRule) rule).indicators) {
+                    uses(indicator);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param indicator an indicator
+     * @return true if the indicator is already declared, false otherwise
+     */
+    private boolean isUsed(Indicator<?> indicator) {
+        for (Indicator<?> usedIndicator : indicators) {
+            if (usedIndicator == indicator) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Traces the isSatisfied() method calls.
      * @param index the tick index
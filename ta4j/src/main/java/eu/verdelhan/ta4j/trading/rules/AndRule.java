@@ -45,6 +45,7 @@ public class AndRule extends AbstractRule {
     public AndRule(Rule rule1, Rule rule2) {
         this.rule1 = rule1;
         this.rule2 = rule2;
+        uses(rule1, rule2);
     }
 
     @Override
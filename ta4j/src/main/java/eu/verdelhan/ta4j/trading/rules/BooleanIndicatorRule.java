@@ -40,6 +40,7 @@ public class BooleanIndicatorRule extends AbstractRule {
      */
     public BooleanIndicatorRule(Indicator<Boolean> indicator) {
         this.indicator = indicator;
+        uses(indicator);
     }
 
     @Override
@@ -54,6 +54,7 @@ public class CrossedDownIndicatorRule extends AbstractRule {
      */
     public CrossedDownIndicatorRule(Indicator<Decimal> first, Indicator<Decimal> second) {
         this.cross = new CrossIndicator(first, second);
+        uses(cross);
     }
 
     @Override
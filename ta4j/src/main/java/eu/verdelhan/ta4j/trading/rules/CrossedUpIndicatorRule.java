@@ -54,6 +54,7 @@ public class CrossedUpIndicatorRule extends AbstractRule {
      */
     public CrossedUpIndicatorRule(Indicator<Decimal> first, Indicator<Decimal> second) {
         this.cross = new CrossIndicator(second, first);
+        uses(cross);
     }
 
     @Override
@@ -61,6 +61,7 @@ public class InPipeRule extends AbstractRule {
         this.upper = upper;
         this.lower = lower;
         this.ref = ref;
+        uses(ref, upper, lower);
     }
 
     @Override
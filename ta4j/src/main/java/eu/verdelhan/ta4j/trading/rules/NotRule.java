@@ -41,6 +41,7 @@ public class NotRule extends AbstractRule {
      */
     public NotRule(Rule rule) {
         this.rule = rule;
+        uses(rule);
     }
 
     @Override
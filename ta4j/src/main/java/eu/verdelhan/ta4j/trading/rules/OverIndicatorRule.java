@@ -56,6 +56,7 @@ public class OverIndicatorRule extends AbstractRule {
     public OverIndicatorRule(Indicator<Decimal> first, Indicator<Decimal> second) {
         this.first = first;
         this.second = second;
+        uses(first, second);
     }
 
     @Override
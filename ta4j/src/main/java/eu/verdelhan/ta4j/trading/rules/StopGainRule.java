@@ -48,6 +48,7 @@ public class StopGainRule extends AbstractRule {
     public StopGainRule(ClosePriceIndicator closePrice, Decimal gainPercentage) {
         this.closePrice = closePrice;
         this.gainRatioThreshold = Decimal.HUNDRED.plus(gainPercentage).dividedBy(Decimal.HUNDRED);
+        uses(closePrice);
     }
 
     @Override
@@ -48,6 +48,7 @@ public class StopLossRule extends AbstractRule {
     public StopLossRule(ClosePriceIndicator closePrice, Decimal lossPercentage) {
         this.closePrice = closePrice;
         this.lossRatioThreshold = Decimal.HUNDRED.minus(lossPercentage).dividedBy(Decimal.HUNDRED);
+        uses(closePrice);
     }
 
     @Override
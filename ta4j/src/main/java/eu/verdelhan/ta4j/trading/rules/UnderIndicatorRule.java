@@ -56,6 +56,7 @@ public class UnderIndicatorRule extends AbstractRule {
     public UnderIndicatorRule(Indicator<Decimal> first, Indicator<Decimal> second) {
         this.first = first;
         this.second = second;
+        uses(first, second);
     }
 
     @Override
@@ -44,6 +44,7 @@ public class XorRule extends AbstractRule {
     public XorRule(Rule rule1, Rule rule2) {
         this.rule1 = rule1;
         this.rule2 = rule2;
+        uses(rule1, rule2);
     }
 
     @Override
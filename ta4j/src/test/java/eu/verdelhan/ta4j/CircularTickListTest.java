@@ -0,0 +1,89 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import eu.verdelhan.ta4j.mocks.MockTick;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class CircularTickListTest {
+
+    @Test
+    public void addAndRemoveFirst() {
+        CircularTickList list = new CircularTickList();
+        List<Tick> expected = new ArrayList<Tick>();
+        for (int i = 0; i < 100; i++) {
+            Tick tick = new MockTick(i);
+            list.add(tick);
+            expected.add(tick);
+            if (list.size() > 10) {
+                assertSame(expected.remove(0), list.remove(0));
+            }
+            assertEquals(expected, list);
+        }
+        assertEquals(10, list.size());
+        assertSame(expected.get(0), list.get(0));
+        assertSame(expected.get(9), list.get(9));
+    }
+
+    @Test
+    public void copyConstructor() {
+        List<Tick> ticks = new ArrayList<Tick>();
+        for (int i = 0; i < 40; i++) {
+            ticks.add(new MockTick(i));
+        }
+        CircularTickList list = new CircularTickList(ticks);
+        assertEquals(ticks, list);
+        list.remove(0);
+        assertEquals(40, ticks.size());
+        assertEquals(ticks.subList(1, 40), list);
+    }
+
+    @Test
+    public void set() {
+        CircularTickList list = new CircularTickList();
+        Tick tick = new MockTick(1);
+        list.add(new MockTick(0));
+        list.add(new MockTick(0));
+        list.remove(0);
+        list.set(0, tick);
+        assertSame(tick, list.get(0));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void removeNotFirstTickShouldThrowException() {
+        CircularTickList list = new CircularTickList();
+        list.add(new MockTick(0));
+        list.add(new MockTick(1));
+        list.remove(1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutOfBoundsShouldThrowException() {
+        CircularTickList list = new CircularTickList();
+        list.add(new MockTick(0));
+        list.get(1);
+    }
+}
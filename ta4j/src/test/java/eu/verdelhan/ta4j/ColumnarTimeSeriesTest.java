@@ -0,0 +1,189 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import java.util.ArrayList;
+import java.util.List;
+import org.joda.time.DateTime;
+import org.joda.time.Period;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ColumnarTimeSeriesTest {
+
+    private List<Tick> ticks;
+
+    private ColumnarTimeSeries series;
+
+    private DateTime date;
+
+    @Before
+    public void setUp() {
+        date = new DateTime(2014, 6, 13, 0, 0);
+        ticks = new ArrayList<Tick>();
+        for (int i = 0; i < 6; i++) {
+            ticks.add(new Tick(Period.days(1), date.plusDays(i), Decimal.valueOf(i), Decimal.valueOf(i + 2),
+                    Decimal.valueOf(i - 1), Decimal.valueOf(i + 1), Decimal.valueOf(10 * i)));
+        }
+        series = new ColumnarTimeSeries("columnar", Period.days(1), ticks);
+    }
+
+    @Test
+    public void getTick() {
+        assertEquals(0, series.getBegin());
+        assertEquals(5, series.getEnd());
+        assertEquals(6, series.getTickCount());
+        assertTrue(series.isPrimitiveDecimals());
+        for (int i = 0; i < ticks.size(); i++) {
+            Tick expected = ticks.get(i);
+            Tick actual = series.getTick(i);
+            assertEquals(expected.getEndTime(), actual.getEndTime());
+            assertEquals(expected.getBeginTime(), actual.getBeginTime());
+            assertEquals(expected.getTimePeriod(), actual.getTimePeriod());
+            assertEquals(expected.getOpenPrice(), actual.getOpenPrice());
+            assertEquals(expected.getMaxPrice(), actual.getMaxPrice());
+            assertEquals(expected.getMinPrice(), actual.getMinPrice());
+            assertEquals(expected.getClosePrice(), actual.getClosePrice());
+            assertEquals(expected.getVolume(), actual.getVolume());
+            assertTrue(actual.getClosePrice().isPrimitive());
+        }
+    }
+
+    @Test
+    public void priceAccessors() {
+        series.setMaximumTickCount(4);
+        TimeSeries subseries = series.subseries(3, 5);
+        for (int i = 2; i < ticks.size(); i++) {
+            Tick expected = ticks.get(i);
+            assertEquals(expected.getOpenPrice(), series.getOpenPrice(i));
+            assertEquals(expected.getMaxPrice(), series.getMaxPrice(i));
+            assertEquals(expected.getMinPrice(), series.getMinPrice(i));
+            assertEquals(expected.getClosePrice(), series.getClosePrice(i));
+            assertEquals(expected.getVolume(), series.getVolume(i));
+            assertTrue(series.getClosePrice(i).isPrimitive());
+            assertEquals(series.getClosePrice(i), subseries.getClosePrice(i));
+        }
+        // Removed tick: first remaining one
+        assertEquals(series.getClosePrice(2), series.getClosePrice(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void priceAccessorWithIndexGreaterThanTickCountShouldThrowException() {
+        series.getClosePrice(6);
+    }
+
+    @Test
+    public void addTickWithoutTickObject() {
+        series.addTick(date.plusDays(6), 6, 8, 5, 7, 60);
+        assertEquals(6, series.getEnd());
+        Tick lastTick = series.getLastTick();
+        assertEquals(date.plusDays(6), lastTick.getEndTime());
+        assertDecimalEquals(lastTick.getOpenPrice(), 6);
+        assertDecimalEquals(lastTick.getMaxPrice(), 8);
+        assertDecimalEquals(lastTick.getMinPrice(), 5);
+        assertDecimalEquals(lastTick.getClosePrice(), 7);
+        assertDecimalEquals(lastTick.getVolume(), 60);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addTickWithEndTimeBeforeSeriesEndTimeShouldThrowException() {
+        series.addTick(date, 1, 1, 1, 1, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addTickWithAnotherPeriodShouldThrowException() {
+        series.addTick(new Tick(Period.hours(1), date.plusDays(6)));
+    }
+
+    @Test
+    public void addTradeOnTickView() {
+        series.addTick(new Tick(Period.days(1), date.plusDays(6)));
+        Tick lastTick = series.getLastTick();
+        assertNull(lastTick.getOpenPrice());
+        lastTick.addTrade(3.0, 200.0);
+        lastTick.addTrade(4.0, 201.0);
+        lastTick.addTrade(2.0, 198.0);
+
+        lastTick = series.getLastTick();
+        assertEquals(3, lastTick.getTrades());
+        assertDecimalEquals(lastTick.getAmount(), 9);
+        assertDecimalEquals(lastTick.getOpenPrice(), 200);
+        assertDecimalEquals(lastTick.getClosePrice(), 198);
+        assertDecimalEquals(lastTick.getMinPrice(), 198);
+        assertDecimalEquals(lastTick.getMaxPrice(), 201);
+        assertDecimalEquals(lastTick.getVolume(), 3 * 200 + 4 * 201 + 2 * 198);
+    }
+
+    @Test
+    public void indicatorsOnColumnarSeries() {
+        TimeSeries objectSeries = new TimeSeries(ticks);
+        SMAIndicator expected = new SMAIndicator(new ClosePriceIndicator(objectSeries), 3);
+        SMAIndicator actual = new SMAIndicator(new ClosePriceIndicator(series), 3);
+        for (int i = series.getBegin(); i <= series.getEnd(); i++) {
+            assertDecimalEquals(actual.getValue(i), expected.getValue(i).toDouble());
+        }
+    }
+
+    @Test
+    public void movingColumnarSeries() {
+        series.setMaximumTickCount(3);
+        assertEquals(3, series.getRemovedTicksCount());
+        assertEquals(3, series.getTickCount());
+        assertDecimalEquals(series.getTick(0).getClosePrice(), 4);
+        assertDecimalEquals(series.getTick(3).getClosePrice(), 4);
+        assertDecimalEquals(series.getTick(5).getClosePrice(), 6);
+
+        Tick tick = series.getTick(5);
+        series.addTick(date.plusDays(6), 6, 8, 5, 7, 60);
+        assertEquals(4, series.getRemovedTicksCount());
+        assertDecimalEquals(tick.getClosePrice(), 6);
+        assertDecimalEquals(series.getTick(6).getClosePrice(), 7);
+    }
+
+    @Test
+    public void subseries() {
+        TimeSeries subseries = series.subseries(2, 4);
+        assertEquals(2, subseries.getBegin());
+        assertEquals(4, subseries.getEnd());
+        assertTrue(subseries.isPrimitiveDecimals());
+        assertDecimalEquals(subseries.getTick(3).getClosePrice(), 4);
+    }
+
+    @Test
+    public void longMovingColumnarSeries() {
+        series.setMaximumTickCount(5);
+        for (int i = 6; i < 1000; i++) {
+            series.addTick(date.plusDays(i), i, i + 2, i - 1, i + 1, 10 * i);
+        }
+        assertEquals(5, series.getTickCount());
+        assertEquals(995, series.getRemovedTicksCount());
+        assertEquals(date.plusDays(999), series.getLastTick().getEndTime());
+        for (int i = 995; i < 1000; i++) {
+            assertDecimalEquals(series.getTick(i).getClosePrice(), i + 1);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class DecimalTest {
+
+    @Test
+    public void primitiveValueOf() {
+        Decimal primitive = Decimal.primitiveValueOf(1.5);
+        assertTrue(primitive.isPrimitive());
+        assertFalse(Decimal.valueOf(1.5).isPrimitive());
+        assertDecimalEquals(primitive, 1.5);
+        assertSame(Decimal.NaN, Decimal.primitiveValueOf(Double.NaN));
+    }
+
+    @Test
+    public void primitiveDecimalsAreContagious() {
+        Decimal primitive = Decimal.primitiveValueOf(6);
+        assertTrue(primitive.plus(Decimal.ONE).isPrimitive());
+        assertTrue(Decimal.ONE.minus(primitive).isPrimitive());
+        assertTrue(Decimal.TWO.multipliedBy(primitive).isPrimitive());
+        assertTrue(primitive.dividedBy(Decimal.THREE).isPrimitive());
+        assertDecimalEquals(primitive.plus(Decimal.ONE), 7);
+        assertDecimalEquals(Decimal.ONE.minus(primitive), -5);
+        assertDecimalEquals(Decimal.TWO.multipliedBy(primitive), 12);
+        assertDecimalEquals(primitive.dividedBy(Decimal.THREE), 2);
+        assertDecimalEquals(primitive.remainder(Decimal.valueOf(4)), 2);
+        assertDecimalEquals(primitive.pow(2), 36);
+        assertDecimalEquals(primitive.sqrt(), 2.4495);
+        assertDecimalEquals(primitive.log(), 1.7918);
+        assertDecimalEquals(primitive.multipliedBy(Decimal.valueOf(-1)).abs(), 6);
+    }
+
+    @Test
+    public void primitiveNaN() {
+        Decimal primitive = Decimal.primitiveValueOf(6);
+        assertSame(Decimal.NaN, primitive.dividedBy(Decimal.ZERO));
+        assertSame(Decimal.NaN, primitive.plus(Decimal.NaN));
+        assertSame(Decimal.NaN, primitive.multipliedBy(Decimal.valueOf(-1)).sqrt());
+    }
+
+    @Test
+    public void compareMixedDecimals() {
+        Decimal primitive = Decimal.primitiveValueOf(2);
+        assertEquals(Decimal.TWO, primitive);
+        assertEquals(primitive, Decimal.TWO);
+        assertTrue(primitive.isEqual(Decimal.TWO));
+        assertTrue(primitive.isGreaterThan(Decimal.ONE));
+        assertTrue(primitive.isLessThan(Decimal.THREE));
+        assertTrue(Decimal.THREE.isGreaterThan(primitive));
+        assertTrue(primitive.isPositive());
+        assertFalse(primitive.isZero());
+        assertSame(primitive, primitive.max(Decimal.ONE));
+        assertSame(Decimal.ONE, primitive.min(Decimal.ONE));
+        assertFalse(primitive.equals(Decimal.NaN));
+        assertFalse(Decimal.NaN.equals(primitive));
+    }
+
+    @Test
+    public void mixedEqualityIsTransitive() {
+        Decimal a = Decimal.valueOf("0.1");
+        Decimal b = Decimal.primitiveValueOf(0.1);
+        Decimal c = Decimal.valueOf("0.1000000000000000055511151231257827");
+        // 0.1 and the last value have the same nearest double, but are not equal
+        assertEquals(b.toDouble(), c.toDouble(), 0);
+        assertFalse(a.equals(c));
+        assertFalse(a.equals(b));
+        assertFalse(b.equals(c));
+        assertFalse(c.equals(b));
+        assertTrue(a.isLessThan(b));
+        assertTrue(c.isLessThan(b));
+        assertTrue(b.isGreaterThan(c));
+        // Exact double value
+        assertEquals(Decimal.valueOf("0.375"), Decimal.primitiveValueOf(0.375));
+        assertEquals(Decimal.primitiveValueOf(0.375), Decimal.valueOf("0.375"));
+    }
+
+    @Test
+    public void equalDecimalsHaveSameHashCode() {
+        assertEquals(Decimal.TWO.hashCode(), Decimal.primitiveValueOf(2).hashCode());
+        assertEquals(Decimal.valueOf("1.5").hashCode(), Decimal.valueOf("1.50").hashCode());
+        assertEquals(Decimal.valueOf("1.5").hashCode(), Decimal.primitiveValueOf(1.5).hashCode());
+        assertEquals(Decimal.valueOf("12345678901234567890.25").hashCode(),
+                Decimal.valueOf("12345678901234567890.250").hashCode());
+        assertEquals(Decimal.ZERO.hashCode(), Decimal.primitiveValueOf(-0d).hashCode());
+
+        Set<Decimal> decimals = new HashSet<Decimal>();
+        decimals.add(Decimal.primitiveValueOf(3));
+        assertTrue(decimals.contains(Decimal.THREE));
+    }
+
+    @Test
+    public void toPrimitive() {
+        assertTrue(Decimal.TEN.toPrimitive().isPrimitive());
+        assertDecimalEquals(Decimal.TEN.toPrimitive(), 10);
+        assertSame(Decimal.NaN, Decimal.NaN.toPrimitive());
+    }
+
+    @Test
+    public void fixedPointValueOf() {
+        assertTrue(Decimal.valueOf(12).isFixedPoint());
+        assertTrue(Decimal.valueOf("12.34567890").isFixedPoint());
+        assertTrue(Decimal.valueOf(1.5).isFixedPoint());
+        assertFalse(Decimal.valueOf(0.1).isFixedPoint());
+        assertFalse(Decimal.NaN.isFixedPoint());
+        assertFalse(Decimal.primitiveValueOf(1).isFixedPoint());
+
+        Decimal fixedPoint = Decimal.valueOf(1234567890L, 8);
+        assertTrue(fixedPoint.isFixedPoint());
+        assertEquals("12.34567890", fixedPoint.toString());
+        assertEquals(Decimal.valueOf("12.3456789"), fixedPoint);
+        assertEquals(12.3456789, fixedPoint.toDouble(), 0);
+    }
+
+    @Test
+    public void fixedPointOperationsAreIdenticalToBigDecimalOnes() {
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            BigDecimal x = BigDecimal.valueOf(random.nextInt(), random.nextInt(10));
+            BigDecimal y = BigDecimal.valueOf(random.nextInt(), random.nextInt(10));
+            Decimal fixedX = Decimal.valueOf(x.unscaledValue().longValue(), x.scale());
+            Decimal fixedY = Decimal.valueOf(y.unscaledValue().longValue(), y.scale());
+
+            assertEquals(x.add(y, Decimal.MATH_CONTEXT).toString(), fixedX.plus(fixedY).toString());
+            assertEquals(x.subtract(y, Decimal.MATH_CONTEXT).toString(), fixedX.minus(fixedY).toString());
+            assertEquals(x.multiply(y, Decimal.MATH_CONTEXT).toString(), fixedX.multipliedBy(fixedY).toString());
+            assertEquals(x.compareTo(y), fixedX.compareTo(fixedY));
+            assertEquals(x.doubleValue(), fixedX.toDouble(), 0);
+            assertTrue(fixedX.plus(fixedY).isFixedPoint());
+        }
+    }
+
+    @Test
+    public void fixedPointOverflowFallsBackToBigDecimal() {
+        Decimal max = Decimal.valueOf(Long.MAX_VALUE);
+        Decimal sum = max.plus(Decimal.ONE);
+        assertFalse(sum.isFixedPoint());
+        assertEquals("9223372036854775808", sum.toString());
+        assertEquals("-9223372036854775809", Decimal.valueOf(Long.MIN_VALUE).minus(Decimal.ONE).toString());
+        BigDecimal bigMax = BigDecimal.valueOf(Long.MAX_VALUE);
+        assertEquals(bigMax.multiply(bigMax, Decimal.MATH_CONTEXT).toString(), max.multipliedBy(max).toString());
+        assertTrue(max.isGreaterThan(Decimal.valueOf(1, 18)));
+        assertTrue(Decimal.valueOf(1, 18).isLessThan(max));
+        assertDecimalEquals(Decimal.valueOf(9, 0).dividedBy(Decimal.valueOf(4)), 2.25);
+        assertTrue(Decimal.valueOf(9, 0).dividedBy(Decimal.valueOf(4)).isFixedPoint());
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import eu.verdelhan.ta4j.IndicatorRegistry.Key;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.ConstantIndicator;
+import eu.verdelhan.ta4j.indicators.simple.MultiplierIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.EMAIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.MACDIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndicatorRegistryTest {
+
+    private TimeSeries series;
+
+    private IndicatorRegistry registry;
+
+    @Before
+    public void setUp() {
+        series = new MockTimeSeries(1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2);
+        registry = series.getIndicatorRegistry();
+    }
+
+    static Key<ClosePriceIndicator> closePrice(TimeSeries series) {
+        return new Key<ClosePriceIndicator>(ClosePriceIndicator.class, series) {
+            @Override
+            protected ClosePriceIndicator create(TimeSeries series) {
+                return new ClosePriceIndicator(series);
+            }
+        };
+    }
+
+    static Key<SMAIndicator> sma(final Indicator<Decimal> indicator, final int timeFrame) {
+        return new Key<SMAIndicator>(SMAIndicator.class, indicator, timeFrame) {
+            @Override
+            protected SMAIndicator create(TimeSeries series) {
+                return new SMAIndicator(indicator, timeFrame);
+            }
+        };
+    }
+
+    private static Key<EMAIndicator> ema(final Indicator<Decimal> indicator, final int timeFrame) {
+        return new Key<EMAIndicator>(EMAIndicator.class, indicator, timeFrame) {
+            @Override
+            protected EMAIndicator create(TimeSeries series) {
+                return new EMAIndicator(indicator, timeFrame);
+            }
+        };
+    }
+
+    private static Key<MACDIndicator> macd(final Indicator<Decimal> indicator, final int shortTimeFrame,
+            final int longTimeFrame) {
+        return new Key<MACDIndicator>(MACDIndicator.class, indicator, shortTimeFrame, longTimeFrame) {
+            @Override
+            protected MACDIndicator create(TimeSeries series) {
+                return new MACDIndicator(indicator, shortTimeFrame, longTimeFrame);
+            }
+        };
+    }
+
+    private static Key<MACDIndicator> macd(final EMAIndicator shortTermEma, final EMAIndicator longTermEma) {
+        return new Key<MACDIndicator>(MACDIndicator.class, shortTermEma, longTermEma) {
+            @Override
+            protected MACDIndicator create(TimeSeries series) {
+                return new MACDIndicator(shortTermEma, longTermEma);
+            }
+        };
+    }
+
+    private static Key<MultiplierIndicator> multiplier(final Indicator<Decimal> indicator, final Decimal coefficient) {
+        return new Key<MultiplierIndicator>(MultiplierIndicator.class, indicator, coefficient) {
+            @Override
+            protected MultiplierIndicator create(TimeSeries series) {
+                return new MultiplierIndicator(indicator, coefficient);
+            }
+        };
+    }
+
+    @Test
+    public void sameRegistryForSeries() {
+        assertSame(registry, series.getIndicatorRegistry());
+        assertSame(series, registry.getTimeSeries());
+        assertNotSame(registry, new MockTimeSeries(1, 2, 3).getIndicatorRegistry());
+    }
+
+    @Test
+    public void identicalIndicatorsAreShared() {
+        ClosePriceIndicator closePrice = registry.get(closePrice(series));
+        assertSame(closePrice, registry.get(closePrice(series)));
+
+        EMAIndicator ema = registry.get(ema(closePrice, 9));
+        assertSame(ema, registry.get(ema(closePrice, 9)));
+        assertNotSame(ema, registry.get(ema(closePrice, 26)));
+        assertNotSame(ema, registry.get(ema(new ClosePriceIndicator(series), 9)));
+
+        MACDIndicator macd = registry.get(macd(closePrice, 9, 26));
+        assertSame(macd, registry.get(macd(closePrice, 9, 26)));
+        MACDIndicator sharedEmasMacd = registry.get(macd(ema, registry.get(ema(closePrice, 26))));
+        assertNotSame(macd, sharedEmasMacd);
+        TATestsUtils.assertDecimalEquals(sharedEmasMacd.getValue(12), macd.getValue(12).toDouble());
+    }
+
+    @Test
+    public void keysOfDifferentTypesAreDistinct() {
+        ClosePriceIndicator closePrice = registry.get(closePrice(series));
+        assertNotSame(registry.get(ema(closePrice, 9)), registry.get(sma(closePrice, 9)));
+        assertEquals(3, registry.size());
+    }
+
+    @Test
+    public void decimalArgumentsAreComparedByValue() {
+        ClosePriceIndicator closePrice = registry.get(closePrice(series));
+        MultiplierIndicator multiplier = registry.get(multiplier(closePrice, Decimal.valueOf("1.5")));
+        assertSame(multiplier, registry.get(multiplier(closePrice, Decimal.valueOf("1.50"))));
+        assertNotSame(multiplier, registry.get(multiplier(closePrice, Decimal.valueOf("2"))));
+    }
+
+    @Test
+    public void registeredIndicatorsInCreationOrder() {
+        assertEquals(0, registry.size());
+        ClosePriceIndicator closePrice = registry.get(closePrice(series));
+        SMAIndicator sma = registry.get(sma(closePrice, 3));
+        registry.get(sma(closePrice, 3));
+        assertEquals(2, registry.size());
+        assertEquals(2, registry.getIndicators().size());
+        assertSame(closePrice, registry.getIndicators().get(0));
+        assertSame(sma, registry.getIndicators().get(1));
+    }
+
+    @Test
+    public void constantIndicatorsHaveNoSeries() {
+        ConstantIndicator<Decimal> constant = new ConstantIndicator<Decimal>(Decimal.ONE);
+        SMAIndicator sma = registry.get(sma(constant, 3));
+        assertSame(sma, registry.get(sma(constant, 3)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void otherSeriesIsRejected() {
+        registry.get(closePrice(new MockTimeSeries(1, 2, 3)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void otherSeriesIndicatorIsRejected() {
+        registry.get(sma(new ClosePriceIndicator(new MockTimeSeries(1, 2, 3)), 3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creationExceptionsArePropagated() {
+        ClosePriceIndicator closePrice = registry.get(closePrice(series));
+        registry.get(macd(closePrice, 26, 9));
+    }
+}
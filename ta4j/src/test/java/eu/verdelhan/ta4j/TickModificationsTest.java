@@ -0,0 +1,96 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class TickModificationsTest {
+
+    @Test
+    public void firstModifiedIndex() {
+        TickModifications modifications = new TickModifications();
+        assertEquals(0, modifications.getCount());
+        assertEquals(Integer.MAX_VALUE, modifications.getFirstModifiedIndex(0));
+
+        modifications.add(10);
+        modifications.add(5);
+        modifications.add(7);
+        modifications.add(7);
+        assertEquals(4, modifications.getCount());
+        assertEquals(5, modifications.getFirstModifiedIndex(0));
+        assertEquals(5, modifications.getFirstModifiedIndex(1));
+        assertEquals(7, modifications.getFirstModifiedIndex(2));
+        assertEquals(7, modifications.getFirstModifiedIndex(3));
+        assertEquals(Integer.MAX_VALUE, modifications.getFirstModifiedIndex(4));
+    }
+
+    @Test
+    public void boundedLogNeverGivesHigherIndexes() {
+        TickModifications modifications = new TickModifications();
+        for (int i = 0; i < 1000; i++) {
+            modifications.add(i);
+        }
+        assertEquals(1000, modifications.getCount());
+        for (long count = 0; count < 1000; count++) {
+            final int index = modifications.getFirstModifiedIndex(count);
+            assertTrue(index <= count);
+            if (count >= 990) {
+                // Recent modifications are exact
+                assertEquals(count, index);
+            }
+        }
+    }
+
+    @Test
+    public void lastModifiedIndex() {
+        TickModifications modifications = new TickModifications();
+        assertEquals(-1, modifications.getLastModifiedIndex(0));
+
+        modifications.add(10);
+        modifications.add(5);
+        modifications.add(7);
+        modifications.add(3);
+        assertEquals(10, modifications.getLastModifiedIndex(0));
+        assertEquals(7, modifications.getLastModifiedIndex(1));
+        assertEquals(7, modifications.getLastModifiedIndex(2));
+        assertEquals(3, modifications.getLastModifiedIndex(3));
+        assertEquals(-1, modifications.getLastModifiedIndex(4));
+    }
+
+    @Test
+    public void boundedLogNeverGivesLowerLastIndexes() {
+        TickModifications modifications = new TickModifications();
+        for (int i = 1000; i > 0; i--) {
+            modifications.add(i);
+        }
+        for (long count = 0; count < 1000; count++) {
+            final int index = modifications.getLastModifiedIndex(count);
+            assertTrue(index >= 1000 - count);
+            if (count >= 990) {
+                // Recent modifications are exact
+                assertEquals(1000 - count, index);
+            }
+        }
+    }
+}
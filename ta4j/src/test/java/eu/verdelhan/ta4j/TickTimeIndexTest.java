@@ -0,0 +1,69 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import eu.verdelhan.ta4j.mocks.MockTick;
+import java.util.Arrays;
+import java.util.Collections;
+import org.joda.time.DateTime;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class TickTimeIndexTest {
+
+    @Test
+    public void searchBounds() {
+        DateTime date = new DateTime(0);
+        TickTimeIndex index = new TickTimeIndex(Arrays.<Tick>asList(
+                new MockTick(date.plusMillis(10), 1),
+                new MockTick(date.plusMillis(20), 2),
+                new MockTick(date.plusMillis(30), 3)));
+        assertEquals(3, index.size());
+        assertEquals(0, index.lowerBound(5, 0, 3));
+        assertEquals(1, index.lowerBound(20, 0, 3));
+        assertEquals(2, index.upperBound(20, 0, 3));
+        assertEquals(3, index.upperBound(30, 0, 3));
+        // Searched range only
+        assertEquals(2, index.lowerBound(5, 2, 3));
+        assertEquals(2, index.lowerBound(30, 0, 2));
+    }
+
+    @Test
+    public void addAndRemoveFirst() {
+        TickTimeIndex index = new TickTimeIndex(Collections.<Tick>emptyList());
+        for (int i = 0; i < 1000; i++) {
+            index.add(i);
+            if (index.size() > 10) {
+                index.removeFirst(1);
+            }
+            final int size = index.size();
+            for (int position = 0; position < size; position++) {
+                assertEquals(i - size + 1 + position, index.get(position));
+            }
+            assertEquals(size - 1, index.lowerBound(i, 0, size));
+            assertEquals(size, index.upperBound(i, 0, size));
+        }
+        index.set(3, 992);
+        assertEquals(4, index.upperBound(992, 0, index.size()));
+    }
+}
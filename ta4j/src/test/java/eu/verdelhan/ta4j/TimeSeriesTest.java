@@ -22,10 +22,14 @@
  */
 package eu.verdelhan.ta4j;
 
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
 import eu.verdelhan.ta4j.Order.OrderType;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
 import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
 import eu.verdelhan.ta4j.trading.rules.FixedRule;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import org.joda.time.DateTime;
@@ -124,6 +128,37 @@ public class TimeSeriesTest {
         assertEquals(defaultName, subSeries.getName());
     }
 
+    @Test
+    public void usePrimitiveDecimals() {
+        assertFalse(defaultSeries.isPrimitiveDecimals());
+        defaultSeries.usePrimitiveDecimals();
+        assertTrue(defaultSeries.isPrimitiveDecimals());
+        assertTrue(defaultSeries.getTick(0).getClosePrice().isPrimitive());
+        assertTrue(defaultSeries.getTick(0).getVolume().isPrimitive());
+        assertTrue(defaultSeries.subseries(1, 3).isPrimitiveDecimals());
+
+        defaultSeries.addTick(new MockTick(date.withDate(2014, 7, 1), 7d));
+        assertTrue(defaultSeries.getLastTick().getClosePrice().isPrimitive());
+        assertEquals(Decimal.valueOf(7), defaultSeries.getLastTick().getClosePrice());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void usePrimitiveDecimalsOnSubseriesShouldThrowException() {
+        subSeries.usePrimitiveDecimals();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unorderedTicksShouldThrowException() {
+        DateTime date = new DateTime(0);
+        new TimeSeries(Arrays.<Tick>asList(new MockTick(date.plusDays(2), 1), new MockTick(date.plusDays(1), 2)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ticksWithEqualEndTimesShouldThrowException() {
+        DateTime date = new DateTime(0);
+        new TimeSeries(Arrays.<Tick>asList(new MockTick(date, 1), new MockTick(date, 2)));
+    }
+
     @Test
     public void getTickWithRemovedIndexOnMovingSeriesShouldReturnFirstRemainingTick() {
         Tick tick = defaultSeries.getTick(4);
@@ -139,9 +174,27 @@ public class TimeSeriesTest {
 
     @Test(expected = IndexOutOfBoundsException.class)
     public void getTickOnMovingAndEmptySeriesShouldThrowException() {
-        defaultSeries.setMaximumTickCount(2);
-        ticks.clear(); // Should not be used like this
-        defaultSeries.getTick(1);
+        emptySeries.setMaximumTickCount(2);
+        emptySeries.getTick(1);
+    }
+
+    @Test
+    public void addTickOnMovingSeries() {
+        defaultSeries.setMaximumTickCount(3);
+        DateTime endTime = date.withDate(2014, 7, 1);
+        for (int i = 0; i < 100; i++) {
+            defaultSeries.addTick(new MockTick(endTime.plusDays(i), 10d + i));
+        }
+        assertEquals(103, defaultSeries.getRemovedTicksCount());
+        assertEquals(0, defaultSeries.getBegin());
+        assertEquals(105, defaultSeries.getEnd());
+        assertEquals(3, defaultSeries.getTickCount());
+        assertEquals(Decimal.valueOf(107), defaultSeries.getTick(0).getClosePrice());
+        assertEquals(Decimal.valueOf(107), defaultSeries.getTick(103).getClosePrice());
+        assertEquals(Decimal.valueOf(108), defaultSeries.getTick(104).getClosePrice());
+        assertEquals(Decimal.valueOf(109), defaultSeries.getLastTick().getClosePrice());
+        // The ticks are not shared with the initial list anymore
+        assertEquals(6, ticks.size());
     }
 
     @Test(expected = IndexOutOfBoundsException.class)
@@ -154,6 +207,18 @@ public class TimeSeriesTest {
         defaultSeries.getTick(10);
     }
 
+    @Test
+    public void priceAccessors() {
+        for (int i = 0; i < ticks.size(); i++) {
+            assertEquals(ticks.get(i).getClosePrice(), defaultSeries.getClosePrice(i));
+            assertEquals(ticks.get(i).getOpenPrice(), defaultSeries.getOpenPrice(i));
+            assertEquals(ticks.get(i).getMaxPrice(), defaultSeries.getMaxPrice(i));
+            assertEquals(ticks.get(i).getMinPrice(), defaultSeries.getMinPrice(i));
+            assertEquals(ticks.get(i).getVolume(), defaultSeries.getVolume(i));
+        }
+        assertEquals(ticks.get(3).getClosePrice(), subSeries.getClosePrice(3));
+    }
+
     @Test
     public void getTickOnMovingSeries() {
         Tick tick = defaultSeries.getTick(4);
@@ -228,10 +293,54 @@ public class TimeSeriesTest {
         assertEquals(4, subSeries2.getTickCount());
     }
 
+    @Test
+    public void subseriesOnSeriesWithMaximumTickCount() {
+        defaultSeries.setMaximumTickCount(4);
+        TimeSeries view = defaultSeries.subseries(3, 5);
+        assertEquals(3, view.getBegin());
+        assertEquals(5, view.getEnd());
+        assertEquals(3, view.getTickCount());
+        assertEquals(2, view.getRemovedTicksCount());
+        assertEquals(4, view.getMaximumTickCount());
+        assertDecimalEquals(view.getTick(3).getClosePrice(), 4);
+
+        // Ticks removed from the full series
+        defaultSeries.addTick(new MockTick(date.withDate(2014, 7, 5), 7d));
+        assertEquals(3, view.getRemovedTicksCount());
+        assertEquals(3, view.getTickCount());
+        defaultSeries.addTick(new MockTick(date.withDate(2014, 7, 10), 8d));
+        assertEquals(4, view.getRemovedTicksCount());
+        assertEquals(2, view.getTickCount());
+        assertDecimalEquals(view.getFirstTick().getClosePrice(), 5);
+        assertDecimalEquals(view.getLastTick().getClosePrice(), 6);
+        assertEquals(4, view.getIndexAt(date.withDate(2014, 6, 25).minusHours(1)));
+        assertEquals(-1, view.getCeilingIndex(date.withDate(2014, 7, 1)));
+
+        defaultSeries.addTick(new MockTick(date.withDate(2014, 7, 15), 9d));
+        defaultSeries.addTick(new MockTick(date.withDate(2014, 7, 20), 10d));
+        assertEquals(0, view.getTickCount());
+    }
+
     @Test(expected = IllegalStateException.class)
-    public void subseriesOnSeriesWithMaximumTickCountShouldThrowException() {
-        defaultSeries.setMaximumTickCount(3);
-        defaultSeries.subseries(0, 1);
+    public void addTickOnSubseriesShouldThrowException() {
+        subSeries.addTick(new MockTick(date.withDate(2014, 7, 5), 7d));
+    }
+
+    @Test
+    public void subseriesSharesIndicators() {
+        defaultSeries.setMaximumTickCount(4);
+        TimeSeries view = defaultSeries.subseries(3, 5);
+        ClosePriceIndicator closePrice = view.getIndicatorRegistry().get(IndicatorRegistryTest.closePrice(view));
+        assertSame(defaultSeries.getIndicatorRegistry(), view.getIndicatorRegistry());
+        assertSame(defaultSeries.getIndicatorRegistry().get(IndicatorRegistryTest.closePrice(defaultSeries)), closePrice);
+        assertSame(defaultSeries, closePrice.getTimeSeries());
+
+        SMAIndicator sma = view.getIndicatorRegistry().get(IndicatorRegistryTest.sma(closePrice, 2));
+        assertDecimalEquals(sma.getValue(5), 5.5);
+        // Tick corrected through the sub-series
+        view.replaceTick(5, new MockTick(date.withDate(2014, 6, 30), 8d));
+        assertDecimalEquals(defaultSeries.getTick(5).getClosePrice(), 8);
+        assertDecimalEquals(sma.getValue(5), 6.5);
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -440,10 +549,10 @@ public class TimeSeriesTest {
 
     @Test
     public void splitted(){
-        DateTime date = new DateTime();
+        DateTime date = new DateTime(2000, 1, 1, 0, 0);
         TimeSeries series = new MockTimeSeries(new double[]{1d, 2d, 3d, 4d, 5d, 6d, 7d, 8d, 9d, 10d},
-                    new DateTime[]{date.withYear(2000), date.withYear(2000), date.withYear(2001), date.withYear(2001), date.withYear(2002),
-                                   date.withYear(2002), date.withYear(2002), date.withYear(2003), date.withYear(2004), date.withYear(2005)});
+                    new DateTime[]{date.withYear(2000), date.withYear(2000).plusSeconds(1), date.withYear(2001), date.withYear(2001).plusSeconds(1), date.withYear(2002),
+                                   date.withYear(2002).plusSeconds(1), date.withYear(2002).plusSeconds(2), date.withYear(2003), date.withYear(2004), date.withYear(2005)});
 
         Strategy aStrategy = new Strategy(new FixedRule(0, 3, 5, 7), new FixedRule(2, 4, 6, 9));
 
@@ -481,4 +590,128 @@ public class TimeSeriesTest {
         trades = slice5.run(aStrategy).getTrades();
         assertTrue(trades.isEmpty());
     }
+
+    @Test
+    public void replaceLastTick() {
+        long modificationCount = defaultSeries.getModificationCount();
+        Tick tick = new MockTick(date.withDate(2014, 6, 29), 7d);
+        defaultSeries.replaceLastTick(tick);
+        assertSame(tick, defaultSeries.getLastTick());
+        assertEquals(6, defaultSeries.getTickCount());
+        assertEquals(modificationCount + 1, defaultSeries.getModificationCount());
+        assertEquals(5, defaultSeries.getFirstModifiedIndex(modificationCount));
+        assertEquals(Integer.MAX_VALUE, defaultSeries.getFirstModifiedIndex(defaultSeries.getModificationCount()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void replaceLastTickWithPreviousEndTime() {
+        defaultSeries.replaceLastTick(new MockTick(date.withDate(2014, 6, 25), 7d));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void replaceLastTickOfEmptySeries() {
+        emptySeries.replaceLastTick(new MockTick(date, 7d));
+    }
+
+    @Test
+    public void timeIndexLookups() {
+        assertEquals(0, defaultSeries.getIndexAt(date.withDate(2014, 6, 13).minusHours(1)));
+        assertEquals(1, defaultSeries.getIndexAt(date.withDate(2014, 6, 13)));
+        assertEquals(-1, defaultSeries.getIndexAt(date.withDate(2014, 6, 17)));
+        assertEquals(-1, defaultSeries.getIndexAt(date.withDate(2014, 6, 30)));
+
+        assertEquals(-1, defaultSeries.getFloorIndex(date.withDate(2014, 6, 12)));
+        assertEquals(2, defaultSeries.getFloorIndex(date.withDate(2014, 6, 17)));
+        assertEquals(3, defaultSeries.getFloorIndex(date.withDate(2014, 6, 20)));
+        assertEquals(5, defaultSeries.getFloorIndex(date.withDate(2014, 7, 1)));
+
+        assertEquals(0, defaultSeries.getCeilingIndex(date.withDate(2014, 6, 1)));
+        assertEquals(3, defaultSeries.getCeilingIndex(date.withDate(2014, 6, 17)));
+        assertEquals(3, defaultSeries.getCeilingIndex(date.withDate(2014, 6, 20)));
+        assertEquals(-1, defaultSeries.getCeilingIndex(date.withDate(2014, 7, 1)));
+
+        // Only the ticks of the sub-series
+        assertEquals(-1, subSeries.getFloorIndex(date.withDate(2014, 6, 14)));
+        assertEquals(4, subSeries.getFloorIndex(date.withDate(2014, 7, 1)));
+        assertEquals(2, subSeries.getCeilingIndex(date.withDate(2014, 6, 1)));
+        assertEquals(-1, subSeries.getCeilingIndex(date.withDate(2014, 6, 26)));
+
+        assertEquals(-1, emptySeries.getIndexAt(date));
+        assertEquals(-1, emptySeries.getFloorIndex(date));
+        assertEquals(-1, emptySeries.getCeilingIndex(date));
+    }
+
+    @Test
+    public void timeIndexLookupsOnMovingSeries() {
+        TimeSeries series = new TimeSeries();
+        series.setMaximumTickCount(10);
+        for (int i = 0; i < 100; i++) {
+            series.addTick(new MockTick(date.plusDays(i), i));
+            final int firstIndex = series.getRemovedTicksCount();
+            assertEquals(firstIndex, series.getCeilingIndex(date));
+            assertEquals(-1, series.getFloorIndex(date.plusDays(firstIndex).minusMillis(1)));
+            for (int j = firstIndex; j <= i; j++) {
+                assertEquals(j, series.getFloorIndex(date.plusDays(j)));
+                assertEquals(j, series.getCeilingIndex(date.plusDays(j)));
+                assertEquals(j, series.getIndexAt(date.plusDays(j).minusHours(1)));
+            }
+        }
+    }
+
+    @Test
+    public void timeIndexFollowsReplacedTicks() {
+        defaultSeries.replaceTick(3, new MockTick(date.withDate(2014, 6, 17), 4d));
+        assertEquals(3, defaultSeries.getIndexAt(date.withDate(2014, 6, 16).plusHours(1)));
+        assertEquals(3, defaultSeries.getFloorIndex(date.withDate(2014, 6, 18)));
+    }
+
+    @Test
+    public void replaceTick() {
+        long modificationCount = defaultSeries.getModificationCount();
+        Tick tick = new MockTick(date.withDate(2014, 6, 18), 7d);
+        defaultSeries.replaceTick(2, tick);
+        defaultSeries.replaceTick(3, new MockTick(date.withDate(2014, 6, 20), 8d));
+        assertSame(tick, defaultSeries.getTick(2));
+        assertEquals(6, defaultSeries.getTickCount());
+        assertEquals(modificationCount + 2, defaultSeries.getModificationCount());
+        assertEquals(2, defaultSeries.getFirstModifiedIndex(modificationCount));
+        assertEquals(3, defaultSeries.getLastModifiedIndex(modificationCount));
+        assertEquals(3, defaultSeries.getFirstModifiedIndex(modificationCount + 1));
+        assertEquals(-1, defaultSeries.getLastModifiedIndex(defaultSeries.getModificationCount()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void replaceTickWithNextEndTime() {
+        defaultSeries.replaceTick(2, new MockTick(date.withDate(2014, 6, 20), 7d));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void replaceTickAfterEnd() {
+        defaultSeries.replaceTick(6, new MockTick(date.withDate(2014, 7, 1), 7d));
+    }
+
+    @Test
+    public void addTradeToLastTick() {
+        final int[] modifiedIndex = { -1 };
+        defaultSeries.addTickListener(new TickListener() {
+            @Override
+            public void tickAdded(TimeSeries series, int index) {
+            }
+
+            @Override
+            public void tickModified(TimeSeries series, int index) {
+                modifiedIndex[0] = index;
+            }
+        });
+        defaultSeries.addTrade(Decimal.valueOf(2), Decimal.valueOf(8));
+        assertEquals(Decimal.valueOf(8), defaultSeries.getLastTick().getClosePrice());
+        assertEquals(5, modifiedIndex[0]);
+        assertEquals(1, defaultSeries.getModificationCount());
+        assertEquals(5, defaultSeries.getFirstModifiedIndex(0));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void addTradeToEmptySeries() {
+        emptySeries.addTrade(Decimal.ONE, Decimal.TEN);
+    }
 }
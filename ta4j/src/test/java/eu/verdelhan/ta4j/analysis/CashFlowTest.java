@@ -29,7 +29,8 @@ import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.TradingRecord;
 import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.List;
 import static org.junit.Assert.*;
 import org.junit.Test;
 
@@ -206,7 +207,11 @@ public class CashFlowTest {
     @Test
     public void reallyLongCashFlow() {
         int size = 1000000;
-        TimeSeries sampleTimeSeries = new MockTimeSeries(Collections.nCopies(size, (Tick) new MockTick(10)));
+        List<Tick> ticks = new ArrayList<Tick>(size);
+        for (int i = 0; i < size; i++) {
+            ticks.add(new MockTick(10));
+        }
+        TimeSeries sampleTimeSeries = new MockTimeSeries(ticks);
         TradingRecord tradingRecord = new TradingRecord(Order.buyAt(0), Order.sellAt(size - 1));
         CashFlow cashFlow = new CashFlow(sampleTimeSeries, tradingRecord);
         assertDecimalEquals(cashFlow.getValue(size - 1), 1);
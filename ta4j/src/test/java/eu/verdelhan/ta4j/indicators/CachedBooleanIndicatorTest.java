@@ -0,0 +1,94 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.Random;
+import org.joda.time.DateTime;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class CachedBooleanIndicatorTest {
+
+    /**
+     * @param seed a random seed
+     * @param tickCount the number of ticks
+     * @return a random walk series
+     */
+    private static TimeSeries randomSeries(long seed, int tickCount) {
+        Random random = new Random(seed);
+        double[] data = new double[tickCount];
+        double price = 100;
+        for (int i = 0; i < tickCount; i++) {
+            price += random.nextInt(5) - 2;
+            data[i] = price;
+        }
+        return new MockTimeSeries(data);
+    }
+
+    @Test
+    public void getValue() {
+        CachedBooleanIndicator isOdd = new CachedBooleanIndicator(new MockTimeSeries(1, 2, 3, 4, 5)) {
+
+            private static final long serialVersionUID = -3725233280642454466L;
+
+            @Override
+            protected Boolean calculate(int index) {
+                return index % 2 == 1;
+            }
+        };
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i % 2 == 1, isOdd.getValue(i));
+            assertEquals(i % 2 == 1, isOdd.getValue(i));
+        }
+    }
+
+    @Test
+    public void getValueOnMovingSeries() {
+        TimeSeries series = randomSeries(7, 100);
+        series.setMaximumTickCount(40);
+        CachedBooleanIndicator indicator = new CachedBooleanIndicator(series) {
+
+            private static final long serialVersionUID = -6872869659054634529L;
+
+            @Override
+            protected Boolean calculate(int index) {
+                return (index * 7919) % 13 == 0;
+            }
+        };
+        Random random = new Random(7);
+        DateTime endTime = series.getLastTick().getEndTime();
+        for (int i = 0; i < 300; i++) {
+            series.addTick(new MockTick(endTime.plusMinutes(i + 1), 100 + random.nextInt(5)));
+            int beginIndex = series.getRemovedTicksCount();
+            int endIndex = series.getEnd();
+            int index = beginIndex + random.nextInt(endIndex - beginIndex + 1);
+            assertEquals((index * 7919) % 13 == 0, indicator.getValue(index));
+            if (random.nextBoolean()) {
+                indicator.getValue(endIndex);
+            }
+        }
+    }
+}
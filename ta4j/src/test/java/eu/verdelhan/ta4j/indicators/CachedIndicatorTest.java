@@ -23,16 +23,51 @@
 package eu.verdelhan.ta4j.indicators;
 
 import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Strategy;
 import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.candles.DojiIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.HighestValueIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.CrossIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.CumulatedGainsIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.LowestValueIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.MeanDeviationIndicator;
+import eu.verdelhan.ta4j.indicators.oscillators.CCIIndicator;
+import eu.verdelhan.ta4j.indicators.oscillators.StochasticOscillatorKIndicator;
+import eu.verdelhan.ta4j.indicators.simple.MaxPriceIndicator;
+import eu.verdelhan.ta4j.indicators.statistics.CovarianceIndicator;
+import eu.verdelhan.ta4j.indicators.statistics.PercentRankIndicator;
+import eu.verdelhan.ta4j.indicators.statistics.PercentileIndicator;
+import eu.verdelhan.ta4j.indicators.statistics.SimpleLinearRegressionIndicator;
+import eu.verdelhan.ta4j.indicators.statistics.StandardDeviationIndicator;
+import eu.verdelhan.ta4j.indicators.statistics.VarianceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.EMAIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.MACDIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.ParabolicSarIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.RSIIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SmoothedRSIIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.TrailingStopLossIndicator;
+import eu.verdelhan.ta4j.indicators.volume.ChaikinMoneyFlowIndicator;
+import eu.verdelhan.ta4j.indicators.volume.OnBalanceVolumeIndicator;
+import eu.verdelhan.ta4j.indicators.volume.VWAPIndicator;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
 import eu.verdelhan.ta4j.indicators.simple.ConstantIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.ROCIndicator;
 import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.WMAIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
 import eu.verdelhan.ta4j.trading.rules.OverIndicatorRule;
 import eu.verdelhan.ta4j.trading.rules.UnderIndicatorRule;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.joda.time.DateTime;
 import static org.junit.Assert.*;
 import org.junit.Before;
 import org.junit.Test;
@@ -140,4 +175,364 @@ public class CachedIndicatorTest {
             assertDecimalEquals(sma.getValue(i), 1);
         }
     }
+
+    @Test
+    public void getValueOnMovingSeriesWithNewTicks() {
+        TimeSeries timeSeries = new MockTimeSeries(1, 2, 3, 4, 5);
+        timeSeries.setMaximumTickCount(4);
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(timeSeries), 2);
+        DateTime endTime = timeSeries.getLastTick().getEndTime();
+        for (int i = 6; i < 1000; i++) {
+            timeSeries.addTick(new MockTick(endTime.plusMinutes(i), i));
+            assertDecimalEquals(sma.getValue(timeSeries.getEnd()), i - 0.5);
+            assertDecimalEquals(sma.getValue(timeSeries.getEnd() - 1), i - 1.5);
+        }
+    }
+
+    @Test
+    public void getValueOnRemovedTickDoesNotCorruptCache() {
+        TimeSeries timeSeries = new MockTimeSeries(1, 2, 3, 4, 5, 6, 7, 8);
+        timeSeries.setMaximumTickCount(4);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(timeSeries);
+        assertDecimalEquals(closePrice.getValue(7), 8);
+        assertDecimalEquals(closePrice.getValue(0), 5);
+        assertDecimalEquals(closePrice.getValue(6), 7);
+        assertDecimalEquals(closePrice.getValue(7), 8);
+        assertDecimalEquals(closePrice.getValue(5), 6);
+    }
+
+    @Test
+    public void primitiveCacheOnPrimitiveSeries() {
+        TimeSeries timeSeries = new MockTimeSeries(1, 2, 3, 4, 5, 6, 7, 8);
+        timeSeries.usePrimitiveDecimals();
+        timeSeries.setMaximumTickCount(4);
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(timeSeries), 2);
+        DateTime endTime = timeSeries.getLastTick().getEndTime();
+        for (int i = 9; i < 100; i++) {
+            timeSeries.addTick(new MockTick(endTime.plusMinutes(i), i));
+            assertDecimalEquals(sma.getValue(timeSeries.getEnd()), i - 0.5);
+            assertDecimalEquals(sma.getValue(timeSeries.getEnd() - 1), i - 1.5);
+            assertTrue(sma.getValue(timeSeries.getEnd()).isPrimitive());
+        }
+    }
+
+    @Test
+    public void primitiveCacheReusesTheLastBoxedResult() {
+        TimeSeries timeSeries = new MockTimeSeries(1, 2, 3, 3);
+        timeSeries.usePrimitiveDecimals();
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(timeSeries), 1);
+        Decimal result = sma.getValue(3);
+        assertSame(result, sma.getValue(3));
+        // Same value at another index
+        result = sma.getValue(2);
+        assertSame(result, sma.getValue(3));
+        assertDecimalEquals(sma.getValue(1), 2);
+        assertNotSame(result, sma.getValue(3));
+        assertDecimalEquals(sma.getValue(3), 3);
+    }
+
+    @Test
+    public void primitiveCacheStoresNaNResults() {
+        TimeSeries timeSeries = new MockTimeSeries(1, 2, 3);
+        timeSeries.usePrimitiveDecimals();
+        final int[] calculations = new int[1];
+        CachedIndicator<Decimal> nanIndicator = new CachedIndicator<Decimal>(timeSeries) {
+
+            private static final long serialVersionUID = -8544112207565578183L;
+
+            {
+                usePrimitiveCache();
+            }
+
+            @Override
+            protected Decimal calculate(int index) {
+                calculations[0]++;
+                return index == 1 ? Decimal.NaN : Decimal.valueOf(index);
+            }
+        };
+        for (int i = 0; i < 2; i++) {
+            assertDecimalEquals(nanIndicator.getValue(0), 0);
+            assertEquals(Decimal.NaN, nanIndicator.getValue(1));
+            assertDecimalEquals(nanIndicator.getValue(2), 2);
+        }
+        assertEquals(3, calculations[0]);
+    }
+
+    @Test
+    public void primitiveCacheIgnoredOnBigDecimalSeries() {
+        TimeSeries timeSeries = new MockTimeSeries(1, 2, 2);
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(timeSeries), 3);
+        assertFalse(sma.getValue(2).isPrimitive());
+        assertEquals(Decimal.valueOf(5).dividedBy(Decimal.THREE), sma.getValue(2));
+    }
+
+    @Test
+    public void precomputeInParallelChunks() {
+        Random random = new Random(3);
+        List<Tick> ticks = new ArrayList<Tick>();
+        double price = 100;
+        for (int i = 0; i < 20000; i++) {
+            double open = price;
+            price = Math.max(1, price + random.nextGaussian());
+            ticks.add(new MockTick(open, price, Math.max(open, price) + 1, Math.min(open, price) - 1));
+        }
+        TimeSeries longSeries = new MockTimeSeries(ticks);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(longSeries);
+        SMAIndicator sma = new SMAIndicator(new ROCIndicator(closePrice, 3), 50);
+        HighestValueIndicator highest = new HighestValueIndicator(sma, 30);
+        DojiIndicator doji = new DojiIndicator(longSeries, 10, Decimal.valueOf(0.1));
+        // Not supporting range calculations (precomputed sequentially)
+        WMAIndicator wma = new WMAIndicator(closePrice, 20);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            highest.precompute(executor, 4);
+            doji.precompute(100, 15000, executor, 4);
+            wma.precompute(executor, 4);
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(longSeries.getEnd(), highest.highestResultIndex);
+        assertEquals(longSeries.getEnd(), sma.highestResultIndex);
+        assertEquals(15000, doji.highestResultIndex);
+
+        Indicator<Decimal> sequentialSma = new SMAIndicator(new ROCIndicator(new ClosePriceIndicator(longSeries), 3), 50);
+        Indicator<Decimal> sequentialHighest = new HighestValueIndicator(sequentialSma, 30);
+        Indicator<Boolean> sequentialDoji = new DojiIndicator(longSeries, 10, Decimal.valueOf(0.1));
+        Indicator<Decimal> sequentialWma = new WMAIndicator(new ClosePriceIndicator(longSeries), 20);
+        for (int i = 0; i <= longSeries.getEnd(); i++) {
+            assertDecimalEquals(sma.getValue(i), sequentialSma.getValue(i).toDouble());
+            assertDecimalEquals(highest.getValue(i), sequentialHighest.getValue(i).toDouble());
+            assertEquals(sequentialDoji.getValue(i), doji.getValue(i));
+            assertDecimalEquals(wma.getValue(i), sequentialWma.getValue(i).toDouble());
+        }
+    }
+
+    @Test
+    public void modifiedLastTickInvalidatesItsResult() {
+        final int[] calculations = new int[1];
+        final ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        CachedIndicator<Decimal> counting = new CachedIndicator<Decimal>(series) {
+
+            private static final long serialVersionUID = 7514528695626577343L;
+
+            @Override
+            protected Decimal calculate(int index) {
+                calculations[0]++;
+                return closePrice.getValue(index);
+            }
+        };
+        SMAIndicator sma = new SMAIndicator(counting, 3);
+        for (int i = 0; i <= series.getEnd(); i++) {
+            sma.getValue(i);
+        }
+        assertDecimalEquals(sma.getValue(12), 3);
+        assertEquals(13, calculations[0]);
+
+        long modificationCount = series.getModificationCount();
+        series.addTrade(Decimal.ONE, Decimal.valueOf(8));
+        assertEquals(modificationCount + 1, series.getModificationCount());
+        assertEquals(12, series.getFirstModifiedIndex(modificationCount));
+        assertDecimalEquals(sma.getValue(11), 10d / 3);
+        assertDecimalEquals(sma.getValue(12), 5);
+        // Only the last result has been calculated again
+        assertEquals(14, calculations[0]);
+
+        series.replaceLastTick(new MockTick(series.getLastTick().getEndTime(), 5));
+        assertDecimalEquals(sma.getValue(12), 4);
+        assertEquals(15, calculations[0]);
+    }
+
+    @Test
+    public void modifiedLastTickGivesSameResultsAsNewIndicators() {
+        Random random = new Random(7);
+        TimeSeries liveSeries = new TimeSeries();
+        DateTime time = new DateTime(2016, 1, 1, 0, 0);
+        double price = 100;
+        for (int i = 0; i < 30; i++) {
+            time = time.plusDays(1);
+            price = Math.max(1, price + random.nextGaussian());
+            liveSeries.addTick(new Tick(time, price, price + 1, price - 1, price, 1 + random.nextInt(10)));
+        }
+        List<Indicator<?>> liveIndicators = createIndicators(liveSeries);
+        for (int i = 0; i <= liveSeries.getEnd(); i++) {
+            for (Indicator<?> indicator : liveIndicators) {
+                indicator.getValue(i);
+            }
+        }
+
+        for (int i = 0; i < 40; i++) {
+            time = time.plusDays(1);
+            price = Math.max(1, price + random.nextGaussian());
+            liveSeries.addTick(new Tick(time, price, price, price, price, 1));
+            assertSameValues(liveSeries, liveIndicators, liveSeries.getEnd() - 1);
+            for (int trade = 0; trade < 4; trade++) {
+                price = Math.max(1, price + random.nextGaussian());
+                if (random.nextInt(4) == 0) {
+                    // Replacing the tick
+                    liveSeries.replaceLastTick(new Tick(time, price, price + random.nextDouble(),
+                            price - random.nextDouble(), price, 1 + random.nextInt(10)));
+                } else {
+                    liveSeries.addTrade(Decimal.valueOf(1 + random.nextInt(5)), Decimal.valueOf(price));
+                }
+                if (random.nextBoolean()) {
+                    assertSameValues(liveSeries, liveIndicators, liveSeries.getEnd() - 1);
+                }
+            }
+            assertSameValues(liveSeries, liveIndicators, liveSeries.getEnd() - 1);
+        }
+    }
+
+    @Test
+    public void replacedTickOnlyInvalidatesTheResultsDependingOnIt() {
+        final int[] calculations = new int[1];
+        final ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        CachedIndicator<Decimal> counting = new CachedIndicator<Decimal>(series) {
+
+            private static final long serialVersionUID = -1406612057389349638L;
+
+            @Override
+            protected Decimal calculate(int index) {
+                calculations[0]++;
+                return closePrice.getValue(index);
+            }
+
+            @Override
+            protected int getLookBack() {
+                return 1;
+            }
+        };
+        CachedIndicator<Decimal> sma = new SMAIndicator(counting, 3);
+        CachedIndicator<Decimal> ema = new EMAIndicator(counting, 3);
+        for (int i = 0; i <= series.getEnd(); i++) {
+            sma.getValue(i);
+            ema.getValue(i);
+        }
+        assertEquals(13, calculations[0]);
+        assertEquals(3, sma.getTotalLookBack());
+        assertEquals(Integer.MAX_VALUE, ema.getTotalLookBack());
+
+        long modificationCount = series.getModificationCount();
+        series.replaceTick(5, new MockTick(series.getTick(5).getEndTime(), 10));
+        assertEquals(5, series.getFirstModifiedIndex(modificationCount));
+        assertEquals(5, series.getLastModifiedIndex(modificationCount));
+        assertDecimalEquals(sma.getValue(12), 3);
+        assertDecimalEquals(ema.getValue(4), 3.0625);
+        // Window results: only the ones whose time frame contains the replaced tick
+        for (int i = 0; i <= series.getEnd(); i++) {
+            assertEquals(i >= 5 && i <= 7, sma.results.get(i) == null);
+        }
+        // Recursive results: all the ones from the replaced tick
+        assertEquals(4, ema.highestResultIndex);
+
+        assertDecimalEquals(sma.getValue(5), 17d / 3);
+        assertDecimalEquals(sma.getValue(7), 19d / 3);
+        assertDecimalEquals(sma.getValue(8), 4);
+        // Only the replaced tick has been calculated again
+        assertEquals(14, calculations[0]);
+    }
+
+    @Test
+    public void replacedTicksGiveSameResultsAsNewIndicators() {
+        Random random = new Random(11);
+        TimeSeries series = new TimeSeries();
+        DateTime time = new DateTime(2016, 1, 1, 0, 0);
+        double price = 100;
+        for (int i = 0; i < 60; i++) {
+            time = time.plusDays(1);
+            price = Math.max(1, price + random.nextGaussian());
+            series.addTick(new Tick(time, price, price + 1, price - 1, price, 1 + random.nextInt(10)));
+        }
+        List<Indicator<?>> indicators = createIndicators(series);
+        for (int i = 0; i <= series.getEnd(); i++) {
+            for (Indicator<?> indicator : indicators) {
+                indicator.getValue(i);
+            }
+        }
+
+        for (int i = 0; i < 20; i++) {
+            // Corrections of past ticks
+            for (int correction = random.nextInt(3); correction >= 0; correction--) {
+                final int index = random.nextInt(series.getEnd() + 1);
+                Tick tick = series.getTick(index);
+                price = tick.getClosePrice().toDouble() + random.nextGaussian();
+                series.replaceTick(index, new Tick(tick.getEndTime(), price, price + random.nextDouble(),
+                        price - random.nextDouble(), price, 1 + random.nextInt(10)));
+            }
+            assertSameValues(series, indicators, series.getBegin());
+        }
+    }
+
+    /**
+     * @param series a time series
+     * @return indicators (of all kinds of incremental states) over the series
+     */
+    private static List<Indicator<?>> createIndicators(TimeSeries series) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        MaxPriceIndicator maxPrice = new MaxPriceIndicator(series);
+        EMAIndicator ema = new EMAIndicator(closePrice, 5);
+        List<Indicator<?>> indicators = new ArrayList<Indicator<?>>();
+        indicators.add(new SMAIndicator(closePrice, 5));
+        indicators.add(ema);
+        indicators.add(new WMAIndicator(closePrice, 5));
+        indicators.add(new MACDIndicator(closePrice, 4, 8));
+        indicators.add(new RSIIndicator(closePrice, 6));
+        indicators.add(new SmoothedRSIIndicator(closePrice, 6));
+        indicators.add(new CumulatedGainsIndicator(closePrice, 6));
+        indicators.add(new HighestValueIndicator(maxPrice, 7));
+        indicators.add(new LowestValueIndicator(closePrice, 7));
+        indicators.add(new StochasticOscillatorKIndicator(series, 7));
+        indicators.add(new MeanDeviationIndicator(closePrice, 6));
+        indicators.add(new CCIIndicator(series, 6));
+        indicators.add(new PercentileIndicator(closePrice, 6, Decimal.valueOf(30)));
+        indicators.add(new PercentRankIndicator(closePrice, 6));
+        indicators.add(new VarianceIndicator(closePrice, 6));
+        indicators.add(new StandardDeviationIndicator(closePrice, 6));
+        indicators.add(new ROCIndicator(closePrice, 4));
+        indicators.add(new DojiIndicator(series, 5, Decimal.valueOf(0.5)));
+        indicators.add(new SimpleLinearRegressionIndicator(closePrice, 6));
+        indicators.add(new CovarianceIndicator(closePrice, maxPrice, 6));
+        indicators.add(new ChaikinMoneyFlowIndicator(series, 6));
+        indicators.add(new VWAPIndicator(series, 6));
+        indicators.add(new OnBalanceVolumeIndicator(series));
+        indicators.add(new ParabolicSarIndicator(series, 6));
+        indicators.add(new TrailingStopLossIndicator(closePrice, Decimal.valueOf(2)));
+        indicators.add(new CrossIndicator(closePrice, ema));
+        indicators.add(new CrossIndicator(ema, closePrice));
+        return indicators;
+    }
+
+    /**
+     * Checks that the values of indicators are the same as the ones of new indicators over a copy of the series.
+     * @param series the time series
+     * @param indicators the indicators over the series (see {@link #createIndicators(TimeSeries)})
+     * @param fromIndex the first index of the values to be checked
+     */
+    private static void assertSameValues(TimeSeries series, List<Indicator<?>> indicators, int fromIndex) {
+        List<Tick> ticks = new ArrayList<Tick>();
+        for (int i = series.getBegin(); i <= series.getEnd(); i++) {
+            Tick tick = series.getTick(i);
+            ticks.add(new Tick(tick.getEndTime(), tick.getOpenPrice(), tick.getMaxPrice(), tick.getMinPrice(),
+                    tick.getClosePrice(), tick.getVolume()));
+        }
+        List<Indicator<?>> expectedIndicators = createIndicators(new TimeSeries(ticks));
+        for (int i = series.getBegin(); i <= series.getEnd(); i++) {
+            for (int j = 0; j < indicators.size(); j++) {
+                // (Calculated sequentially, as some indicators depend on their calculation order)
+                Object expected = expectedIndicators.get(j).getValue(i);
+                if (i < fromIndex) {
+                    continue;
+                }
+                Object actual = indicators.get(j).getValue(i);
+                String message = indicators.get(j) + " at index " + i;
+                if (expected instanceof Decimal) {
+                    double expectedValue = ((Decimal) expected).toDouble();
+                    double actualValue = ((Decimal) actual).toDouble();
+                    assertEquals(message, expectedValue, actualValue, 1e-8 * Math.max(1, Math.abs(expectedValue)));
+                } else {
+                    assertEquals(message, expected, actual);
+                }
+            }
+        }
+    }
 }
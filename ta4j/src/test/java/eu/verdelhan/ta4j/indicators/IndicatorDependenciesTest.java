@@ -0,0 +1,115 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.helpers.HighestValueIndicator;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.statistics.VarianceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.MACDIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import eu.verdelhan.ta4j.trading.rules.OverIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.StopLossRule;
+import eu.verdelhan.ta4j.trading.rules.UnderIndicatorRule;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndicatorDependenciesTest {
+
+    private TimeSeries series;
+
+    private ClosePriceIndicator closePrice;
+
+    @Before
+    public void setUp() {
+        series = new MockTimeSeries(1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2);
+        closePrice = new ClosePriceIndicator(series);
+    }
+
+    @Test
+    public void noDependency() {
+        assertTrue(IndicatorDependencies.of(closePrice).isEmpty());
+    }
+
+    @Test
+    public void dependenciesThroughHelpers() {
+        // Referenced through a sliding extremum
+        List<Indicator<?>> dependencies = IndicatorDependencies.of(new HighestValueIndicator(closePrice, 3));
+        assertEquals(1, dependencies.size());
+        assertSame(closePrice, dependencies.get(0));
+        // Referenced through rolling sums
+        dependencies = IndicatorDependencies.of(new VarianceIndicator(closePrice, 3));
+        assertTrue(dependencies.contains(closePrice));
+    }
+
+    @Test
+    public void directDependenciesOnly() {
+        Indicator<Decimal> macd = new MACDIndicator(closePrice, 3, 6);
+        List<Indicator<?>> dependencies = IndicatorDependencies.of(macd);
+        // Short and long term EMAs (the close price indicator is a dependency of the EMAs)
+        assertEquals(2, dependencies.size());
+        assertFalse(dependencies.contains(closePrice));
+    }
+
+    @Test
+    public void declaredDependencies() {
+        final SMAIndicator sma = new SMAIndicator(closePrice, 3);
+        Indicator<Decimal> spread = new CachedIndicator<Decimal>(closePrice) {
+
+            private static final long serialVersionUID = 3052378114738205171L;
+
+            {
+                dependsOn(sma);
+            }
+
+            @Override
+            protected Decimal calculate(int index) {
+                return closePrice.getValue(index).minus(sma.getValue(index));
+            }
+        };
+        List<Indicator<?>> dependencies = IndicatorDependencies.of(spread);
+        assertEquals(2, dependencies.size());
+        assertSame(closePrice, dependencies.get(0));
+        assertSame(sma, dependencies.get(1));
+    }
+
+    @Test
+    public void strategyIndicators() {
+        SMAIndicator sma = new SMAIndicator(closePrice, 3);
+        Strategy strategy = new Strategy(new OverIndicatorRule(closePrice, sma),
+                new UnderIndicatorRule(closePrice, sma).or(new StopLossRule(closePrice, Decimal.TEN)));
+        List<Indicator<?>> indicators = IndicatorDependencies.of(strategy);
+        assertEquals(2, indicators.size());
+        assertSame(closePrice, indicators.get(0));
+        assertSame(sma, indicators.get(1));
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.Strategy;
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.EMAIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.MACDIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import eu.verdelhan.ta4j.trading.rules.CrossedDownIndicatorRule;
+import eu.verdelhan.ta4j.trading.rules.OverIndicatorRule;
+import java.util.List;
+import org.joda.time.DateTime;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndicatorPipelineTest {
+
+    private static final double[] PRICES = { 10, 11, 12, 11, 10, 9, 10, 12, 13, 12, 14, 15, 13, 12, 11, 12 };
+
+    private TimeSeries series;
+
+    private DateTime time;
+
+    @Before
+    public void setUp() {
+        series = new TimeSeries();
+        time = new DateTime(2016, 1, 1, 0, 0);
+    }
+
+    @Test
+    public void indicatorsAreSortedInDependencyOrder() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        EMAIndicator shortEma = new EMAIndicator(closePrice, 3);
+        EMAIndicator longEma = new EMAIndicator(closePrice, 6);
+        MACDIndicator macd = new MACDIndicator(shortEma, longEma);
+
+        IndicatorPipeline pipeline = new IndicatorPipeline(series).add(macd).add(shortEma);
+        List<Indicator<?>> indicators = pipeline.getIndicators();
+        // (Each indicator is registered once, including the warm-up SMAs of the EMAs)
+        for (Indicator<?> indicator : indicators) {
+            assertEquals(indicators.indexOf(indicator), indicators.lastIndexOf(indicator));
+        }
+        assertEquals(6, indicators.size());
+        assertTrue(indicators.indexOf(closePrice) < indicators.indexOf(shortEma));
+        assertTrue(indicators.indexOf(closePrice) < indicators.indexOf(longEma));
+        assertTrue(indicators.indexOf(shortEma) < indicators.indexOf(macd));
+        assertTrue(indicators.indexOf(longEma) < indicators.indexOf(macd));
+    }
+
+    @Test
+    public void eachIndicatorIsCalculatedOncePerTick() {
+        CountingIndicator counting = new CountingIndicator(new ClosePriceIndicator(series));
+        SMAIndicator sma = new SMAIndicator(counting, 3);
+        new IndicatorPipeline(series).add(sma);
+
+        for (int i = 0; i < PRICES.length; i++) {
+            addTick(PRICES[i]);
+            assertEquals(i + 1, counting.calculations);
+            assertEquals(i, sma.highestResultIndex);
+        }
+        // Values are read from the cache
+        sma.getValue(series.getEnd());
+        assertEquals(PRICES.length, counting.calculations);
+    }
+
+    @Test
+    public void pushedValuesMatchPulledValues() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        MACDIndicator macd = new MACDIndicator(closePrice, 3, 6);
+        EMAIndicator signal = new EMAIndicator(macd, 4);
+        Strategy strategy = new Strategy(new OverIndicatorRule(macd, signal),
+                new CrossedDownIndicatorRule(macd, signal));
+        IndicatorPipeline pipeline = new IndicatorPipeline(series).add(strategy);
+        assertTrue(pipeline.getIndicators().contains(signal));
+
+        MockTimeSeries reference = new MockTimeSeries(PRICES);
+        ClosePriceIndicator referenceClosePrice = new ClosePriceIndicator(reference);
+        MACDIndicator referenceMacd = new MACDIndicator(referenceClosePrice, 3, 6);
+        EMAIndicator referenceSignal = new EMAIndicator(referenceMacd, 4);
+        Strategy referenceStrategy = new Strategy(new OverIndicatorRule(referenceMacd, referenceSignal),
+                new CrossedDownIndicatorRule(referenceMacd, referenceSignal));
+
+        for (int i = 0; i < PRICES.length; i++) {
+            addTick(PRICES[i]);
+            assertEquals(referenceStrategy.shouldEnter(i), strategy.shouldEnter(i));
+            assertEquals(referenceStrategy.shouldExit(i), strategy.shouldExit(i));
+            assertEquals(referenceSignal.getValue(i), signal.getValue(i));
+        }
+    }
+
+    @Test
+    public void pipelineOnMovingSeries() {
+        series.setMaximumTickCount(5);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator sma = new SMAIndicator(closePrice, 3);
+        new IndicatorPipeline(series).add(sma);
+
+        for (int i = 0; i < PRICES.length; i++) {
+            addTick(PRICES[i]);
+            if (i >= 2) {
+                double expected = (PRICES[i - 2] + PRICES[i - 1] + PRICES[i]) / 3;
+                assertEquals(expected, sma.getValue(i).toDouble(), 1e-10);
+            }
+        }
+    }
+
+    @Test
+    public void closedPipelineStopsUpdating() {
+        CountingIndicator counting = new CountingIndicator(new ClosePriceIndicator(series));
+        IndicatorPipeline pipeline = new IndicatorPipeline(series).add(counting);
+        addTick(10);
+        addTick(11);
+        assertEquals(2, counting.calculations);
+        pipeline.close();
+        addTick(12);
+        assertEquals(2, counting.calculations);
+    }
+
+    @Test
+    public void modifiedLastTickIsUpdated() {
+        CountingIndicator counting = new CountingIndicator(new ClosePriceIndicator(series));
+        SMAIndicator sma = new SMAIndicator(counting, 2);
+        new IndicatorPipeline(series).add(sma);
+        addTick(10);
+        addTick(11);
+        assertEquals(2, counting.calculations);
+
+        series.addTrade(Decimal.ONE, Decimal.valueOf(13));
+        assertEquals(3, counting.calculations);
+        assertEquals(1, sma.highestResultIndex);
+        assertDecimalEquals(sma.getValue(1), 11.5);
+        assertEquals(3, counting.calculations);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void indicatorOfAnotherSeriesIsRejected() {
+        new IndicatorPipeline(series).add(new ClosePriceIndicator(new MockTimeSeries(1, 2, 3)));
+    }
+
+    private void addTick(double closePrice) {
+        time = time.plusDays(1);
+        series.addTick(new MockTick(time, closePrice));
+    }
+
+    /**
+     * Indicator counting its calculations.
+     */
+    private static class CountingIndicator extends CachedIndicator<Decimal> {
+
+        private static final long serialVersionUID = -1016934201980856570L;
+
+        private final Indicator<Decimal> indicator;
+
+        private int calculations;
+
+        CountingIndicator(Indicator<Decimal> indicator) {
+            super(indicator);
+            this.indicator = indicator;
+        }
+
+        @Override
+        protected Decimal calculate(int index) {
+            calculations++;
+            return indicator.getValue(index);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.EMAIndicator;
+import eu.verdelhan.ta4j.indicators.volume.AccumulationDistributionIndicator;
+import eu.verdelhan.ta4j.indicators.volume.NVIIndicator;
+import eu.verdelhan.ta4j.indicators.volume.OnBalanceVolumeIndicator;
+import eu.verdelhan.ta4j.indicators.volume.PVIIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import static org.junit.Assert.assertEquals;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LinearRecursiveIndicatorTest {
+
+    private TimeSeries series;
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(11);
+        List<Tick> ticks = new ArrayList<Tick>();
+        double price = 100;
+        for (int i = 0; i < 20000; i++) {
+            double open = price;
+            price = Math.max(1, price + random.nextGaussian() * 0.5);
+            double max = Math.max(open, price) + random.nextDouble();
+            double min = Math.min(open, price) - random.nextDouble();
+            ticks.add(new MockTick(open, price, max, min, 1000 + random.nextInt(5000)));
+        }
+        series = new MockTimeSeries(ticks);
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Checks the precomputed values against the sequentially calculated ones.
+     */
+    private void assertPrecomputedValues(LinearRecursiveIndicator precomputed, Indicator<Decimal> sequential) {
+        precomputed.precompute(executor, 4);
+        for (int i = 0; i <= series.getEnd(); i++) {
+            assertEquals(sequential.getValue(i), precomputed.getValue(i));
+        }
+    }
+
+    @Test
+    public void precomputeEma() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        assertPrecomputedValues(new EMAIndicator(closePrice, 20), new EMAIndicator(closePrice, 20));
+        assertPrecomputedValues(new EMAIndicator(closePrice, 1), new EMAIndicator(closePrice, 1));
+    }
+
+    @Test
+    public void precomputeVolumeIndicators() {
+        assertPrecomputedValues(new OnBalanceVolumeIndicator(series), new OnBalanceVolumeIndicator(series));
+        assertPrecomputedValues(new AccumulationDistributionIndicator(series),
+                new AccumulationDistributionIndicator(series));
+        assertPrecomputedValues(new NVIIndicator(series), new NVIIndicator(series));
+        assertPrecomputedValues(new PVIIndicator(series), new PVIIndicator(series));
+    }
+
+    @Test
+    public void precomputeAfterPartialCalculation() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        EMAIndicator ema = new EMAIndicator(closePrice, 10);
+        ema.getValue(7000);
+        assertPrecomputedValues(ema, new EMAIndicator(closePrice, 10));
+    }
+
+    @Test
+    public void precomputeOnSmallSeries() {
+        TimeSeries smallSeries = new MockTimeSeries(1, 2, 3, 2, 1);
+        OnBalanceVolumeIndicator obv = new OnBalanceVolumeIndicator(smallSeries);
+        obv.precompute();
+        assertEquals(4, obv.highestResultIndex);
+    }
+}
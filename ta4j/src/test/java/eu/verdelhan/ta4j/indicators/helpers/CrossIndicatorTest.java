@@ -0,0 +1,159 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.helpers;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.ConstantIndicator;
+import eu.verdelhan.ta4j.indicators.simple.FixedDecimalIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.util.Random;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+public class CrossIndicatorTest {
+
+    private static final double[] VALUES = {
+        10, 10, 11, 10, 10, 10, 9, 9, 10, 10, 12, 10, 10, 8, 8, 11, 10, 9, 10, 10, 10, 10, 10, 11, 10
+    };
+
+    /**
+     * Backward scan of the crossings (as calculated by the first versions of the cross indicator).
+     */
+    private static boolean scanCross(Indicator<Decimal> up, Indicator<Decimal> low, int index) {
+        int i = index;
+        if (i == 0 || up.getValue(i).isGreaterThanOrEqual(low.getValue(i))) {
+            return false;
+        }
+        i--;
+        if (up.getValue(i).isGreaterThan(low.getValue(i))) {
+            return true;
+        }
+        while (i > 0 && up.getValue(i).isEqual(low.getValue(i))) {
+            i--;
+        }
+        return (i != 0) && (up.getValue(i).isGreaterThan(low.getValue(i)));
+    }
+
+    @Test
+    public void crossingsThroughFlatRuns() {
+        Indicator<Decimal> values = new FixedDecimalIndicator(10, 10, 11, 10, 10, 10, 9, 9);
+        CrossIndicator crossDown = new CrossIndicator(values, new ConstantIndicator<Decimal>(Decimal.TEN));
+        assertFalse(crossDown.getValue(0));
+        assertFalse(crossDown.getValue(1));
+        assertFalse(crossDown.getValue(2));
+        assertFalse(crossDown.getValue(3));
+        assertFalse(crossDown.getValue(4));
+        assertFalse(crossDown.getValue(5));
+        assertTrue(crossDown.getValue(6));
+        assertFalse(crossDown.getValue(7));
+    }
+
+    @Test
+    public void constantUpIndicator() {
+        TimeSeries series = new MockTimeSeries(9, 9, 11);
+        Indicator<Decimal> closePrice = new ClosePriceIndicator(series);
+        CrossIndicator crossUp = new CrossIndicator(new ConstantIndicator<Decimal>(Decimal.TEN), closePrice);
+        assertSame(series, crossUp.getTimeSeries());
+        assertTrue(crossUp.getValue(2));
+        // Modification of the series of the lower indicator
+        series.replaceLastTick(new MockTick(series.getLastTick().getEndTime(), 9));
+        assertFalse(crossUp.getValue(2));
+    }
+
+    @Test
+    public void sequentialAndRandomAccessMatchBackwardScan() {
+        Indicator<Decimal> values = new FixedDecimalIndicator(VALUES);
+        Indicator<Decimal> threshold = new ConstantIndicator<Decimal>(Decimal.TEN);
+
+        CrossIndicator sequentialCrossDown = new CrossIndicator(values, threshold);
+        CrossIndicator sequentialCrossUp = new CrossIndicator(threshold, values);
+        for (int i = 0; i < VALUES.length; i++) {
+            assertEquals(scanCross(values, threshold, i), sequentialCrossDown.getValue(i));
+            assertEquals(scanCross(threshold, values, i), sequentialCrossUp.getValue(i));
+        }
+
+        CrossIndicator randomCrossDown = new CrossIndicator(values, threshold);
+        for (int i = 0; i < VALUES.length; i++) {
+            int index = (i * 7) % VALUES.length;
+            assertEquals(scanCross(values, threshold, index), randomCrossDown.getValue(index));
+        }
+    }
+
+    @Test
+    public void crossingsOnMovingSeries() {
+        TimeSeries series = new MockTimeSeries(10, 10, 10);
+        series.setMaximumTickCount(4);
+        Indicator<Decimal> closePrice = new ClosePriceIndicator(series);
+        Indicator<Decimal> threshold = new ConstantIndicator<Decimal>(Decimal.TEN);
+        CrossIndicator crossDown = new CrossIndicator(closePrice, threshold);
+        CrossIndicator crossUp = new CrossIndicator(threshold, closePrice);
+        DateTime endTime = series.getLastTick().getEndTime();
+        for (int i = 0; i < 500; i++) {
+            series.addTick(new MockTick(endTime.plusMinutes(i + 1), VALUES[i % VALUES.length]));
+            int end = series.getEnd();
+            assertEquals(scanCross(closePrice, threshold, end), crossDown.getValue(end));
+            assertEquals(scanCross(threshold, closePrice, end), crossUp.getValue(end));
+        }
+    }
+
+    @Test
+    public void successiveModificationsMatchBackwardScan() {
+        Random random = new Random(11);
+        TimeSeries series = new MockTimeSeries(10, 10, 10);
+        Indicator<Decimal> closePrice = new ClosePriceIndicator(series);
+        Indicator<Decimal> threshold = new ConstantIndicator<Decimal>(Decimal.TEN);
+        CrossIndicator crossDown = new CrossIndicator(closePrice, threshold);
+        CrossIndicator crossUp = new CrossIndicator(threshold, closePrice);
+        DateTime endTime = series.getLastTick().getEndTime();
+        for (int i = 0; i < 2000; i++) {
+            int end = series.getEnd();
+            switch (random.nextInt(4)) {
+                case 0:
+                    endTime = endTime.plusMinutes(1);
+                    series.addTick(new MockTick(endTime, 9 + random.nextInt(3)));
+                    break;
+                case 1:
+                    // Two modifications in a row (the last tick, then the previous one)
+                    series.replaceTick(end, new MockTick(series.getTick(end).getEndTime(), 9 + random.nextInt(3)));
+                    crossDown.getValue(end - 1);
+                    crossUp.getValue(end - 1);
+                    series.replaceTick(end - 1, new MockTick(series.getTick(end - 1).getEndTime(), 9 + random.nextInt(3)));
+                    break;
+                default:
+                    series.replaceLastTick(new MockTick(endTime, 9 + random.nextInt(3)));
+                    break;
+            }
+            int index = series.getEnd() - random.nextInt(3);
+            assertEquals(scanCross(closePrice, threshold, index), crossDown.getValue(index));
+            assertEquals(scanCross(threshold, closePrice, index), crossUp.getValue(index));
+        }
+    }
+}
@@ -56,4 +56,16 @@ public class CumulatedGainsIndicatorTest {
         assertDecimalEquals(gains.getValue(11), 1);
         assertDecimalEquals(gains.getValue(12), 1);
     }
+
+    @Test
+    public void sequentialAndRandomAccessGiveSameResults() {
+        CumulatedGainsIndicator sequentialGains = new CumulatedGainsIndicator(new ClosePriceIndicator(data), 4);
+        CumulatedGainsIndicator randomGains = new CumulatedGainsIndicator(new ClosePriceIndicator(data), 4);
+        for (int i = data.getEnd(); i >= 0; i -= 2) {
+            randomGains.getValue(i);
+        }
+        for (int i = 0; i <= data.getEnd(); i++) {
+            assertDecimalEquals(sequentialGains.getValue(i), randomGains.getValue(i).toDouble());
+        }
+    }
 }
@@ -25,7 +25,9 @@ package eu.verdelhan.ta4j.indicators.helpers;
 import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import org.joda.time.DateTime;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -56,4 +58,16 @@ public class CumulatedLossesIndicatorTest {
         assertDecimalEquals(losses.getValue(11), 3);
         assertDecimalEquals(losses.getValue(12), 3);
     }
+
+    @Test
+    public void cumulatedLossesOnMovingSeries() {
+        TimeSeries series = new MockTimeSeries(10, 8, 10, 8, 10);
+        series.setMaximumTickCount(5);
+        CumulatedLossesIndicator losses = new CumulatedLossesIndicator(new ClosePriceIndicator(series), 2);
+        DateTime endTime = series.getLastTick().getEndTime();
+        for (int i = 1; i < 2000; i++) {
+            series.addTick(new MockTick(endTime.plusMinutes(i), i % 2 == 0 ? 10 : 8));
+            assertDecimalEquals(losses.getValue(series.getEnd()), 2);
+        }
+    }
 }
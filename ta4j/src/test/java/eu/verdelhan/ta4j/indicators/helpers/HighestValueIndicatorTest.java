@@ -23,9 +23,13 @@
 package eu.verdelhan.ta4j.indicators.helpers;
 
 import static eu.verdelhan.ta4j.TATestsUtils.*;
+import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.FixedIndicator;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -64,4 +68,54 @@ public class HighestValueIndicatorTest {
         HighestValueIndicator highestValue = new HighestValueIndicator(new ClosePriceIndicator(data), 500);
         assertDecimalEquals(highestValue.getValue(12), "6");
     }
+
+    @Test
+    public void highestValueIndex() {
+        HighestValueIndicator highestValue = new HighestValueIndicator(new ClosePriceIndicator(data), 5);
+        // (1, 2, 3, 4, 3, 4, 5, 6, 4, 3, 3, 4, 3, 2)
+        assertEquals(5, highestValue.getHighestValueIndex(5));
+        assertEquals(11, highestValue.getHighestValueIndex(12));
+        assertEquals(0, highestValue.getHighestValueIndex(0));
+    }
+
+    @Test
+    public void sequentialAndRandomAccessMatchWindowScan() {
+        Random random = new Random(42);
+        double[] prices = new double[500];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = random.nextInt(20);
+        }
+        TimeSeries series = new MockTimeSeries(prices);
+        HighestValueIndicator sequential = new HighestValueIndicator(new ClosePriceIndicator(series), 10);
+        HighestValueIndicator randomAccess = new HighestValueIndicator(new ClosePriceIndicator(series), 10);
+        for (int i = 0; i < prices.length; i++) {
+            int randomIndex = random.nextInt(prices.length);
+            assertExtremum(prices, 10, i, sequential.getValue(i), sequential.getHighestValueIndex(i));
+            assertExtremum(prices, 10, randomIndex, randomAccess.getValue(randomIndex),
+                    randomAccess.getHighestValueIndex(randomIndex));
+        }
+    }
+
+    @Test
+    public void highestValueWithNaN() {
+        FixedIndicator<Decimal> values = new FixedIndicator<Decimal>(
+                Decimal.valueOf(3), Decimal.NaN, Decimal.valueOf(1), Decimal.valueOf(4), Decimal.valueOf(2));
+        HighestValueIndicator highestValueWithNaN = new HighestValueIndicator(values, 3);
+        assertDecimalEquals(highestValueWithNaN.getValue(1), 3);
+        assertDecimalEquals(highestValueWithNaN.getValue(2), 3);
+        assertEquals(0, highestValueWithNaN.getHighestValueIndex(2));
+        assertDecimalEquals(highestValueWithNaN.getValue(4), 4);
+        assertEquals(3, highestValueWithNaN.getHighestValueIndex(4));
+    }
+
+    private static void assertExtremum(double[] prices, int timeFrame, int index, Decimal value, int extremumIndex) {
+        int expectedIndex = index;
+        for (int i = index - 1; i >= Math.max(0, index - timeFrame + 1); i--) {
+            if (prices[i] >= prices[expectedIndex] && prices[i] != prices[expectedIndex]) {
+                expectedIndex = i;
+            }
+        }
+        assertDecimalEquals(value, prices[expectedIndex]);
+        assertEquals(expectedIndex, extremumIndex);
+    }
 }
@@ -23,9 +23,13 @@
 package eu.verdelhan.ta4j.indicators.helpers;
 
 import static eu.verdelhan.ta4j.TATestsUtils.*;
+import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.FixedIndicator;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -65,4 +69,54 @@ public class LowestValueIndicatorTest {
         LowestValueIndicator lowestValue = new LowestValueIndicator(new ClosePriceIndicator(data), 500);
         assertDecimalEquals(lowestValue.getValue(12), "1");
     }
+
+    @Test
+    public void lowestValueIndex() {
+        LowestValueIndicator lowestValue = new LowestValueIndicator(new ClosePriceIndicator(data), 5);
+        // (1, 2, 3, 4, 3, 4, 5, 6, 4, 3, 2, 4, 3, 1)
+        assertEquals(1, lowestValue.getLowestValueIndex(5));
+        assertEquals(10, lowestValue.getLowestValueIndex(12));
+        assertEquals(0, lowestValue.getLowestValueIndex(0));
+    }
+
+    @Test
+    public void sequentialAndRandomAccessMatchWindowScan() {
+        Random random = new Random(42);
+        double[] prices = new double[500];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = random.nextInt(20);
+        }
+        TimeSeries series = new MockTimeSeries(prices);
+        LowestValueIndicator sequential = new LowestValueIndicator(new ClosePriceIndicator(series), 10);
+        LowestValueIndicator randomAccess = new LowestValueIndicator(new ClosePriceIndicator(series), 10);
+        for (int i = 0; i < prices.length; i++) {
+            int randomIndex = random.nextInt(prices.length);
+            assertExtremum(prices, 10, i, sequential.getValue(i), sequential.getLowestValueIndex(i));
+            assertExtremum(prices, 10, randomIndex, randomAccess.getValue(randomIndex),
+                    randomAccess.getLowestValueIndex(randomIndex));
+        }
+    }
+
+    @Test
+    public void lowestValueWithNaN() {
+        FixedIndicator<Decimal> values = new FixedIndicator<Decimal>(
+                Decimal.valueOf(3), Decimal.NaN, Decimal.valueOf(1), Decimal.valueOf(4), Decimal.valueOf(2));
+        LowestValueIndicator lowestValueWithNaN = new LowestValueIndicator(values, 3);
+        assertDecimalEquals(lowestValueWithNaN.getValue(1), 3);
+        assertDecimalEquals(lowestValueWithNaN.getValue(2), 1);
+        assertEquals(2, lowestValueWithNaN.getLowestValueIndex(2));
+        assertDecimalEquals(lowestValueWithNaN.getValue(4), 1);
+        assertEquals(2, lowestValueWithNaN.getLowestValueIndex(4));
+    }
+
+    private static void assertExtremum(double[] prices, int timeFrame, int index, Decimal value, int extremumIndex) {
+        int expectedIndex = index;
+        for (int i = index - 1; i >= Math.max(0, index - timeFrame + 1); i--) {
+            if (prices[i] <= prices[expectedIndex] && prices[i] != prices[expectedIndex]) {
+                expectedIndex = i;
+            }
+        }
+        assertDecimalEquals(value, prices[expectedIndex]);
+        assertEquals(expectedIndex, extremumIndex);
+    }
 }
@@ -23,9 +23,14 @@
 package eu.verdelhan.ta4j.indicators.helpers;
 
 import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -61,4 +66,28 @@ public class MeanDeviationIndicatorTest {
         assertDecimalEquals(meanDeviation.getValue(2), 0);
         assertDecimalEquals(meanDeviation.getValue(7), 0);
     }
+
+    @Test
+    public void meanDeviationMatchesWindowScan() {
+        Random random = new Random(5);
+        List<Tick> ticks = new ArrayList<Tick>();
+        for (int i = 0; i < 400; i++) {
+            ticks.add(new MockTick(50 + random.nextInt(1000) / 100d));
+        }
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(new MockTimeSeries(ticks));
+        MeanDeviationIndicator meanDeviation = new MeanDeviationIndicator(closePrice, 20);
+        for (int i = 0; i < ticks.size(); i++) {
+            final int startIndex = Math.max(0, i - 19);
+            double average = 0;
+            for (int j = startIndex; j <= i; j++) {
+                average += closePrice.getValue(j).toDouble();
+            }
+            average /= i - startIndex + 1;
+            double absoluteDeviations = 0;
+            for (int j = startIndex; j <= i; j++) {
+                absoluteDeviations += Math.abs(closePrice.getValue(j).toDouble() - average);
+            }
+            assertDecimalEquals(meanDeviation.getValue(i), absoluteDeviations / (i - startIndex + 1));
+        }
+    }
 }
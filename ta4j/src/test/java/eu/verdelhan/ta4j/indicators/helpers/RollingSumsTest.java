@@ -0,0 +1,162 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.helpers;
+
+import eu.verdelhan.ta4j.Decimal;
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import org.joda.time.DateTime;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class RollingSumsTest {
+
+    /**
+     * Sums of the close prices and of their squares.
+     */
+    private static class CloseSums extends RollingSums {
+
+        private static final long serialVersionUID = 6712674561263445906L;
+
+        private final ClosePriceIndicator closePrice;
+
+        int termCalculations;
+
+        CloseSums(TimeSeries series, int timeFrame) {
+            super(series, timeFrame, 2);
+            closePrice = new ClosePriceIndicator(series);
+        }
+
+        @Override
+        protected void getTerms(int index, Decimal[] terms) {
+            termCalculations++;
+            terms[0] = closePrice.getValue(index);
+            terms[1] = terms[0].multipliedBy(terms[0]);
+        }
+    }
+
+    @Test
+    public void sequentialMoves() {
+        CloseSums sums = new CloseSums(new MockTimeSeries(1, 2, 3, 4, 5, 6), 3);
+        sums.moveTo(0);
+        assertDecimalEquals(sums.getSum(0), 1);
+        assertEquals(1, sums.getTickCount());
+        sums.moveTo(1);
+        sums.moveTo(2);
+        assertDecimalEquals(sums.getSum(0), 6);
+        assertDecimalEquals(sums.getSum(1), 14);
+        sums.moveTo(3);
+        sums.moveTo(4);
+        assertDecimalEquals(sums.getSum(0), 12);
+        assertDecimalEquals(sums.getSum(1), 50);
+        assertEquals(3, sums.getTickCount());
+        assertEquals(4, sums.getEndIndex());
+        // 1 term per move, plus 1 dropped term from index 3
+        assertEquals(7, sums.termCalculations);
+    }
+
+    @Test
+    public void randomMoves() {
+        CloseSums sums = new CloseSums(new MockTimeSeries(1, 2, 3, 4, 5, 6), 3);
+        sums.moveTo(5);
+        assertDecimalEquals(sums.getSum(0), 15);
+        sums.moveTo(1);
+        assertDecimalEquals(sums.getSum(0), 3);
+        assertEquals(2, sums.getTickCount());
+        sums.moveTo(2);
+        assertDecimalEquals(sums.getSum(0), 6);
+    }
+
+    @Test
+    public void movesOnMovingSeries() {
+        TimeSeries series = new MockTimeSeries(1, 2, 3, 4);
+        series.setMaximumTickCount(4);
+        CloseSums sums = new CloseSums(series, 3);
+        DateTime endTime = series.getLastTick().getEndTime();
+        for (int i = 5; i < 2000; i++) {
+            series.addTick(new MockTick(endTime.plusMinutes(i), i));
+            sums.moveTo(series.getEnd());
+            assertDecimalEquals(sums.getSum(0), 3 * i - 3);
+        }
+    }
+
+    @Test
+    public void anchoredWindow() {
+        // Window starting on the multiples of 3
+        CloseSums sums = new CloseSums(new MockTimeSeries(1, 2, 3, 4, 5, 6, 7), 100) {
+
+            private static final long serialVersionUID = 6135814029699339832L;
+
+            @Override
+            protected int getStartIndex(int index) {
+                return index - index % 3;
+            }
+        };
+        sums.moveTo(1);
+        assertDecimalEquals(sums.getSum(0), 3);
+        sums.moveTo(2);
+        sums.moveTo(3);
+        assertDecimalEquals(sums.getSum(0), 4);
+        sums.moveTo(4);
+        sums.moveTo(5);
+        assertDecimalEquals(sums.getSum(0), 15);
+        final int termCalculations = sums.termCalculations;
+        sums.moveTo(6);
+        assertDecimalEquals(sums.getSum(0), 7);
+        assertEquals(1, sums.getTickCount());
+        // New window: the terms of the previous one are not subtracted
+        assertEquals(termCalculations + 1, sums.termCalculations);
+
+        sums.invalidateFrom(6);
+        assertEquals(5, sums.getEndIndex());
+        assertDecimalEquals(sums.getSum(0), 15);
+    }
+
+    @Test
+    public void invalidatedLastTick() {
+        TimeSeries series = new MockTimeSeries(1, 2, 3, 4, 5);
+        CloseSums sums = new CloseSums(series, 3);
+        for (int i = 0; i <= 4; i++) {
+            sums.moveTo(i);
+        }
+        series.addTrade(Decimal.ONE, Decimal.valueOf(8));
+        sums.invalidateFrom(4);
+        // Moved back to the previous tick
+        assertEquals(3, sums.getEndIndex());
+        assertDecimalEquals(sums.getSum(0), 9);
+        final int termCalculations = sums.termCalculations;
+        sums.moveTo(4);
+        assertDecimalEquals(sums.getSum(0), 15);
+        assertDecimalEquals(sums.getSum(1), 89);
+        // 1 new term, 1 dropped term
+        assertEquals(termCalculations + 2, sums.termCalculations);
+
+        sums.invalidateFrom(2);
+        assertEquals(-1, sums.getEndIndex());
+        sums.moveTo(4);
+        assertDecimalEquals(sums.getSum(0), 15);
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.helpers;
+
+import eu.verdelhan.ta4j.Decimal;
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.FixedDecimalIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class SlidingOrderStatisticsTest {
+
+    /**
+     * Checks the order statistics against the sorted values of the time frame.
+     */
+    private static void assertWindow(SlidingOrderStatistics statistics, ClosePriceIndicator closePrice,
+            int timeFrame, int index) {
+        final int startIndex = Math.max(0, index - timeFrame + 1);
+        double[] sorted = new double[index - startIndex + 1];
+        double sum = 0;
+        for (int i = startIndex; i <= index; i++) {
+            sorted[i - startIndex] = closePrice.getValue(i).toDouble();
+            sum += sorted[i - startIndex];
+        }
+        Arrays.sort(sorted);
+        assertEquals(sorted.length, statistics.getCount());
+        assertDecimalEquals(statistics.getSum(), sum);
+        for (int k = 0; k < sorted.length; k++) {
+            assertDecimalEquals(statistics.select(k), sorted[k]);
+        }
+        final Decimal pivot = closePrice.getValue(index);
+        int nbLowerValues = 0;
+        double lowerSum = 0;
+        for (double value : sorted) {
+            if (value < pivot.toDouble()) {
+                nbLowerValues++;
+                lowerSum += value;
+            }
+        }
+        assertEquals(nbLowerValues, statistics.countLowerThan(pivot));
+        assertDecimalEquals(statistics.sumLowerThan(pivot), lowerSum);
+    }
+
+    @Test
+    public void sequentialAndRandomMoves() {
+        Random random = new Random(42);
+        List<Tick> ticks = new ArrayList<Tick>();
+        for (int i = 0; i < 300; i++) {
+            // Few distinct values, for ties
+            ticks.add(new MockTick(random.nextInt(20)));
+        }
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(new MockTimeSeries(ticks));
+
+        SlidingOrderStatistics sequentialStatistics = new SlidingOrderStatistics(closePrice, 25);
+        for (int i = 0; i < ticks.size(); i++) {
+            sequentialStatistics.moveTo(i);
+            assertWindow(sequentialStatistics, closePrice, 25, i);
+        }
+
+        SlidingOrderStatistics randomStatistics = new SlidingOrderStatistics(closePrice, 25);
+        for (int i = 0; i < 50; i++) {
+            int index = random.nextInt(ticks.size());
+            randomStatistics.moveTo(index);
+            assertEquals(index, randomStatistics.getEndIndex());
+            assertWindow(randomStatistics, closePrice, 25, index);
+        }
+    }
+
+    @Test
+    public void movingSeries() {
+        TimeSeries series = new MockTimeSeries(5, 3, 8, 1, 9);
+        series.setMaximumTickCount(6);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SlidingOrderStatistics statistics = new SlidingOrderStatistics(closePrice, 4);
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            series.addTick(new MockTick(series.getLastTick().getEndTime().plusMinutes(1), random.nextInt(10)));
+            statistics.moveTo(series.getEnd());
+            assertWindow(statistics, closePrice, 4, series.getEnd());
+        }
+    }
+
+    @Test
+    public void nanValues() {
+        FixedDecimalIndicator indicator = new FixedDecimalIndicator(1, 2, 3, 4, 5);
+        indicator.addValue(Decimal.NaN);
+        indicator.addValue(Decimal.valueOf(7));
+        indicator.addValue(Decimal.valueOf(8));
+        indicator.addValue(Decimal.valueOf(9));
+        SlidingOrderStatistics statistics = new SlidingOrderStatistics(indicator, 3);
+        for (int i = 0; i <= 5; i++) {
+            statistics.moveTo(i);
+        }
+        assertTrue(statistics.hasNaN());
+        assertEquals(2, statistics.getCount());
+        statistics.moveTo(6);
+        statistics.moveTo(7);
+        assertTrue(statistics.hasNaN());
+        statistics.moveTo(8);
+        assertFalse(statistics.hasNaN());
+        assertEquals(3, statistics.getCount());
+        assertDecimalEquals(statistics.select(0), 7);
+        assertDecimalEquals(statistics.getSum(), 24);
+    }
+
+    @Test
+    public void invalidatedLastValue() {
+        TimeSeries series = new MockTimeSeries(5, 3, 8, 1, 9);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SlidingOrderStatistics statistics = new SlidingOrderStatistics(closePrice, 4);
+        for (int i = 0; i <= series.getEnd(); i++) {
+            statistics.moveTo(i);
+        }
+        Random random = new Random(11);
+        for (int i = 0; i < 100; i++) {
+            series.addTick(new MockTick(series.getLastTick().getEndTime().plusMinutes(1), random.nextInt(10)));
+            statistics.moveTo(series.getEnd());
+            for (int trade = 0; trade < 3; trade++) {
+                series.addTrade(Decimal.ONE, Decimal.valueOf(random.nextInt(10)));
+                statistics.invalidateFrom(series.getEnd());
+                // Moved back to the previous tick
+                assertEquals(series.getEnd() - 1, statistics.getEndIndex());
+                assertWindow(statistics, closePrice, 4, series.getEnd() - 1);
+                statistics.moveTo(series.getEnd());
+                assertWindow(statistics, closePrice, 4, series.getEnd());
+            }
+        }
+        statistics.invalidateFrom(series.getEnd() - 2);
+        assertEquals(-1, statistics.getEndIndex());
+        statistics.moveTo(series.getEnd());
+        assertWindow(statistics, closePrice, 4, series.getEnd());
+    }
+}
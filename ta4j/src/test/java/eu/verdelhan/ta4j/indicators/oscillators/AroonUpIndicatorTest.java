@@ -0,0 +1,57 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.oscillators;
+
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AroonUpIndicatorTest {
+
+    private TimeSeries series;
+
+    @Before
+    public void setUp() {
+        series = new MockTimeSeries(1, 3, 5, 4, 3, 2);
+    }
+
+    @Test
+    public void aroonUp() {
+        AroonUpIndicator aroonUp = new AroonUpIndicator(series, 5);
+        assertDecimalEquals(aroonUp.getValue(0), 100);
+        assertDecimalEquals(aroonUp.getValue(2), 100);
+        assertDecimalEquals(aroonUp.getValue(5), 40);
+    }
+
+    @Test
+    public void modifiedLastTick() {
+        AroonUpIndicator aroonUp = new AroonUpIndicator(series, 5);
+        assertDecimalEquals(aroonUp.getValue(5), 40);
+        // New highest close price on the last tick
+        series.replaceLastTick(new MockTick(series.getLastTick().getEndTime(), 6));
+        assertDecimalEquals(aroonUp.getValue(5), 100);
+    }
+}
@@ -55,4 +55,12 @@ public class FixedIndicatorTest {
         Assert.assertFalse(fixedBooleanIndicator.getValue(3));
         Assert.assertTrue(fixedBooleanIndicator.getValue(4));
     }
+
+    @Test
+    public void nullValueOnFixedBooleanIndicator() {
+        fixedBooleanIndicator = new FixedBooleanIndicator(false, false, true, false, true);
+        fixedBooleanIndicator.addValue(null);
+        Assert.assertNull(fixedBooleanIndicator.getValue(5));
+        Assert.assertTrue(fixedBooleanIndicator.getValue(4));
+    }
 }
@@ -0,0 +1,93 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.statistics;
+
+import eu.verdelhan.ta4j.Decimal;
+import eu.verdelhan.ta4j.Indicator;
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.FixedDecimalIndicator;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.Random;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class BetaIndicatorTest {
+
+    @Test
+    public void betaOfLinearlyDependentIndicators() {
+        Indicator<Decimal> benchmark = new FixedDecimalIndicator(1, 3, 2, 5, 4, 6);
+        Indicator<Decimal> indicator = new FixedDecimalIndicator(3, 7, 5, 11, 9, 13);
+        BetaIndicator beta = new BetaIndicator(indicator, benchmark, 3);
+        for (int i = 1; i < 6; i++) {
+            assertDecimalEquals(beta.getValue(i), 2d);
+        }
+        beta = new BetaIndicator(benchmark, indicator, 3);
+        assertDecimalEquals(beta.getValue(4), 0.5);
+    }
+
+    @Test
+    public void betaWithConstantBenchmarkIsNaN() {
+        BetaIndicator beta = new BetaIndicator(new FixedDecimalIndicator(1, 2, 3), new FixedDecimalIndicator(2, 2, 2), 3);
+        assertTrue(beta.getValue(2).isNaN());
+    }
+
+    @Test
+    public void sequentialAndRandomAccessMatchBeta() {
+        Random random = new Random(42);
+        double[] values = new double[500];
+        double[] benchmarkValues = new double[500];
+        for (int i = 0; i < values.length; i++) {
+            benchmarkValues[i] = 100 + random.nextInt(1000) / 10d;
+            values[i] = 2 * benchmarkValues[i] + random.nextInt(1000) / 10d;
+        }
+        Indicator<Decimal> indicator = new ClosePriceIndicator(new MockTimeSeries(values));
+        Indicator<Decimal> benchmark = new ClosePriceIndicator(new MockTimeSeries(benchmarkValues));
+        BetaIndicator sequentialBeta = new BetaIndicator(indicator, benchmark, 20);
+        BetaIndicator randomBeta = new BetaIndicator(indicator, benchmark, 20);
+        for (int i = 1; i < values.length; i++) {
+            assertDecimalEquals(sequentialBeta.getValue(i), beta(values, benchmarkValues, 20, i));
+            int randomIndex = 1 + random.nextInt(values.length - 1);
+            assertDecimalEquals(randomBeta.getValue(randomIndex), beta(values, benchmarkValues, 20, randomIndex));
+        }
+    }
+
+    private static double beta(double[] values, double[] benchmarkValues, int timeFrame, int index) {
+        int startIndex = Math.max(0, index - timeFrame + 1);
+        double mean = 0;
+        double benchmarkMean = 0;
+        for (int i = startIndex; i <= index; i++) {
+            mean += values[i];
+            benchmarkMean += benchmarkValues[i];
+        }
+        mean /= index - startIndex + 1;
+        benchmarkMean /= index - startIndex + 1;
+        double covariance = 0;
+        double benchmarkVariance = 0;
+        for (int i = startIndex; i <= index; i++) {
+            covariance += (values[i] - mean) * (benchmarkValues[i] - benchmarkMean);
+            benchmarkVariance += (benchmarkValues[i] - benchmarkMean) * (benchmarkValues[i] - benchmarkMean);
+        }
+        return covariance / benchmarkVariance;
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.statistics;
+
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import org.apache.commons.math3.stat.regression.SimpleRegression;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class LinearRegressionRSquaredIndicatorTest {
+
+    @Test
+    public void rSquared() {
+        double[] values = { 1, 2, 1.3, 3.75, 2.25 };
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(new MockTimeSeries(values));
+        LinearRegressionRSquaredIndicator rSquared = new LinearRegressionRSquaredIndicator(
+                new SimpleLinearRegressionIndicator(closePrice, 5));
+        assertTrue(rSquared.getValue(0).isNaN());
+        SimpleRegression origReg = new SimpleRegression();
+        for (int i = 0; i < values.length; i++) {
+            origReg.addData(i, values[i]);
+        }
+        assertDecimalEquals(rSquared.getValue(4), origReg.getRSquare());
+    }
+
+    @Test
+    public void rSquaredOfEqualValues() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(new MockTimeSeries(5, 5, 5, 5));
+        SimpleLinearRegressionIndicator reg = new SimpleLinearRegressionIndicator(closePrice, 4);
+        assertDecimalEquals(new LinearRegressionRSquaredIndicator(reg).getValue(3), 1);
+        assertDecimalEquals(new LinearRegressionSlopeIndicator(reg).getValue(3), 0);
+    }
+}
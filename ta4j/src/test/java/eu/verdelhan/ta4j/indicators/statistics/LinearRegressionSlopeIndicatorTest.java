@@ -0,0 +1,78 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.statistics;
+
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import org.apache.commons.math3.stat.regression.SimpleRegression;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LinearRegressionSlopeIndicatorTest {
+
+    private TimeSeries series;
+
+    @Before
+    public void setUp() {
+        series = new MockTimeSeries(10, 20, 30, 40, 30, 40, 30, 20, 30, 50);
+    }
+
+    @Test
+    public void slope() {
+        SimpleLinearRegressionIndicator reg = new SimpleLinearRegressionIndicator(new ClosePriceIndicator(series), 4);
+        LinearRegressionSlopeIndicator slope = new LinearRegressionSlopeIndicator(reg);
+        assertTrue(slope.getValue(0).isNaN());
+        assertDecimalEquals(slope.getValue(1), 10);
+        assertDecimalEquals(slope.getValue(3), 10);
+        assertDecimalEquals(slope.getValue(9), buildSimpleRegression(30, 20, 30, 50).getSlope());
+    }
+
+    @Test
+    public void modifiedLastTick() {
+        SimpleLinearRegressionIndicator reg = new SimpleLinearRegressionIndicator(new ClosePriceIndicator(series), 4);
+        LinearRegressionSlopeIndicator slope = new LinearRegressionSlopeIndicator(reg);
+        for (int i = 0; i <= series.getEnd(); i++) {
+            reg.getValue(i);
+            slope.getValue(i);
+        }
+        series.replaceLastTick(new MockTick(series.getLastTick().getEndTime(), 10));
+        assertDecimalEquals(slope.getValue(9), buildSimpleRegression(30, 20, 30, 10).getSlope());
+        assertDecimalEquals(reg.getValue(9), buildSimpleRegression(30, 20, 30, 10).predict(3));
+    }
+
+    /**
+     * @param values values
+     * @return a simple linear regression based on provided values
+     */
+    private static SimpleRegression buildSimpleRegression(double... values) {
+        SimpleRegression simpleReg = new SimpleRegression();
+        for (int i = 0; i < values.length; i++) {
+            simpleReg.addData(i, values[i]);
+        }
+        return simpleReg;
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.statistics;
+
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PercentRankIndicatorTest {
+
+    private TimeSeries data;
+
+    @Before
+    public void setUp() {
+        data = new MockTimeSeries(5, 1, 4, 2, 3, 10, 7, 7, 6);
+    }
+
+    @Test
+    public void percentRankUsingTimeFrame4() {
+        PercentRankIndicator percentRank = new PercentRankIndicator(new ClosePriceIndicator(data), 4);
+        assertDecimalEquals(percentRank.getValue(0), 0);
+        assertDecimalEquals(percentRank.getValue(1), 0);
+        assertDecimalEquals(percentRank.getValue(2), 33.3333);
+        assertDecimalEquals(percentRank.getValue(3), 25);
+        assertDecimalEquals(percentRank.getValue(4), 50);
+        assertDecimalEquals(percentRank.getValue(5), 75);
+        assertDecimalEquals(percentRank.getValue(6), 50);
+        assertDecimalEquals(percentRank.getValue(7), 25);
+        assertDecimalEquals(percentRank.getValue(8), 0);
+    }
+}
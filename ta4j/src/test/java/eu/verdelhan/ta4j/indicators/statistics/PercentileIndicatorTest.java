@@ -0,0 +1,92 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2016 Marc de Verdelhan & respective authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.statistics;
+
+import eu.verdelhan.ta4j.Decimal;
+import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.apache.commons.math3.stat.descriptive.rank.Percentile;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PercentileIndicatorTest {
+
+    private TimeSeries data;
+
+    @Before
+    public void setUp() {
+        data = new MockTimeSeries(5, 1, 4, 2, 3, 10, 7, 6);
+    }
+
+    @Test
+    public void percentilesUsingTimeFrame4() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(data);
+        PercentileIndicator p25 = new PercentileIndicator(closePrice, 4, Decimal.valueOf(25));
+        PercentileIndicator p100 = new PercentileIndicator(closePrice, 4, Decimal.HUNDRED);
+        PercentileIndicator p0 = new PercentileIndicator(closePrice, 4, Decimal.ZERO);
+
+        assertDecimalEquals(p25.getValue(0), 5);
+        // 1, 5
+        assertDecimalEquals(p25.getValue(1), 2);
+        // 1, 2, 4, 5
+        assertDecimalEquals(p25.getValue(3), 1.75);
+        // 2, 3, 7, 10
+        assertDecimalEquals(p25.getValue(6), 2.75);
+        assertDecimalEquals(p100.getValue(6), 10);
+        assertDecimalEquals(p0.getValue(6), 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void percentileOutOfRange() {
+        new PercentileIndicator(new ClosePriceIndicator(data), 4, Decimal.valueOf(101));
+    }
+
+    @Test
+    public void percentilesMatchCommonsMath() {
+        Random random = new Random(13);
+        List<Tick> ticks = new ArrayList<Tick>();
+        for (int i = 0; i < 500; i++) {
+            ticks.add(new MockTick(100 + random.nextGaussian() * 10));
+        }
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(new MockTimeSeries(ticks));
+        final int timeFrame = 50;
+        Percentile percentile = new Percentile().withEstimationType(Percentile.EstimationType.R_7);
+        for (double p : new double[] { 1, 10, 33.3, 50, 90 }) {
+            PercentileIndicator indicator = new PercentileIndicator(closePrice, timeFrame, Decimal.valueOf(p));
+            for (int i = timeFrame - 1; i < ticks.size(); i++) {
+                double[] values = new double[timeFrame];
+                for (int j = 0; j < timeFrame; j++) {
+                    values[j] = closePrice.getValue(i - timeFrame + 1 + j).toDouble();
+                }
+                assertDecimalEquals(indicator.getValue(i), percentile.evaluate(values, p));
+            }
+        }
+    }
+}
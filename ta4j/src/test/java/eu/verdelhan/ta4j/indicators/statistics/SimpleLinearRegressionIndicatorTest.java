@@ -27,6 +27,7 @@ import eu.verdelhan.ta4j.Indicator;
 import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.Random;
 import org.apache.commons.math3.stat.regression.SimpleRegression;
 import static org.junit.Assert.assertTrue;
 import org.junit.Before;
@@ -100,6 +101,51 @@ public class SimpleLinearRegressionIndicatorTest {
         assertDecimalEquals(reg.getValue(4), origReg.predict(4));
     }
     
+    @Test
+    public void slopeInterceptAndRSquared() {
+        SimpleLinearRegressionIndicator reg = new SimpleLinearRegressionIndicator(closePrice, 4);
+        LinearRegressionSlopeIndicator slope = new LinearRegressionSlopeIndicator(reg);
+        LinearRegressionInterceptIndicator intercept = new LinearRegressionInterceptIndicator(reg);
+        LinearRegressionRSquaredIndicator rSquared = new LinearRegressionRSquaredIndicator(reg);
+        assertTrue(slope.getValue(0).isNaN());
+        assertTrue(rSquared.getValue(0).isNaN());
+
+        SimpleRegression origReg = buildSimpleRegression(30, 20, 30, 50);
+        // (x starting at 6 instead of 0)
+        assertDecimalEquals(reg.getValue(9), origReg.predict(3));
+        assertDecimalEquals(slope.getValue(9), origReg.getSlope());
+        assertDecimalEquals(intercept.getValue(9), origReg.getIntercept() - 6 * origReg.getSlope());
+        assertDecimalEquals(rSquared.getValue(9), origReg.getRSquare());
+    }
+
+    @Test
+    public void sequentialAndRandomAccessMatchRegression() {
+        Random random = new Random(42);
+        double[] values = new double[900];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 100 + random.nextInt(10000) / 100d;
+        }
+        ClosePriceIndicator indicator = new ClosePriceIndicator(new MockTimeSeries(values));
+        SimpleLinearRegressionIndicator sequentialReg = new SimpleLinearRegressionIndicator(indicator, 50);
+        SimpleLinearRegressionIndicator randomReg = new SimpleLinearRegressionIndicator(indicator, 50);
+        for (int i = 1; i < values.length; i++) {
+            assertRegression(values, 50, i, sequentialReg);
+            assertRegression(values, 50, 1 + random.nextInt(values.length - 1), randomReg);
+        }
+    }
+
+    private static void assertRegression(double[] values, int timeFrame, int index,
+            SimpleLinearRegressionIndicator reg) {
+        SimpleRegression origReg = new SimpleRegression();
+        for (int i = Math.max(0, index - timeFrame + 1); i <= index; i++) {
+            origReg.addData(i, values[i]);
+        }
+        assertDecimalEquals(reg.getValue(index), origReg.predict(index));
+        assertDecimalEquals(reg.getSlope(index), origReg.getSlope());
+        assertDecimalEquals(reg.getIntercept(index), origReg.getIntercept());
+        assertDecimalEquals(reg.getRSquared(index), origReg.getRSquare());
+    }
+
     /**
      * @param values values
      * @return a simple linear regression based on provided values
@@ -23,9 +23,15 @@
 package eu.verdelhan.ta4j.indicators.statistics;
 
 import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -78,4 +84,38 @@ public class VarianceIndicatorTest {
         assertDecimalEquals(var.getValue(9), 2.25);
         assertDecimalEquals(var.getValue(10), 20.25);
     }
+
+    @Test
+    public void rollingVarianceMatchesTwoPassVariance() {
+        for (boolean primitiveDecimals : new boolean[] { false, true }) {
+            Random random = new Random(42);
+            List<Tick> ticks = new ArrayList<Tick>();
+            double price = 50000;
+            for (int i = 0; i < 3000; i++) {
+                price += (random.nextDouble() - 0.5) * 500;
+                ticks.add(new MockTick(price));
+            }
+            TimeSeries series = new MockTimeSeries(ticks);
+            if (primitiveDecimals) {
+                series.usePrimitiveDecimals();
+            }
+            ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+            VarianceIndicator var = new VarianceIndicator(closePrice, 50);
+            for (int i = 0; i < ticks.size(); i++) {
+                int startIndex = Math.max(0, i - 49);
+                double mean = 0;
+                for (int j = startIndex; j <= i; j++) {
+                    mean += closePrice.getValue(j).toDouble();
+                }
+                mean /= i - startIndex + 1;
+                double expectedVariance = 0;
+                for (int j = startIndex; j <= i; j++) {
+                    double deviation = closePrice.getValue(j).toDouble() - mean;
+                    expectedVariance += deviation * deviation;
+                }
+                expectedVariance /= i - startIndex + 1;
+                assertEquals(expectedVariance, var.getValue(i).toDouble(), expectedVariance * 1e-10);
+            }
+        }
+    }
 }
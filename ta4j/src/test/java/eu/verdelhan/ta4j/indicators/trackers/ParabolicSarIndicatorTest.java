@@ -24,10 +24,13 @@ package eu.verdelhan.ta4j.indicators.trackers;
 
 import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
 import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import org.joda.time.DateTime;
 import org.junit.Test;
 
 public class ParabolicSarIndicatorTest {
@@ -105,4 +108,38 @@ public class ParabolicSarIndicatorTest {
         assertDecimalEquals(sar.getValue(4), 0.08 * (11 - value) + value);
         assertDecimalEquals(sar.getValue(5), 11);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void modifiedLastTickAfterSkippedReads() {
+        Random random = new Random(3);
+        TimeSeries liveSeries = new TimeSeries();
+        ParabolicSarIndicator liveSar = new ParabolicSarIndicator(liveSeries, 3);
+        DateTime time = new DateTime(2016, 1, 1, 0, 0);
+        double price = 100;
+        for (int i = 0; i < 150; i++) {
+            // Several ticks added before a read
+            int nbTicks = 1 + random.nextInt(3);
+            for (int t = 0; t < nbTicks; t++) {
+                time = time.plusDays(1);
+                price = Math.max(1, price + 2 * random.nextGaussian());
+                liveSeries.addTick(newTick(time, price, random));
+            }
+            liveSar.getValue(liveSeries.getEnd());
+            price = Math.max(1, price + 2 * random.nextGaussian());
+            liveSeries.replaceLastTick(newTick(time, price, random));
+
+            List<Tick> ticks = new ArrayList<Tick>();
+            for (int t = 0; t <= liveSeries.getEnd(); t++) {
+                ticks.add(liveSeries.getTick(t));
+            }
+            ParabolicSarIndicator sar = new ParabolicSarIndicator(new MockTimeSeries(ticks), 3);
+            for (int t = 0; t <= liveSeries.getEnd(); t++) {
+                assertDecimalEquals(liveSar.getValue(t), sar.getValue(t).toDouble());
+            }
+        }
+    }
+
+    private static Tick newTick(DateTime time, double price, Random random) {
+        return new Tick(time, price, price + random.nextDouble(), price - random.nextDouble(), price, 1);
+    }
+}
@@ -23,9 +23,15 @@
 package eu.verdelhan.ta4j.indicators.trackers;
 
 import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.joda.time.DateTime;
 import static org.junit.Assert.*;
 import org.junit.Before;
 import org.junit.Test;
@@ -65,4 +71,52 @@ public class SMAIndicatorTest {
             assertEquals(data.getTick(i).getClosePrice(), quoteSMA.getValue(i));
         }
     }
+
+    @Test
+    public void SMAOnPrimitiveDecimals() {
+        data.usePrimitiveDecimals();
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(data), 3);
+
+        assertTrue(sma.getValue(4).isPrimitive());
+        assertDecimalEquals(sma.getValue(0), 1);
+        assertDecimalEquals(sma.getValue(1), 1.5);
+        assertDecimalEquals(sma.getValue(4), 10d/3);
+        assertDecimalEquals(sma.getValue(7), 13d/3);
+        assertDecimalEquals(sma.getValue(12), 3);
+    }
+
+    @Test
+    public void sequentialAndRandomAccessGiveSameResults() {
+        Random random = new Random(42);
+        List<Tick> ticks = new ArrayList<Tick>();
+        for (int i = 0; i < 3000; i++) {
+            ticks.add(new MockTick(100 + random.nextInt(10000) / 100d));
+        }
+        TimeSeries series = new MockTimeSeries(ticks);
+        SMAIndicator sequentialSma = new SMAIndicator(new ClosePriceIndicator(series), 20);
+        SMAIndicator randomSma = new SMAIndicator(new ClosePriceIndicator(series), 20);
+        for (int i = 0; i < ticks.size(); i++) {
+            int randomIndex = random.nextInt(ticks.size());
+            assertDecimalEquals(sequentialSma.getValue(randomIndex), randomSma.getValue(randomIndex).toDouble());
+        }
+        for (int i = 0; i < ticks.size(); i++) {
+            assertDecimalEquals(sequentialSma.getValue(i), randomSma.getValue(i).toDouble());
+        }
+        sequentialSma = new SMAIndicator(new ClosePriceIndicator(series), 20);
+        for (int i = 0; i < ticks.size(); i++) {
+            assertDecimalEquals(sequentialSma.getValue(i), randomSma.getValue(i).toDouble());
+        }
+    }
+
+    @Test
+    public void SMAOnMovingSeries() {
+        TimeSeries series = new MockTimeSeries(1, 2, 3, 4, 5);
+        series.setMaximumTickCount(5);
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(series), 3);
+        DateTime endTime = series.getLastTick().getEndTime();
+        for (int i = 6; i < 2000; i++) {
+            series.addTick(new MockTick(endTime.plusMinutes(i), i));
+            assertDecimalEquals(sma.getValue(series.getEnd()), i - 1);
+        }
+    }
 }
@@ -26,6 +26,7 @@ import eu.verdelhan.ta4j.Decimal;
 import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
 import org.junit.Before;
 import org.junit.Test;
@@ -79,4 +80,17 @@ public class TrailingStopLossIndicatorTest {
         assertDecimalEquals(tsl.getValue(13), 26);
     }
     
+    @Test
+    public void replacedHistoricalTick() {
+        ClosePriceIndicator price = new ClosePriceIndicator(data);
+        TrailingStopLossIndicator tsl = new TrailingStopLossIndicator(price, Decimal.valueOf(4));
+        assertDecimalEquals(tsl.getValue(9), 21);
+
+        data.replaceTick(2, new MockTick(data.getTick(2).getEndTime(), 30));
+        assertDecimalEquals(tsl.getValue(9), 26);
+        assertDecimalEquals(tsl.getValue(2), 26);
+        assertDecimalEquals(tsl.getValue(1), 15);
+        assertDecimalEquals(tsl.getValue(12), 26);
+        assertDecimalEquals(tsl.getValue(19), 26);
+    }
 }
@@ -25,9 +25,14 @@ package eu.verdelhan.ta4j.indicators.trackers;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Decimal;
 import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
+import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import org.junit.Test;
 
 public class WMAIndicatorTest {
@@ -88,4 +93,34 @@ public class WMAIndicatorTest {
         assertDecimalEquals(wma.getValue(19), 78.1504);
         assertDecimalEquals(wma.getValue(20), 77.6133);
     }
+
+    @Test
+    public void sequentialAndRandomAccessMatchWeightedSum() {
+        Random random = new Random(42);
+        List<Tick> ticks = new ArrayList<Tick>();
+        for (int i = 0; i < 3000; i++) {
+            ticks.add(new MockTick(100 + random.nextInt(10000) / 100d));
+        }
+        TimeSeries series = new MockTimeSeries(ticks);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        WMAIndicator sequentialWma = new WMAIndicator(closePrice, 20);
+        WMAIndicator randomWma = new WMAIndicator(closePrice, 20);
+        for (int i = 0; i < ticks.size(); i++) {
+            assertDecimalEquals(sequentialWma.getValue(i), weightedAverage(closePrice, 20, i));
+            int randomIndex = random.nextInt(ticks.size());
+            assertDecimalEquals(randomWma.getValue(randomIndex), weightedAverage(closePrice, 20, randomIndex));
+        }
+    }
+
+    private static double weightedAverage(Indicator<Decimal> indicator, int timeFrame, int index) {
+        double weightedSum = 0;
+        int weights = 0;
+        int weight = 1;
+        for (int i = Math.max(0, index - timeFrame + 1); i <= index; i++) {
+            weightedSum += weight * indicator.getValue(i).toDouble();
+            weights += weight;
+            weight++;
+        }
+        return weightedSum / weights;
+    }
 }
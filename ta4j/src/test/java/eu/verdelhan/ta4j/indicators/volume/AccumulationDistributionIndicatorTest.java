@@ -39,10 +39,10 @@ public class AccumulationDistributionIndicatorTest {
         DateTime now = DateTime.now();
         List<Tick> ticks = new ArrayList<Tick>();
         ticks.add(new MockTick(now, 0d, 10d, 12d, 8d, 0d, 200d, 0));//2-2 * 200 / 4
-        ticks.add(new MockTick(now, 0d, 8d, 10d, 7d, 0d, 100d, 0));//1-2 *100 / 3
-        ticks.add(new MockTick(now, 0d, 9d, 15d, 6d, 0d, 300d, 0));//3-6 *300 /9
-        ticks.add(new MockTick(now, 0d, 20d, 40d, 5d, 0d, 50d, 0));//15-20 *50 / 35
-        ticks.add(new MockTick(now, 0d, 30d, 30d, 3d, 0d, 600d, 0));//27-0 *600 /27
+        ticks.add(new MockTick(now.plusSeconds(1), 0d, 8d, 10d, 7d, 0d, 100d, 0));//1-2 *100 / 3
+        ticks.add(new MockTick(now.plusSeconds(2), 0d, 9d, 15d, 6d, 0d, 300d, 0));//3-6 *300 /9
+        ticks.add(new MockTick(now.plusSeconds(3), 0d, 20d, 40d, 5d, 0d, 50d, 0));//15-20 *50 / 35
+        ticks.add(new MockTick(now.plusSeconds(4), 0d, 30d, 30d, 3d, 0d, 600d, 0));//27-0 *600 /27
         
         TimeSeries series = new MockTimeSeries(ticks);
         AccumulationDistributionIndicator ac = new AccumulationDistributionIndicator(series);
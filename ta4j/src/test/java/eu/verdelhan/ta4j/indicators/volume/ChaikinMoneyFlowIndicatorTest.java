@@ -38,36 +38,36 @@ public class ChaikinMoneyFlowIndicatorTest {
         DateTime now = DateTime.now();
         List<Tick> ticks = new ArrayList<Tick>();
         ticks.add(new Tick(now, "0", "62.34", "61.37", "62.15", "7849.025"));
-        ticks.add(new Tick(now, "0", "62.05", "60.69", "60.81", "11692.075"));
-        ticks.add(new Tick(now, "0", "62.27", "60.10", "60.45", "10575.307"));
-        ticks.add(new Tick(now, "0", "60.79", "58.61", "59.18", "13059.128"));
-        ticks.add(new Tick(now, "0", "59.93", "58.71", "59.24", "20733.508"));
-        ticks.add(new Tick(now, "0", "61.75", "59.86", "60.20", "29630.096"));
-        ticks.add(new Tick(now, "0", "60.00", "57.97", "58.48", "17705.294"));
-        ticks.add(new Tick(now, "0", "59.00", "58.02", "58.24", "7259.203"));
-        ticks.add(new Tick(now, "0", "59.07", "57.48", "58.69", "10474.629"));
-        ticks.add(new Tick(now, "0", "59.22", "58.30", "58.65", "5203.714"));
-        ticks.add(new Tick(now, "0", "58.75", "57.83", "58.47", "3422.865"));
-        ticks.add(new Tick(now, "0", "58.65", "57.86", "58.02", "3962.150"));
-        ticks.add(new Tick(now, "0", "58.47", "57.91", "58.17", "4095.905"));
-        ticks.add(new Tick(now, "0", "58.25", "57.83", "58.07", "3766.006"));
-        ticks.add(new Tick(now, "0", "58.35", "57.53", "58.13", "4239.335"));
-        ticks.add(new Tick(now, "0", "59.86", "58.58", "58.94", "8039.979"));
-        ticks.add(new Tick(now, "0", "59.53", "58.30", "59.10", "6956.717"));
-        ticks.add(new Tick(now, "0", "62.10", "58.53", "61.92", "18171.552"));
-        ticks.add(new Tick(now, "0", "62.16", "59.80", "61.37", "22225.894"));
+        ticks.add(new Tick(now.plusSeconds(1), "0", "62.05", "60.69", "60.81", "11692.075"));
+        ticks.add(new Tick(now.plusSeconds(2), "0", "62.27", "60.10", "60.45", "10575.307"));
+        ticks.add(new Tick(now.plusSeconds(3), "0", "60.79", "58.61", "59.18", "13059.128"));
+        ticks.add(new Tick(now.plusSeconds(4), "0", "59.93", "58.71", "59.24", "20733.508"));
+        ticks.add(new Tick(now.plusSeconds(5), "0", "61.75", "59.86", "60.20", "29630.096"));
+        ticks.add(new Tick(now.plusSeconds(6), "0", "60.00", "57.97", "58.48", "17705.294"));
+        ticks.add(new Tick(now.plusSeconds(7), "0", "59.00", "58.02", "58.24", "7259.203"));
+        ticks.add(new Tick(now.plusSeconds(8), "0", "59.07", "57.48", "58.69", "10474.629"));
+        ticks.add(new Tick(now.plusSeconds(9), "0", "59.22", "58.30", "58.65", "5203.714"));
+        ticks.add(new Tick(now.plusSeconds(10), "0", "58.75", "57.83", "58.47", "3422.865"));
+        ticks.add(new Tick(now.plusSeconds(11), "0", "58.65", "57.86", "58.02", "3962.150"));
+        ticks.add(new Tick(now.plusSeconds(12), "0", "58.47", "57.91", "58.17", "4095.905"));
+        ticks.add(new Tick(now.plusSeconds(13), "0", "58.25", "57.83", "58.07", "3766.006"));
+        ticks.add(new Tick(now.plusSeconds(14), "0", "58.35", "57.53", "58.13", "4239.335"));
+        ticks.add(new Tick(now.plusSeconds(15), "0", "59.86", "58.58", "58.94", "8039.979"));
+        ticks.add(new Tick(now.plusSeconds(16), "0", "59.53", "58.30", "59.10", "6956.717"));
+        ticks.add(new Tick(now.plusSeconds(17), "0", "62.10", "58.53", "61.92", "18171.552"));
+        ticks.add(new Tick(now.plusSeconds(18), "0", "62.16", "59.80", "61.37", "22225.894"));
         
-        ticks.add(new Tick(now, "0", "62.67", "60.93", "61.68", "14613.509"));
-        ticks.add(new Tick(now, "0", "62.38", "60.15", "62.09", "12319.763"));
-        ticks.add(new Tick(now, "0", "63.73", "62.26", "62.89", "15007.690"));
-        ticks.add(new Tick(now, "0", "63.85", "63.00", "63.53", "8879.667"));
-        ticks.add(new Tick(now, "0", "66.15", "63.58", "64.01", "22693.812"));
-        ticks.add(new Tick(now, "0", "65.34", "64.07", "64.77", "10191.814"));
-        ticks.add(new Tick(now, "0", "66.48", "65.20", "65.22", "10074.152"));
-        ticks.add(new Tick(now, "0", "65.23", "63.21", "63.28", "9411.620"));
-        ticks.add(new Tick(now, "0", "63.40", "61.88", "62.40", "10391.690"));
-        ticks.add(new Tick(now, "0", "63.18", "61.11", "61.55", "8926.512"));
-        ticks.add(new Tick(now, "0", "62.70", "61.25", "62.69", "7459.575"));
+        ticks.add(new Tick(now.plusSeconds(19), "0", "62.67", "60.93", "61.68", "14613.509"));
+        ticks.add(new Tick(now.plusSeconds(20), "0", "62.38", "60.15", "62.09", "12319.763"));
+        ticks.add(new Tick(now.plusSeconds(21), "0", "63.73", "62.26", "62.89", "15007.690"));
+        ticks.add(new Tick(now.plusSeconds(22), "0", "63.85", "63.00", "63.53", "8879.667"));
+        ticks.add(new Tick(now.plusSeconds(23), "0", "66.15", "63.58", "64.01", "22693.812"));
+        ticks.add(new Tick(now.plusSeconds(24), "0", "65.34", "64.07", "64.77", "10191.814"));
+        ticks.add(new Tick(now.plusSeconds(25), "0", "66.48", "65.20", "65.22", "10074.152"));
+        ticks.add(new Tick(now.plusSeconds(26), "0", "65.23", "63.21", "63.28", "9411.620"));
+        ticks.add(new Tick(now.plusSeconds(27), "0", "63.40", "61.88", "62.40", "10391.690"));
+        ticks.add(new Tick(now.plusSeconds(28), "0", "63.18", "61.11", "61.55", "8926.512"));
+        ticks.add(new Tick(now.plusSeconds(29), "0", "62.70", "61.25", "62.69", "7459.575"));
         TimeSeries series = new TimeSeries(ticks);
         
         ChaikinMoneyFlowIndicator cmf = new ChaikinMoneyFlowIndicator(series, 20);
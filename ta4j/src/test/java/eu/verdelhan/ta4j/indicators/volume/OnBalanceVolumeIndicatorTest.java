@@ -38,11 +38,11 @@ public class OnBalanceVolumeIndicatorTest {
         DateTime now = DateTime.now();
         List<Tick> ticks = new ArrayList<Tick>();
         ticks.add(new MockTick(now, 0, 10, 0, 0, 0, 4, 0));
-        ticks.add(new MockTick(now, 0, 5, 0, 0, 0, 2, 0));
-        ticks.add(new MockTick(now, 0, 6, 0, 0, 0, 3, 0));
-        ticks.add(new MockTick(now, 0, 7, 0, 0, 0, 8, 0));
-        ticks.add(new MockTick(now, 0, 7, 0, 0, 0, 6, 0));
-        ticks.add(new MockTick(now, 0, 6, 0, 0, 0, 10, 0));
+        ticks.add(new MockTick(now.plusSeconds(1), 0, 5, 0, 0, 0, 2, 0));
+        ticks.add(new MockTick(now.plusSeconds(2), 0, 6, 0, 0, 0, 3, 0));
+        ticks.add(new MockTick(now.plusSeconds(3), 0, 7, 0, 0, 0, 8, 0));
+        ticks.add(new MockTick(now.plusSeconds(4), 0, 7, 0, 0, 0, 6, 0));
+        ticks.add(new MockTick(now.plusSeconds(5), 0, 6, 0, 0, 0, 10, 0));
 
         OnBalanceVolumeIndicator obv = new OnBalanceVolumeIndicator(new MockTimeSeries(ticks));
         assertDecimalEquals(obv.getValue(0), 0);
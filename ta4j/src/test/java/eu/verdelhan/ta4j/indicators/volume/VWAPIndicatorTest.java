@@ -27,9 +27,14 @@ import static eu.verdelhan.ta4j.TATestsUtils.assertDecimalEquals;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalTime;
+import org.joda.time.Period;
 import org.junit.Before;
 import org.junit.Test;
 
+import eu.verdelhan.ta4j.Decimal;
 import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.mocks.MockTick;
@@ -86,4 +91,57 @@ public class VWAPIndicatorTest {
         assertDecimalEquals(vwap.getValue(17), 44.0840);
         assertDecimalEquals(vwap.getValue(18), 43.8247);
     }
+
+    @Test
+    public void anchoredVwap() {
+        // Hourly ticks, sessions starting at 10:00
+        DateTime day = new DateTime(2016, 3, 1, 0, 0);
+        List<Tick> ticks = new ArrayList<Tick>();
+        ticks.add(hourlyTick(day.withHourOfDay(9), 10, 1));
+        ticks.add(hourlyTick(day.withHourOfDay(10), 20, 1));
+        ticks.add(hourlyTick(day.withHourOfDay(11), 30, 2));
+        ticks.add(hourlyTick(day.withHourOfDay(12), 40, 2));
+        ticks.add(hourlyTick(day.plusDays(1).withHourOfDay(9), 50, 1));
+        ticks.add(hourlyTick(day.plusDays(1).withHourOfDay(10), 60, 3));
+        ticks.add(hourlyTick(day.plusDays(1).withHourOfDay(11), 70, 1));
+        TimeSeries series = new MockTimeSeries(ticks);
+
+        VWAPIndicator vwap = new VWAPIndicator(series, new LocalTime(10, 0));
+        assertDecimalEquals(vwap.getValue(0), 10);
+        assertDecimalEquals(vwap.getValue(1), 15);
+        assertDecimalEquals(vwap.getValue(2), 30);
+        assertDecimalEquals(vwap.getValue(3), 35);
+        assertDecimalEquals(vwap.getValue(4), 38);
+        assertDecimalEquals(vwap.getValue(5), 46.25);
+        assertDecimalEquals(vwap.getValue(6), 70);
+
+        vwap = new VWAPIndicator(series, new LocalTime(10, 0));
+        assertDecimalEquals(vwap.getValue(5), 46.25);
+        assertDecimalEquals(vwap.getValue(3), 35);
+    }
+
+    @Test
+    public void anchoredVwapWithSessionStartInDaylightSavingTimeGap() {
+        // Sessions starting at 02:30, skipped on March 27, 2016 in Paris (02:00 -> 03:00)
+        DateTimeZone paris = DateTimeZone.forID("Europe/Paris");
+        List<Tick> ticks = new ArrayList<Tick>();
+        ticks.add(hourlyTick(new DateTime(2016, 3, 26, 23, 0, paris), 30, 1));
+        ticks.add(hourlyTick(new DateTime(2016, 3, 27, 1, 0, paris), 10, 1));
+        ticks.add(hourlyTick(new DateTime(2016, 3, 27, 4, 0, paris), 20, 1));
+        ticks.add(hourlyTick(new DateTime(2016, 3, 27, 5, 0, paris), 40, 3));
+        TimeSeries series = new MockTimeSeries(ticks);
+
+        VWAPIndicator vwap = new VWAPIndicator(series, new LocalTime(2, 30));
+        assertDecimalEquals(vwap.getValue(0), 30);
+        assertDecimalEquals(vwap.getValue(1), 20);
+        // The session of March 27 starts at 03:00
+        assertDecimalEquals(vwap.getValue(2), 20);
+        assertDecimalEquals(vwap.getValue(3), 35);
+    }
+
+    private static Tick hourlyTick(DateTime endTime, double price, double volume) {
+        Decimal decimalPrice = Decimal.valueOf(price);
+        return new Tick(Period.hours(1), endTime, decimalPrice, decimalPrice, decimalPrice, decimalPrice,
+                Decimal.valueOf(volume));
+    }
 }
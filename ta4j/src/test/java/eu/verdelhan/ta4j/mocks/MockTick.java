@@ -22,6 +22,7 @@
  */
 package eu.verdelhan.ta4j.mocks;
 
+import java.util.concurrent.atomic.AtomicLong;
 import org.joda.time.DateTime;
 
 import eu.verdelhan.ta4j.Decimal;
@@ -37,16 +38,19 @@ public class MockTick extends Tick {
      */
     private static final long serialVersionUID = 355251676053930350L;
 
+    /** End time of the next tick built without end time (strictly increasing, as required by time series) */
+    private static final AtomicLong nextEndTime = new AtomicLong(System.currentTimeMillis());
+
     private Decimal amount = Decimal.ZERO;
 
     private int trades = 0;
 
     public MockTick(double closePrice) {
-        this(new DateTime(), closePrice);
+        this(nextEndTime(), closePrice);
     }
 
     public MockTick(double closePrice, double volume) {
-        super(new DateTime(), 0, 0, 0, closePrice, volume);
+        super(nextEndTime(), 0, 0, 0, closePrice, volume);
     }
     
     public MockTick(DateTime endTime, double closePrice) {
@@ -54,11 +58,11 @@ public class MockTick extends Tick {
     }
 
     public MockTick(double openPrice, double closePrice, double maxPrice, double minPrice) {
-        super(new DateTime(), openPrice, maxPrice, minPrice, closePrice, 1);
+        super(nextEndTime(), openPrice, maxPrice, minPrice, closePrice, 1);
     }
     
     public MockTick(double openPrice, double closePrice, double maxPrice, double minPrice, double volume) {
-        super(new DateTime(), openPrice, maxPrice, minPrice, closePrice, volume);
+        super(nextEndTime(), openPrice, maxPrice, minPrice, closePrice, volume);
     }
 
     public MockTick(DateTime endTime, double openPrice, double closePrice, double maxPrice, double minPrice, double amount, double volume, int trades) {
@@ -76,4 +80,8 @@ public class MockTick extends Tick {
     public int getTrades() {
         return trades;
     }
+
+    private static DateTime nextEndTime() {
+        return new DateTime(nextEndTime.getAndIncrement());
+    }
 }
@@ -61,7 +61,7 @@ public class MockTimeSeries extends TimeSeries {
     private static List<Tick> doublesToTicks(double... data) {
         ArrayList<Tick> ticks = new ArrayList<Tick>();
         for (int i = 0; i < data.length; i++) {
-            ticks.add(new MockTick(new DateTime().withMillisOfSecond(i), data[i]));
+            ticks.add(new MockTick(data[i]));
         }
         return ticks;
     }
@@ -89,7 +89,7 @@ public class MockTimeSeries extends TimeSeries {
     private static List<Tick> arbitraryTicks() {
         ArrayList<Tick> ticks = new ArrayList<Tick>();
         for (double i = 0d; i < 10; i++) {
-            ticks.add(new MockTick(new DateTime(0), i, i + 1, i + 2, i + 3, i + 4, i + 5, (int) (i + 6)));
+            ticks.add(new MockTick(new DateTime((long) i), i, i + 1, i + 2, i + 3, i + 4, i + 5, (int) (i + 6)));
         }
         return ticks;
     }